@@ -3,61 +3,95 @@ package com.turkcell.order_service.controller;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.turkcell.order_service.messaging.outbox.OutboxMessage;
-import com.turkcell.order_service.messaging.outbox.OutboxRepository;
+import com.turkcell.order_service.order.Order;
+import com.turkcell.order_service.order.OrderAdmission;
+import com.turkcell.order_service.order.OrderGroupCommitter;
+import com.turkcell.order_service.order.OrderIntakeThrottledException;
+import com.turkcell.order_service.order.OrderService;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
-import org.springframework.cloud.stream.function.StreamBridge;
-import org.springframework.messaging.Message;
-import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.ResponseStatus;
 
 @RestController
 @RequestMapping("/api/v1/orders")
 public class OrdersController {
-    private final OutboxRepository outboxRepository;
-    private final ObjectMapper objectMapper;
+    private final OrderAdmission orderAdmission;
+    private final OrderGroupCommitter orderGroupCommitter;
+    private final OrderService orderService;
+    private final int maxBatchSize;
 
-    public OrdersController(OutboxRepository outboxRepository, ObjectMapper objectMapper) {
-        this.outboxRepository = outboxRepository;
-        this.objectMapper = objectMapper;
+    public OrdersController(OrderAdmission orderAdmission, OrderGroupCommitter orderGroupCommitter,
+            OrderService orderService, @Value("${orders.batch.max-size:1000}") int maxBatchSize) {
+        this.orderAdmission = orderAdmission;
+        this.orderGroupCommitter = orderGroupCommitter;
+        this.orderService = orderService;
+        this.maxBatchSize = maxBatchSize;
     }
 
     @PostMapping()
-    public String createOrder(@RequestBody CreateOrderDto dto) throws JsonProcessingException {
-        /// .........
-        OrderCreatedEvent event = new OrderCreatedEvent(dto.productId());
-
-        OutboxMessage outboxMessage = new OutboxMessage();
-        outboxMessage.setAggregateId(UUID.randomUUID()); // normalde db'de oluşan order'ın idsi
-        outboxMessage.setAggregateType("Order");
-        outboxMessage.setEventId(UUID.randomUUID());
-        outboxMessage.setEventType("OrderCreatedEvent");
-        outboxMessage.setPayloadJson(objectMapper.writeValueAsString(event));
-        outboxRepository.save(outboxMessage);
-
-        // Message<OrderCreatedEvent> message =
-        // MessageBuilder.withPayload(event).build();
-        /*
-         * try {
-         * boolean isSent = streamBridge.send("orderCreated-out-0", message);
-         * if (!isSent)
-         * System.out.println("Mesaj gönderilemedi");
-         * } catch (Exception e) {
-         * System.out.println("Mesaj gönderilemedi");
-         * }
-         */
-
-        return dto.productId();
+    public String createOrder(@RequestBody CreateOrderDto dto) throws InterruptedException {
+        orderAdmission.admit(1);
+        // Returns once the group commit holding the order is done
+        Order order = orderGroupCommitter.submit(dto.productId(), dto.quantity() == null ? 1 : dto.quantity());
+        return order.getId().toString();
     }
 
-    record CreateOrderDto(String productId) {
+    /**
+     * Stores a burst of orders and their outbox rows in one transaction, all or
+     * none, and returns the order ids in request order
+     */
+    @PostMapping("/batch")
+    public List<String> createOrders(@RequestBody List<CreateOrderDto> dtos) {
+        if (dtos == null || dtos.isEmpty() || dtos.size() > maxBatchSize) {
+            throw new IllegalArgumentException("A batch must hold between 1 and " + maxBatchSize + " orders");
+        }
+        orderAdmission.admit(dtos.size());
+        List<Order> orders = new ArrayList<>(dtos.size());
+        for (int i = 0; i < dtos.size(); i++) {
+            CreateOrderDto dto = dtos.get(i);
+            if (dto == null) {
+                throw new IllegalArgumentException("Order " + i + ": missing");
+            }
+            try {
+                orders.add(new Order(dto.productId(), dto.quantity() == null ? 1 : dto.quantity()));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Order " + i + ": " + e.getMessage(), e);
+            }
+        }
+
+        List<String> orderIds = new ArrayList<>(orders.size());
+        for (Order order : orderService.createOrders(orders)) {
+            orderIds.add(order.getId().toString());
+        }
+        return orderIds;
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public String invalidOrder(IllegalArgumentException e) {
+        return e.getMessage();
+    }
+
+    /**
+     * 429 while the outbox backlog is over its watermark
+     */
+    @ExceptionHandler(OrderIntakeThrottledException.class)
+    public ResponseEntity<String> throttled(OrderIntakeThrottledException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(e.getMessage());
     }
 
-    public record OrderCreatedEvent(String productId) {
+    record CreateOrderDto(UUID productId, Integer quantity) {
     }
 }
\ No newline at end of file
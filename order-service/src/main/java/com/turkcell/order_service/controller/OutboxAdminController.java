@@ -0,0 +1,41 @@
+package com.turkcell.order_service.controller;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.turkcell.order_service.messaging.outbox.OutboxAppendedEvent;
+import com.turkcell.order_service.messaging.outbox.OutboxRepository;
+
+@RestController
+@RequestMapping("/api/v1/admin/outbox")
+public class OutboxAdminController {
+    private static final int MAX_REPLAY = 10_000;
+
+    private final OutboxRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public OutboxAdminController(OutboxRepository outboxRepository, ApplicationEventPublisher eventPublisher) {
+        this.outboxRepository = outboxRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * FAILED event'leri tekrar kuyruğa alır (en eski önce, en fazla limit kadar);
+     * consumer'lar eventId ile tekrarları ayıkladığı için güvenle çağrılabilir
+     */
+    @PostMapping("/replay")
+    public ReplayResult replayFailed(@RequestParam(required = false) String eventType,
+            @RequestParam(defaultValue = "1000") int limit) {
+        int replayed = outboxRepository.replayFailed(eventType, Math.max(1, Math.min(limit, MAX_REPLAY)));
+        if (replayed > 0) {
+            eventPublisher.publishEvent(new OutboxAppendedEvent()); // relayer'ı hemen uyandırır
+        }
+        return new ReplayResult(replayed);
+    }
+
+    public record ReplayResult(int replayed) {
+    }
+}
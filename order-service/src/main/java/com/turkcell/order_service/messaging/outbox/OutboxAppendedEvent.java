@@ -0,0 +1,8 @@
+package com.turkcell.order_service.messaging.outbox;
+
+/**
+ * Published after outbox rows are written; delivered to listeners once the
+ * writing transaction commits, so the relayer is woken only for rows it can see
+ */
+public record OutboxAppendedEvent() {
+}
@@ -0,0 +1,16 @@
+package com.turkcell.order_service.messaging.outbox;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Size of the pending backlog, how many of its rows wait out a retry backoff,
+ * and the creation time of its oldest row that can be claimed now, null when
+ * none can
+ */
+public interface OutboxBacklog {
+    long getSize();
+
+    long getBackingOff();
+
+    OffsetDateTime getOldestClaimableCreatedAt();
+}
@@ -0,0 +1,51 @@
+package com.turkcell.order_service.messaging.outbox;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Hands out bounded batches of pending outbox rows to this relayer instance
+ * A claim locks the rows with SKIP LOCKED and stamps them with a lease in one
+ * short transaction, so several order-service instances split the backlog
+ * without publishing the same row twice and no lock is held while publishing.
+ * Rows of an instance that dies become claimable again when the lease ends
+ */
+@Component
+public class OutboxClaimer {
+    private final OutboxRepository outboxRepository;
+    private final String instanceId;
+    private final Duration lease;
+
+    public OutboxClaimer(OutboxRepository outboxRepository,
+            @Value("${outbox.relayer.instance-id:${random.uuid}}") String instanceId,
+            @Value("${outbox.relayer.lease-seconds:60}") long leaseSeconds) {
+        this.outboxRepository = outboxRepository;
+        this.instanceId = instanceId;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+    }
+
+    /**
+     * Claims up to limit rows of one lane out of lanes
+     */
+    @Transactional
+    public List<OutboxMessage> claim(int limit, int lane, int lanes) {
+        OffsetDateTime now = OffsetDateTime.now();
+        List<OutboxMessage> claimed = outboxRepository.lockClaimable(now, lane, lanes, limit);
+        if (claimed.isEmpty()) {
+            return claimed;
+        }
+
+        OffsetDateTime leaseUntil = now.plus(lease);
+        outboxRepository.claim(claimed.stream().map(OutboxMessage::getId).toList(), instanceId, leaseUntil);
+        for (OutboxMessage message : claimed) {
+            message.setClaimedBy(instanceId);
+            message.setLeaseUntil(leaseUntil);
+        }
+        return claimed;
+    }
+}
@@ -5,12 +5,18 @@ import jakarta.persistence.*;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
+import org.springframework.data.domain.Persistable;
+
 @Entity
 @Table(name = "outbox", indexes = {
         @Index(name = "ix_outbox_event_id", columnList = "eventId", unique = true),
-        @Index(name = "ix_outbox_status_created", columnList = "status, createdAt")
+        @Index(name = "ix_outbox_status_created", columnList = "status, createdAt"),
+        @Index(name = "ix_outbox_status_processed", columnList = "status, processedAt"),
+        @Index(name = "ix_outbox_aggregate_created", columnList = "aggregateId, createdAt")
 })
-public class OutboxMessage {
+public class OutboxMessage implements Persistable<UUID> {
+    public static final String DEFAULT_CONTENT_TYPE = "application/json";
+
     @Id
     @Column(nullable = false, columnDefinition = "uuid")
     private UUID id = UUID.randomUUID();
@@ -24,6 +30,9 @@ public class OutboxMessage {
 
     private String eventType; // OrderCreatedEvent
     private String payloadJson;
+    @Column(columnDefinition = "bytea")
+    private byte[] payload; // binary formatlarda payloadJson yerine dolar
+    private String contentType = DEFAULT_CONTENT_TYPE; // payload'ın formatı, Kafka'ya header olarak gider
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private OutboxStatus status = OutboxStatus.PENDING;
@@ -32,6 +41,14 @@ public class OutboxMessage {
     private OffsetDateTime createdAt = OffsetDateTime.now();
     private OffsetDateTime processedAt;
 
+    private String claimedBy; // satırı yayınlamak üzere alan relayer instance'ı
+    private OffsetDateTime leaseUntil; // bu zamana kadar başka instance satırı alamaz
+    private OffsetDateTime nextAttemptAt; // başarısız gönderim bu zamandan önce tekrar denenmez
+
+    @Transient
+    private boolean isNew = true; // id atanmış olsa da save() merge yerine persist yapsın, önce SELECT atılmasın
+
+    @Override
     public UUID getId() {
         return id;
     }
@@ -80,6 +97,22 @@ public class OutboxMessage {
         this.payloadJson = payloadJson;
     }
 
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    public void setPayload(byte[] payload) {
+        this.payload = payload;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
     public OutboxStatus getStatus() {
         return status;
     }
@@ -111,4 +144,39 @@ public class OutboxMessage {
     public void setProcessedAt(OffsetDateTime processedAt) {
         this.processedAt = processedAt;
     }
-}
\ No newline at end of file
+
+    public String getClaimedBy() {
+        return claimedBy;
+    }
+
+    public void setClaimedBy(String claimedBy) {
+        this.claimedBy = claimedBy;
+    }
+
+    public OffsetDateTime getLeaseUntil() {
+        return leaseUntil;
+    }
+
+    public void setLeaseUntil(OffsetDateTime leaseUntil) {
+        this.leaseUntil = leaseUntil;
+    }
+
+    public OffsetDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(OffsetDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.isNew = false;
+    }
+}
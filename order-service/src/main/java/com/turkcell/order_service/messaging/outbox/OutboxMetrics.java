@@ -0,0 +1,179 @@
+package com.turkcell.order_service.messaging.outbox;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Meters of the outbox pipeline, exposed on /actuator/prometheus
+ * The relayer falls behind when outbox.backlog and outbox.backlog.oldest.age
+ * keep growing while outbox.events.appended outpaces outbox.events.sent;
+ * outbox.publish.lag shows how long events wait from insert to broker ack.
+ * The age only covers rows the relayer may claim now; rows waiting out a
+ * retry backoff are counted in outbox.backlog.backoff instead, so a broker
+ * outage being retried does not read as a relayer falling behind
+ * The backlog gauges are refreshed on a schedule, so a scrape never queries
+ * the database
+ * Between refreshes pendingEstimate() adds the events this instance appended,
+ * sent or failed since the last count, so order admission can read a current
+ * backlog on every request without a query. Events of other instances and
+ * rolled-back appends only show up at the next refresh
+ */
+@Component
+public class OutboxMetrics {
+    private final OutboxRepository outboxRepository;
+    private final MeterRegistry registry;
+    private final AtomicLong backlogSize = new AtomicLong();
+    private final AtomicLong backingOff = new AtomicLong();
+    private final AtomicLong oldestPendingMillis = new AtomicLong();
+    private final AtomicLong changeSinceRefresh = new AtomicLong();
+    private final Timer batchDuration;
+    private final DistributionSummary batchEvents;
+    private final Map<String, EventMeters> eventMeters = new ConcurrentHashMap<>();
+
+    public OutboxMetrics(OutboxRepository outboxRepository, MeterRegistry registry) {
+        this.outboxRepository = outboxRepository;
+        this.registry = registry;
+        Gauge.builder("outbox.backlog", backlogSize, AtomicLong::get)
+                .description("Pending outbox rows")
+                .baseUnit("events")
+                .register(registry);
+        Gauge.builder("outbox.backlog.backoff", backingOff, AtomicLong::get)
+                .description("Pending outbox rows waiting out a retry backoff")
+                .baseUnit("events")
+                .register(registry);
+        Gauge.builder("outbox.backlog.oldest.age", oldestPendingMillis, OutboxMetrics::ageSeconds)
+                .description("Age of the oldest pending outbox row that can be claimed now")
+                .baseUnit("seconds")
+                .register(registry);
+        this.batchDuration = Timer.builder("outbox.batch.duration")
+                .description("Time to claim, publish and record one relayer batch")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.batchEvents = DistributionSummary.builder("outbox.batch.events")
+                .description("Events claimed per relayer batch")
+                .baseUnit("events")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.metrics.backlog-refresh-ms:5000}")
+    public void refreshBacklog() {
+        OutboxBacklog backlog = outboxRepository.backlogOf(OutboxStatus.PENDING, OffsetDateTime.now());
+        changeSinceRefresh.set(0);
+        backlogSize.set(backlog.getSize());
+        backingOff.set(backlog.getBackingOff());
+        OffsetDateTime oldest = backlog.getOldestClaimableCreatedAt();
+        oldestPendingMillis.set(oldest == null ? 0 : oldest.toInstant().toEpochMilli());
+    }
+
+    /**
+     * Pending events as of the last count, corrected by what this instance did
+     * since
+     */
+    public long pendingEstimate() {
+        return Math.max(0, backlogSize.get() + changeSinceRefresh.get());
+    }
+
+    /**
+     * Age of the oldest pending event the relayer could claim as of the last
+     * count, growing until the next one; zero once the estimate says the
+     * backlog is drained or when every pending event is waiting out a backoff
+     */
+    public double oldestPendingAgeSeconds() {
+        return pendingEstimate() == 0 ? 0 : ageSeconds(oldestPendingMillis);
+    }
+
+    /**
+     * Counts an event written to the outbox
+     */
+    public void appended(String eventType) {
+        meters(eventType).appended.increment();
+        changeSinceRefresh.incrementAndGet();
+    }
+
+    /**
+     * Records a relayer batch that claimed at least one event
+     */
+    public void batch(int events, long durationNanos) {
+        batchEvents.record(events);
+        batchDuration.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Counts an event acknowledged by the broker and records its lag from
+     * creation
+     */
+    public void sent(OutboxMessage event, OffsetDateTime sentAt) {
+        EventMeters meters = meters(event.getEventType());
+        meters.sent.increment();
+        changeSinceRefresh.decrementAndGet();
+        if (event.getCreatedAt() != null) {
+            meters.publishLag.record(Duration.between(event.getCreatedAt(), sentAt));
+        }
+    }
+
+    /**
+     * Counts a failed send that will be retried after its backoff
+     */
+    public void retried(String eventType) {
+        meters(eventType).retried.increment();
+    }
+
+    /**
+     * Counts an event that ran out of retries or failed permanently and was
+     * dead-lettered
+     */
+    public void failed(String eventType) {
+        meters(eventType).failed.increment();
+        changeSinceRefresh.decrementAndGet();
+    }
+
+    private EventMeters meters(String eventType) {
+        return eventMeters.computeIfAbsent(eventType == null ? "unknown" : eventType,
+                type -> new EventMeters(registry, type));
+    }
+
+    private static double ageSeconds(AtomicLong oldestMillis) {
+        long oldest = oldestMillis.get();
+        return oldest == 0 ? 0 : Math.max(0, System.currentTimeMillis() - oldest) / 1000.0;
+    }
+
+    private static final class EventMeters {
+        private final Counter appended;
+        private final Counter sent;
+        private final Counter retried;
+        private final Counter failed;
+        private final Timer publishLag;
+
+        EventMeters(MeterRegistry registry, String eventType) {
+            this.appended = counter(registry, "outbox.events.appended", eventType);
+            this.sent = counter(registry, "outbox.events.sent", eventType);
+            this.retried = counter(registry, "outbox.events.retried", eventType);
+            this.failed = counter(registry, "outbox.events.failed", eventType);
+            this.publishLag = Timer.builder("outbox.publish.lag")
+                    .description("Time from outbox insert to broker acknowledgement")
+                    .tag("eventType", eventType)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofHours(1))
+                    .register(registry);
+        }
+
+        private static Counter counter(MeterRegistry registry, String name, String eventType) {
+            return Counter.builder(name).tag("eventType", eventType).register(registry);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.turkcell.order_service.messaging.outbox;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Installs the trigger that NOTIFYs outbox_appended when a transaction inserts
+ * into the outbox, which the OutboxNotificationListener waits on
+ * Runs once the JPA schema update has created the outbox table, next to it:
+ * the function and a statement-level trigger are created only when pg_trigger
+ * does not list the trigger yet, under an advisory lock so instances starting
+ * together do not race, so later starts run no DDL. CREATE TRIGGER ...
+ * EXECUTE FUNCTION needs PostgreSQL 11 or later
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.relayer.listen.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxNotifyTrigger {
+
+    public static final String CHANNEL = "outbox_appended";
+
+    private static final long INSTALL_LOCK = 0x6f7574626f78L;
+    private static final String INSTALL = """
+            DO $$
+            BEGIN
+                PERFORM pg_advisory_xact_lock(%d);
+                IF NOT EXISTS (SELECT 1 FROM pg_trigger
+                        WHERE tgname = '%s' AND tgrelid = 'outbox'::regclass) THEN
+                    CREATE OR REPLACE FUNCTION outbox_notify() RETURNS trigger AS $notify$
+                    BEGIN
+                        PERFORM pg_notify('%s', '');
+                        RETURN NULL;
+                    END;
+                    $notify$ LANGUAGE plpgsql;
+                    CREATE TRIGGER %s AFTER INSERT ON outbox
+                        FOR EACH STATEMENT EXECUTE FUNCTION outbox_notify();
+                END IF;
+            END $$""".formatted(INSTALL_LOCK, CHANNEL, CHANNEL, CHANNEL);
+
+    // The EntityManagerFactory is only taken so the schema update runs first
+    public OutboxNotifyTrigger(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(INSTALL);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot install the outbox notify trigger", e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.turkcell.order_service.messaging.outbox;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes SENT outbox rows once they are older than the retention
+ * Rows go in small batches, each its own short transaction that skips rows
+ * locked elsewhere, so the purge never blocks claims or inserts for long and
+ * the table and its indexes stay the size of the live backlog plus the
+ * retention window. FAILED rows are kept for replay
+ */
+@Component
+public class OutboxPurger {
+    private final OutboxRepository outboxRepository;
+    private final Duration retention;
+    private final int batchSize;
+
+    public OutboxPurger(OutboxRepository outboxRepository,
+            @Value("${outbox.retention.sent-hours:24}") long retentionHours,
+            @Value("${outbox.retention.batch-size:5000}") int batchSize) {
+        this.outboxRepository = outboxRepository;
+        this.retention = Duration.ofHours(retentionHours);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.retention.purge-interval-ms:60000}")
+    public void purgeSentEvents() {
+        OffsetDateTime cutoff = OffsetDateTime.now().minus(retention);
+        int deleted;
+        do {
+            deleted = outboxRepository.deleteSentBefore(cutoff, batchSize);
+        } while (deleted == batchSize);
+    }
+}
@@ -1,10 +1,93 @@
 package com.turkcell.order_service.messaging.outbox;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface OutboxRepository extends JpaRepository<OutboxMessage, UUID> {
-    List<OutboxMessage> findByStatusOrderByCreatedAtAsc(OutboxStatus status);
-}
\ No newline at end of file
+
+    /**
+     * Locks the oldest claimable pending rows of one lane, skipping rows locked
+     * by another relayer's claim so concurrent claims never overlap
+     * A row is claimable when its lease has expired, its retry backoff has
+     * passed and no older event of its aggregate is still pending, so the
+     * events of an aggregate go out strictly one after the other across lanes
+     * and instances. Aggregates are spread over lanes by the hash of their id
+     */
+    @Query(value = """
+            SELECT o.* FROM outbox o
+            WHERE o.status = 'PENDING' AND (o.lease_until IS NULL OR o.lease_until < :now)
+              AND (o.next_attempt_at IS NULL OR o.next_attempt_at <= :now)
+              AND abs(mod(hashtext(CAST(o.aggregate_id AS text)), :lanes)) = :lane
+              AND NOT EXISTS (
+                  SELECT 1 FROM outbox e
+                  WHERE e.aggregate_id = o.aggregate_id AND e.status = 'PENDING' AND e.created_at < o.created_at)
+            ORDER BY o.created_at
+            LIMIT :limit
+            FOR UPDATE OF o SKIP LOCKED""", nativeQuery = true)
+    List<OutboxMessage> lockClaimable(@Param("now") OffsetDateTime now, @Param("lane") int lane,
+            @Param("lanes") int lanes, @Param("limit") int limit);
+
+    /**
+     * Counts the rows of a status and those of them still waiting out a retry
+     * backoff, along with the oldest creation time among the rows claimable at
+     * now, as lockClaimable sees them
+     */
+    @Query("""
+            select count(m) as size,
+                coalesce(sum(case when m.nextAttemptAt > :now then 1 else 0 end), 0) as backingOff,
+                min(case when m.nextAttemptAt is null or m.nextAttemptAt <= :now then m.createdAt end)
+                    as oldestClaimableCreatedAt
+            from OutboxMessage m where m.status = :status""")
+    OutboxBacklog backlogOf(@Param("status") OutboxStatus status, @Param("now") OffsetDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update OutboxMessage m set m.claimedBy = :owner, m.leaseUntil = :leaseUntil where m.id in :ids")
+    int claim(@Param("ids") Collection<UUID> ids, @Param("owner") String owner,
+            @Param("leaseUntil") OffsetDateTime leaseUntil);
+
+    @Transactional
+    @Modifying
+    @Query("update OutboxMessage m set m.status = :status, m.processedAt = :processedAt where m.id in :ids")
+    int updateStatus(@Param("ids") Collection<UUID> ids, @Param("status") OutboxStatus status,
+            @Param("processedAt") OffsetDateTime processedAt);
+
+    /**
+     * Deletes up to limit SENT rows processed before the cutoff, oldest first,
+     * skipping rows another transaction holds
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM outbox WHERE id IN (
+                SELECT id FROM outbox
+                WHERE status = 'SENT' AND processed_at < :cutoff
+                ORDER BY processed_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED)""", nativeQuery = true)
+    int deleteSentBefore(@Param("cutoff") OffsetDateTime cutoff, @Param("limit") int limit);
+
+    /**
+     * Puts up to limit FAILED rows, optionally of one event type, back in the
+     * queue with a fresh retry budget
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE outbox
+            SET status = 'PENDING', retry_count = 0, next_attempt_at = NULL, lease_until = NULL
+            WHERE id IN (
+                SELECT id FROM outbox
+                WHERE status = 'FAILED' AND (CAST(:eventType AS text) IS NULL OR event_type = :eventType)
+                ORDER BY created_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED)""", nativeQuery = true)
+    int replayFailed(@Param("eventType") String eventType, @Param("limit") int limit);
+}
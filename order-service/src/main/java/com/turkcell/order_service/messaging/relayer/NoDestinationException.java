@@ -0,0 +1,11 @@
+package com.turkcell.order_service.messaging.relayer;
+
+/**
+ * Thrown when an outbox event type has no configured destination
+ */
+class NoDestinationException extends RuntimeException {
+
+    NoDestinationException(String eventType) {
+        super("No destination for event type " + eventType);
+    }
+}
@@ -0,0 +1,32 @@
+package com.turkcell.order_service.messaging.relayer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registry of the Kafka destination of every outbox event type, read from
+ * outbox.relayer.destinations
+ * A new event type is published by adding its destination to the
+ * configuration; the relayer itself never looks inside the payload
+ */
+@Component
+@ConfigurationProperties(prefix = "outbox.relayer")
+public class OutboxDestinations {
+    private Map<String, String> destinations = new HashMap<>();
+
+    public Optional<String> destinationOf(String eventType) {
+        return Optional.ofNullable(eventType).map(destinations::get);
+    }
+
+    public Map<String, String> getDestinations() {
+        return destinations;
+    }
+
+    public void setDestinations(Map<String, String> destinations) {
+        this.destinations = destinations;
+    }
+}
@@ -0,0 +1,115 @@
+package com.turkcell.order_service.messaging.relayer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the outbox relayer on its own thread as soon as new rows are signalled
+ * Orders written by this instance wake it after their commit, and rows written
+ * by other instances wake it through Postgres notifications. A slow fallback
+ * poll picks up anything a missed notification left behind
+ * Each wakeup drains all lanes in parallel, one thread per lane; a lane holds
+ * a fixed share of the aggregates, so the claim, send and update round trips
+ * of different aggregates overlap while each aggregate is handled by a single
+ * lane in order
+ * In virtual-thread mode each lane drain runs on a fresh virtual thread, so
+ * lanes blocked on JDBC or broker acknowledgements hold no platform thread;
+ * the dispatcher loop itself stays a single platform thread
+ */
+@Component
+public class OutboxDispatcher implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private final OutboxEventRelayer relayer;
+    private final OutboxWakeup wakeup;
+    private final long fallbackPollMillis;
+    private final int lanes;
+    private final boolean virtualThreads;
+    private volatile Thread thread;
+    private ExecutorService laneExecutor;
+
+    public OutboxDispatcher(OutboxEventRelayer relayer, OutboxWakeup wakeup,
+            @Value("${outbox.relayer.fallback-poll-ms:30000}") long fallbackPollMillis,
+            @Value("${outbox.relayer.lanes:4}") int lanes,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (lanes < 1) {
+            throw new IllegalArgumentException("Outbox relayer needs at least one lane");
+        }
+        this.relayer = relayer;
+        this.wakeup = wakeup;
+        this.fallbackPollMillis = fallbackPollMillis;
+        this.lanes = lanes;
+        this.virtualThreads = virtualThreads;
+    }
+
+    @Override
+    public void start() {
+        laneExecutor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("outbox-lane-", 0).factory())
+                : Executors.newFixedThreadPool(lanes, Thread.ofPlatform().name("outbox-lane-", 0).daemon().factory());
+        // Assigned before the thread runs, which loops while it is set
+        thread = Thread.ofPlatform().name("outbox-dispatcher").daemon().unstarted(this::run);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        Thread running = thread;
+        thread = null;
+        if (running != null) {
+            running.interrupt();
+        }
+        if (laneExecutor != null) {
+            laneExecutor.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return thread != null;
+    }
+
+    private void run() {
+        // Drain once at startup for rows left over from before the restart
+        wakeup.signal();
+        while (thread != null) {
+            try {
+                wakeup.await(fallbackPollMillis);
+                drainLanes();
+            } catch (InterruptedException | RejectedExecutionException e) {
+                // Stopping
+                return;
+            }
+        }
+    }
+
+    private void drainLanes() throws InterruptedException {
+        List<Callable<Void>> drains = new ArrayList<>(lanes);
+        for (int lane = 0; lane < lanes; lane++) {
+            int current = lane;
+            drains.add(() -> {
+                relayer.publishPendingEvents(current, lanes);
+                return null;
+            });
+        }
+        for (Future<Void> drain : laneExecutor.invokeAll(drains)) {
+            try {
+                drain.get();
+            } catch (ExecutionException e) {
+                logger.warn("Outbox dispatch failed, retrying on the next signal or poll", e.getCause());
+            }
+        }
+    }
+}
@@ -1,68 +1,209 @@
 package com.turkcell.order_service.messaging.relayer;
 
-import java.time.Instant;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
-import org.springframework.cloud.stream.function.StreamBridge;
-import org.springframework.messaging.Message;
-import org.springframework.messaging.support.MessageBuilder;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.turkcell.order_service.controller.OrdersController.OrderCreatedEvent;
+import com.turkcell.order_service.messaging.outbox.OutboxClaimer;
 import com.turkcell.order_service.messaging.outbox.OutboxMessage;
+import com.turkcell.order_service.messaging.outbox.OutboxMetrics;
 import com.turkcell.order_service.messaging.outbox.OutboxRepository;
 import com.turkcell.order_service.messaging.outbox.OutboxStatus;
 
 @Service
 public class OutboxEventRelayer {
+    private static final Logger logger = LoggerFactory.getLogger(OutboxEventRelayer.class);
+
     private final OutboxRepository outboxRepository;
-    private final StreamBridge streamBridge;
-    private final ObjectMapper objectMapper;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final OutboxDestinations outboxDestinations;
+    private final OutboxClaimer outboxClaimer;
+    private final OutboxRetryPolicy retryPolicy;
+    private final OutboxMetrics metrics;
+    private final int batchSize;
+    private final long sendTimeoutMillis;
+    private final String deadLetterDestination;
 
-    public OutboxEventRelayer(OutboxRepository outboxRepository, StreamBridge streamBridge, ObjectMapper objectMapper) {
+    public OutboxEventRelayer(OutboxRepository outboxRepository, KafkaTemplate<String, byte[]> kafkaTemplate,
+            OutboxDestinations outboxDestinations, OutboxClaimer outboxClaimer, OutboxRetryPolicy retryPolicy,
+            OutboxMetrics metrics,
+            @Value("${outbox.relayer.batch-size:500}") int batchSize,
+            @Value("${outbox.relayer.send-timeout-ms:30000}") long sendTimeoutMillis,
+            @Value("${outbox.relayer.dead-letter-destination:outbox.DLT}") String deadLetterDestination) {
         this.outboxRepository = outboxRepository;
-        this.streamBridge = streamBridge;
-        this.objectMapper = objectMapper;
+        this.kafkaTemplate = kafkaTemplate;
+        this.outboxDestinations = outboxDestinations;
+        this.outboxClaimer = outboxClaimer;
+        this.retryPolicy = retryPolicy;
+        this.metrics = metrics;
+        this.batchSize = batchSize;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        this.deadLetterDestination = deadLetterDestination;
     }
 
-    @Scheduled(fixedRate = 5000)
-    public void publishPendingEvents() throws JsonProcessingException {
-        System.out.println("Publish pending events çalıştı..");
+    /**
+     * Publishes every pending event of one lane; OutboxDispatcher drains all
+     * lanes in parallel when new rows are signalled and on its fallback poll
+     */
+    public void publishPendingEvents(int lane, int lanes) {
+        // Drain the backlog one bounded claim at a time; stop early when a send
+        // fails, the broker is likely struggling and failed rows wait for their
+        // backoff anyway
+        List<OutboxMessage> pendingEvents;
+        boolean allSent;
+        int claimed = 0;
+        do {
+            long start = System.nanoTime();
+            pendingEvents = outboxClaimer.claim(batchSize, lane, lanes);
+            if (pendingEvents.isEmpty()) {
+                break;
+            }
+            allSent = publish(pendingEvents);
+            metrics.batch(pendingEvents.size(), System.nanoTime() - start);
+            claimed += pendingEvents.size();
+        } while (allSent && pendingEvents.size() == batchSize);
 
-        List<OutboxMessage> pendingEvents = outboxRepository.findByStatusOrderByCreatedAtAsc(OutboxStatus.PENDING);
+        if (claimed > 0) {
+            logger.debug("Relayed {} outbox events of lane {}", claimed, lane);
+        }
+    }
 
+    /**
+     * Publishes a claimed batch with every send in flight at once, then records
+     * the outcome with one bulk update for the sent rows
+     * 
+     * @return whether every event of the batch was acknowledged by the broker
+     */
+    private boolean publish(List<OutboxMessage> pendingEvents) {
+        List<CompletableFuture<?>> sends = new ArrayList<>(pendingEvents.size());
         for (OutboxMessage pendingEvent : pendingEvents) {
-            // Deserialize
-            OrderCreatedEvent event = objectMapper.readValue(pendingEvent.getPayloadJson(), OrderCreatedEvent.class);
-
-            Message<OrderCreatedEvent> message = MessageBuilder.withPayload(event).build();
-
-            try {
-                boolean isSent = streamBridge.send("orderCreated-out-0", message);
-                if (!isSent) {
-                    pendingEvent.setRetryCount(pendingEvent.getRetryCount() + 1);
-                    if (pendingEvent.getRetryCount() > 5) {
-                        pendingEvent.setStatus(OutboxStatus.FAILED);
-                    }
-                } else {
-                    pendingEvent.setStatus(OutboxStatus.SENT);
-                }
-                pendingEvent.setProcessedAt(OffsetDateTime.now());
-                outboxRepository.save(pendingEvent);
-            } catch (Exception e) {
-                pendingEvent.setRetryCount(pendingEvent.getRetryCount() + 1);
-                if (pendingEvent.getRetryCount() > 5) {
-                    pendingEvent.setStatus(OutboxStatus.FAILED);
-                }
-                pendingEvent.setProcessedAt(OffsetDateTime.now());
-                outboxRepository.save(pendingEvent);
+            sends.add(send(pendingEvent.getEventType(), pendingEvent, headers(pendingEvent)));
+        }
+        await(sends);
+
+        OffsetDateTime now = OffsetDateTime.now();
+        List<UUID> sentIds = new ArrayList<>(pendingEvents.size());
+        List<OutboxMessage> failedEvents = new ArrayList<>();
+        Map<OutboxMessage, Throwable> deadLetters = new LinkedHashMap<>();
+        for (int i = 0; i < pendingEvents.size(); i++) {
+            CompletableFuture<?> send = sends.get(i);
+            OutboxMessage pendingEvent = pendingEvents.get(i);
+            if (send.isDone() && !send.isCompletedExceptionally()) {
+                sentIds.add(pendingEvent.getId());
+                metrics.sent(pendingEvent, now);
+                continue;
             }
 
+            Throwable failure = send.isDone() ? send.exceptionNow()
+                    : new TimeoutException("Not acknowledged within " + sendTimeoutMillis + " ms");
+            pendingEvent.setRetryCount(pendingEvent.getRetryCount() + 1);
+            if (retryPolicy.shouldRetry(pendingEvent.getRetryCount(), failure)) {
+                pendingEvent.setNextAttemptAt(retryPolicy.nextAttemptAt(pendingEvent.getRetryCount(), now));
+                metrics.retried(pendingEvent.getEventType());
+            } else {
+                pendingEvent.setStatus(OutboxStatus.FAILED);
+                metrics.failed(pendingEvent.getEventType());
+                deadLetters.put(pendingEvent, failure);
+            }
+            pendingEvent.setLeaseUntil(null);
+            pendingEvent.setProcessedAt(now);
+            failedEvents.add(pendingEvent);
+        }
+
+        if (!sentIds.isEmpty()) {
+            outboxRepository.updateStatus(sentIds, OutboxStatus.SENT, now);
+        }
+        if (!failedEvents.isEmpty()) {
+            publishDeadLetters(deadLetters);
+            outboxRepository.saveAll(failedEvents);
+        }
+        return failedEvents.isEmpty();
+    }
+
+    /**
+     * Copies events that will not be retried to the dead-letter destination
+     * with the reason attached; the rows stay FAILED in the outbox either way
+     * and can be replayed from there
+     */
+    private void publishDeadLetters(Map<OutboxMessage, Throwable> deadLetters) {
+        if (deadLetters.isEmpty()) {
+            return;
         }
+        List<CompletableFuture<?>> sends = new ArrayList<>(deadLetters.size());
+        for (Map.Entry<OutboxMessage, Throwable> deadLetter : deadLetters.entrySet()) {
+            List<Header> headers = new ArrayList<>(headers(deadLetter.getKey()));
+            headers.add(header("failure", String.valueOf(deadLetter.getValue())));
+            sends.add(send(null, deadLetter.getKey(), headers));
+        }
+        await(sends);
+
+        long undelivered = sends.stream().filter(send -> !send.isDone() || send.isCompletedExceptionally()).count();
+        if (undelivered > 0) {
+            logger.warn("{} of {} failed outbox events could not be dead-lettered", undelivered, sends.size());
+        }
+    }
+
+    /**
+     * Starts sending the stored payload of an event as-is, to the destination of
+     * the event type or to the dead-letter destination when eventType is null
+     */
+    private CompletableFuture<?> send(String eventType, OutboxMessage event, List<Header> headers) {
+        try {
+            String destination = eventType == null ? deadLetterDestination
+                    : outboxDestinations.destinationOf(eventType)
+                            .orElseThrow(() -> new NoDestinationException(eventType));
+            byte[] payload = event.getPayload() != null ? event.getPayload()
+                    : event.getPayloadJson().getBytes(StandardCharsets.UTF_8);
+            // Keyed by aggregate, so all events of an order land on one partition
+            String key = event.getAggregateId().toString();
+            return kafkaTemplate.send(new ProducerRecord<>(destination, null, key, payload, headers));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void await(List<CompletableFuture<?>> sends) {
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // Callers check every send on its own
+        }
+    }
+
+    /**
+     * Headers of a published event; consumers deduplicate redelivered events
+     * by the outbox event id and pick a decoder by the content type
+     */
+    private static List<Header> headers(OutboxMessage pendingEvent) {
+        String contentType = pendingEvent.getContentType() != null ? pendingEvent.getContentType()
+                : OutboxMessage.DEFAULT_CONTENT_TYPE;
+        return List.of(
+                header("eventId", pendingEvent.getEventId().toString()),
+                header("eventType", pendingEvent.getEventType()),
+                header("contentType", contentType));
+    }
+
+    private static Header header(String key, String value) {
+        return new RecordHeader(key, value.getBytes(StandardCharsets.UTF_8));
     }
 
-}
\ No newline at end of file
+}
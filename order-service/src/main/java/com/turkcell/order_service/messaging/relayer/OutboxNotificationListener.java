@@ -0,0 +1,100 @@
+package com.turkcell.order_service.messaging.relayer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.turkcell.order_service.messaging.outbox.OutboxNotifyTrigger;
+
+/**
+ * Wakes the dispatcher when any instance inserts into the outbox
+ * The OutboxNotifyTrigger sends a NOTIFY on the outbox_appended channel when
+ * an inserting transaction commits; this listener LISTENs on it over its own
+ * connection opened with DriverManager, outside the Hikari pool, so it never
+ * holds a pooled connection, and reconnects after failures. Notifications
+ * missed while reconnecting are covered by the fallback poll
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.relayer.listen.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxNotificationListener implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(OutboxNotificationListener.class);
+
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+    private static final long RECONNECT_DELAY_MILLIS = 5000;
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final OutboxWakeup wakeup;
+    private volatile Thread thread;
+
+    public OutboxNotificationListener(@Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password, OutboxWakeup wakeup) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.wakeup = wakeup;
+    }
+
+    @Override
+    public void start() {
+        // Assigned before the thread runs, which loops while it is set
+        thread = Thread.ofPlatform().name("outbox-listener").daemon().unstarted(this::run);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        Thread running = thread;
+        thread = null;
+        if (running != null) {
+            running.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return thread != null;
+    }
+
+    private void run() {
+        while (thread != null) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + OutboxNotifyTrigger.CHANNEL);
+                }
+                // Rows may have been inserted while no one was listening
+                wakeup.signal();
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (thread != null) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null && notifications.length > 0) {
+                        wakeup.signal();
+                    }
+                }
+            } catch (SQLException e) {
+                if (thread == null) {
+                    return;
+                }
+                logger.warn("Outbox notification listener lost its connection, reconnecting", e);
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+}
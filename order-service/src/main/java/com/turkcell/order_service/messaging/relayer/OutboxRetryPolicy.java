@@ -0,0 +1,59 @@
+package com.turkcell.order_service.messaging.relayer;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.kafka.common.errors.ApiException;
+import org.apache.kafka.common.errors.RetriableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides whether a failed outbox event is retried and when
+ * Retries back off exponentially with jitter, so during a broker outage each
+ * row is tried a handful of times per hour instead of on every pass, and rows
+ * that failed together do not come back together. Failures the broker reports
+ * as permanent, and events without a destination, are not retried at all
+ */
+@Component
+public class OutboxRetryPolicy {
+    private final int maxRetries;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    public OutboxRetryPolicy(@Value("${outbox.relayer.retry.max-retries:10}") int maxRetries,
+            @Value("${outbox.relayer.retry.initial-backoff-ms:1000}") long initialBackoffMillis,
+            @Value("${outbox.relayer.retry.max-backoff-ms:300000}") long maxBackoffMillis) {
+        this.maxRetries = maxRetries;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    public boolean shouldRetry(int retryCount, Throwable failure) {
+        return retryCount <= maxRetries && isTransient(failure);
+    }
+
+    /**
+     * Returns the earliest time of the next attempt after the given number of
+     * failed attempts: half of the backoff is fixed and half is random
+     */
+    public OffsetDateTime nextAttemptAt(int retryCount, OffsetDateTime now) {
+        long backoff = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(retryCount - 1, 30));
+        long delay = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+        return now.plus(Duration.ofMillis(delay));
+    }
+
+    private static boolean isTransient(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RetriableException) {
+                return true;
+            }
+            if (cause instanceof ApiException || cause instanceof NoDestinationException) {
+                return false;
+            }
+        }
+        // Timeouts and anything unrecognised are worth another try
+        return true;
+    }
+}
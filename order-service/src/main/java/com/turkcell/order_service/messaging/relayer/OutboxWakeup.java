@@ -0,0 +1,42 @@
+package com.turkcell.order_service.messaging.relayer;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.turkcell.order_service.messaging.outbox.OutboxAppendedEvent;
+
+/**
+ * Wakes the outbox dispatcher when new rows may be waiting
+ * Signals are coalesced: any number of signals during a drain cause exactly
+ * one more drain, and a signal is never lost between a drain and the next wait
+ */
+@Component
+public class OutboxWakeup {
+    private final Semaphore signals = new Semaphore(0);
+
+    public void signal() {
+        if (signals.availablePermits() == 0) {
+            signals.release();
+        }
+    }
+
+    /**
+     * Waits for a signal, at most the given time
+     * 
+     * @return whether a signal arrived before the timeout
+     */
+    public boolean await(long timeoutMillis) throws InterruptedException {
+        boolean signalled = signals.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+        signals.drainPermits();
+        return signalled;
+    }
+
+    // Runs after the inserting transaction commits, or right away without one
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOutboxAppended(OutboxAppendedEvent event) {
+        signal();
+    }
+}
@@ -0,0 +1,63 @@
+package com.turkcell.order_service.messaging.schema;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Avro binary encoding of the primitive types our event schemas use, framed
+ * by a magic byte and the 4-byte schema id as Confluent-style registries do
+ * Ints are zig-zag varints and UUIDs are 16-byte fixed values
+ */
+public final class AvroBinary {
+    public static final int HEADER_SIZE = 5;
+    public static final int MAX_INT_SIZE = 5;
+    public static final int UUID_SIZE = 16;
+
+    private static final byte MAGIC = 0;
+
+    private AvroBinary() {
+    }
+
+    public static void writeHeader(ByteBuffer buffer, int schemaId) {
+        buffer.put(MAGIC).putInt(schemaId);
+    }
+
+    /**
+     * Reads the header of a payload and returns its schema id
+     */
+    public static int readHeader(ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_SIZE || buffer.get() != MAGIC) {
+            throw new IllegalArgumentException("Not a schema-framed Avro payload");
+        }
+        return buffer.getInt();
+    }
+
+    public static void writeInt(ByteBuffer buffer, int value) {
+        int zigZag = (value << 1) ^ (value >> 31);
+        while ((zigZag & ~0x7F) != 0) {
+            buffer.put((byte) ((zigZag & 0x7F) | 0x80));
+            zigZag >>>= 7;
+        }
+        buffer.put((byte) zigZag);
+    }
+
+    public static int readInt(ByteBuffer buffer) {
+        int zigZag = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            zigZag |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return (zigZag >>> 1) ^ -(zigZag & 1);
+            }
+        }
+        throw new IllegalArgumentException("Malformed Avro int");
+    }
+
+    public static void writeUuid(ByteBuffer buffer, UUID value) {
+        buffer.putLong(value.getMostSignificantBits()).putLong(value.getLeastSignificantBits());
+    }
+
+    public static UUID readUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
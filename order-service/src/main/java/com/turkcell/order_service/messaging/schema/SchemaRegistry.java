@@ -0,0 +1,68 @@
+package com.turkcell.order_service.messaging.schema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * File-based stand-in for a schema registry
+ * Avro schemas live on the classpath under schemas/, listed with their ids in
+ * schemas/registry.properties. Binary payloads carry the id of the schema they
+ * were written with, so a consumer can tell which layout it holds and skip
+ * layouts it does not know
+ */
+@Component
+public class SchemaRegistry {
+    private static final String DIRECTORY = "schemas/";
+
+    private final Map<Integer, String> filesById = new HashMap<>();
+    private final Map<String, Integer> idsByFile = new HashMap<>();
+
+    public SchemaRegistry() {
+        Properties registry = new Properties();
+        try (InputStream in = resource("registry.properties")) {
+            registry.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read the schema registry", e);
+        }
+        for (String id : registry.stringPropertyNames()) {
+            String file = registry.getProperty(id).trim();
+            try {
+                resource(file).close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read schema " + file, e);
+            }
+            filesById.put(Integer.valueOf(id.trim()), file);
+            idsByFile.put(file, Integer.valueOf(id.trim()));
+        }
+    }
+
+    /**
+     * Id under which a schema file is registered
+     */
+    public int idOf(String schemaFile) {
+        Integer id = idsByFile.get(schemaFile);
+        if (id == null) {
+            throw new IllegalStateException("Schema " + schemaFile + " is not registered");
+        }
+        return id;
+    }
+
+    public Optional<String> schemaFileOf(int id) {
+        return Optional.ofNullable(filesById.get(id));
+    }
+
+    private static InputStream resource(String name) throws IOException {
+        InputStream in = SchemaRegistry.class.getClassLoader().getResourceAsStream(DIRECTORY + name);
+        if (in == null) {
+            throw new IOException(DIRECTORY + name + " not found on the classpath");
+        }
+        return in;
+    }
+}
@@ -0,0 +1,74 @@
+package com.turkcell.order_service.order;
+
+import jakarta.persistence.*;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import org.springframework.data.domain.Persistable;
+
+@Entity
+@Table(name = "orders")
+public class Order implements Persistable<UUID> {
+    @Id
+    @Column(nullable = false, columnDefinition = "uuid")
+    private UUID id = UUID.randomUUID(); // uygulamada üretilir, insert'ten önce id için sorgu atılmaz
+
+    @Column(nullable = false, columnDefinition = "uuid")
+    private UUID productId;
+    private int quantity;
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status = OrderStatus.CREATED;
+
+    private OffsetDateTime createdAt = OffsetDateTime.now();
+
+    @Transient
+    private boolean isNew = true; // id atanmış olsa da save() merge yerine persist yapsın, önce SELECT atılmasın
+
+    protected Order() {
+    }
+
+    public Order(UUID productId, int quantity) {
+        if (productId == null) {
+            throw new IllegalArgumentException("Product id is required");
+        }
+        if (quantity < 1) {
+            throw new IllegalArgumentException("Quantity must be at least 1");
+        }
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getProductId() {
+        return productId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,106 @@
+package com.turkcell.order_service.order;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.turkcell.order_service.messaging.outbox.OutboxMetrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Admission control for order intake, driven by the outbox backlog
+ * When the broker is slow, every accepted order adds a pending outbox row the
+ * relayer cannot drain, and the growing outbox slows the relayer and the
+ * database. Intake starts shedding orders once the pending backlog or the age
+ * of its oldest claimable event reaches the high watermark, and resumes once
+ * both are back under the low watermark, so it does not flap at the threshold
+ * Events waiting out a retry backoff count towards the backlog but not the
+ * age, which would otherwise keep growing for as long as a retried event waits
+ * Both values are read from OutboxMetrics without a query. Shed requests get
+ * a retry-after of the configured seconds plus up to as much jitter, so
+ * clients do not come back all at once
+ */
+@Component
+public class OrderAdmission {
+    private static final Logger logger = LoggerFactory.getLogger(OrderAdmission.class);
+
+    private final OutboxMetrics outboxMetrics;
+    private final boolean enabled;
+    private final long backlogHighWatermark;
+    private final long backlogLowWatermark;
+    private final double lagHighWatermarkSeconds;
+    private final double lagLowWatermarkSeconds;
+    private final long retryAfterSeconds;
+    private final Counter rejected;
+    private volatile boolean shedding;
+
+    public OrderAdmission(OutboxMetrics outboxMetrics, MeterRegistry registry,
+            @Value("${orders.admission.enabled:true}") boolean enabled,
+            @Value("${orders.admission.backlog-high-watermark:200000}") long backlogHighWatermark,
+            @Value("${orders.admission.backlog-low-watermark:100000}") long backlogLowWatermark,
+            @Value("${orders.admission.lag-high-watermark-seconds:120}") double lagHighWatermarkSeconds,
+            @Value("${orders.admission.lag-low-watermark-seconds:30}") double lagLowWatermarkSeconds,
+            @Value("${orders.admission.retry-after-seconds:5}") long retryAfterSeconds) {
+        if (backlogLowWatermark < 0 || backlogLowWatermark > backlogHighWatermark) {
+            throw new IllegalArgumentException("Backlog low watermark must be between 0 and the high watermark");
+        }
+        if (lagLowWatermarkSeconds < 0 || lagLowWatermarkSeconds > lagHighWatermarkSeconds) {
+            throw new IllegalArgumentException("Lag low watermark must be between 0 and the high watermark");
+        }
+        if (retryAfterSeconds < 1) {
+            throw new IllegalArgumentException("Retry-after must be at least one second");
+        }
+        this.outboxMetrics = outboxMetrics;
+        this.enabled = enabled;
+        this.backlogHighWatermark = backlogHighWatermark;
+        this.backlogLowWatermark = backlogLowWatermark;
+        this.lagHighWatermarkSeconds = lagHighWatermarkSeconds;
+        this.lagLowWatermarkSeconds = lagLowWatermarkSeconds;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.rejected = Counter.builder("orders.admission.rejected")
+                .description("Orders refused while intake was shedding")
+                .baseUnit("orders")
+                .register(registry);
+        Gauge.builder("orders.admission.shedding", this, admission -> admission.shedding ? 1 : 0)
+                .description("1 while order intake is shedding")
+                .register(registry);
+    }
+
+    /**
+     * Admits a request for the given number of orders or throws
+     * OrderIntakeThrottledException; a batch that would take the backlog past
+     * the high watermark is refused as a whole
+     */
+    public void admit(int orders) {
+        if (!enabled) {
+            return;
+        }
+        long backlog = outboxMetrics.pendingEstimate();
+        double lagSeconds = outboxMetrics.oldestPendingAgeSeconds();
+        if (shedding) {
+            if (backlog <= backlogLowWatermark && lagSeconds <= lagLowWatermarkSeconds) {
+                shedding = false;
+                logger.info("Order intake resumed: backlog {}, oldest pending {} s", backlog, (long) lagSeconds);
+            }
+        } else if (backlog >= backlogHighWatermark || lagSeconds >= lagHighWatermarkSeconds) {
+            shedding = true;
+            logger.warn("Order intake shedding: backlog {}, oldest pending {} s", backlog, (long) lagSeconds);
+        }
+
+        if (shedding || backlog + orders > backlogHighWatermark) {
+            rejected.increment(orders);
+            long retryAfter = retryAfterSeconds + ThreadLocalRandom.current().nextLong(retryAfterSeconds + 1);
+            throw new OrderIntakeThrottledException(retryAfter);
+        }
+    }
+
+    public boolean isShedding() {
+        return shedding;
+    }
+}
@@ -0,0 +1,9 @@
+package com.turkcell.order_service.order;
+
+import java.util.UUID;
+
+/**
+ * Outbox payload of a created order, consumed by product-service to take stock
+ */
+public record OrderCreatedEvent(UUID orderId, UUID productId, int quantity) {
+}
@@ -0,0 +1,67 @@
+package com.turkcell.order_service.order;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.order_service.messaging.outbox.OutboxMessage;
+import com.turkcell.order_service.messaging.schema.AvroBinary;
+import com.turkcell.order_service.messaging.schema.SchemaRegistry;
+
+/**
+ * Writes the payload of an OrderCreatedEvent outbox row in the configured
+ * format, which travels to consumers as the contentType header
+ * json stores readable JSON text; avro stores the Avro binary encoding of
+ * schemas/order-created-v1.avsc behind a header with its registry id, about a
+ * third of the size and cheaper to write. Consumers read either, so the format
+ * can be switched at any time
+ */
+@Component
+public class OrderEventSerializer {
+    public static final String AVRO_CONTENT_TYPE = "application/vnd.order-created+avro";
+    static final String SCHEMA_FILE = "order-created-v1.avsc";
+
+    private static final int MAX_AVRO_SIZE = AvroBinary.HEADER_SIZE + 2 * AvroBinary.UUID_SIZE
+            + AvroBinary.MAX_INT_SIZE;
+
+    private final ObjectMapper objectMapper;
+    private final boolean avro;
+    private final int schemaId;
+
+    public OrderEventSerializer(ObjectMapper objectMapper, SchemaRegistry schemaRegistry,
+            @Value("${outbox.payload-format:json}") String format) {
+        if (!format.equals("json") && !format.equals("avro")) {
+            throw new IllegalArgumentException("Unknown outbox payload format " + format + ", use json or avro");
+        }
+        this.objectMapper = objectMapper;
+        this.avro = format.equals("avro");
+        this.schemaId = schemaRegistry.idOf(SCHEMA_FILE);
+    }
+
+    public void write(OrderCreatedEvent event, OutboxMessage outboxMessage) {
+        if (avro) {
+            outboxMessage.setPayload(encode(event));
+            outboxMessage.setContentType(AVRO_CONTENT_TYPE);
+            return;
+        }
+        try {
+            outboxMessage.setPayloadJson(objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize the event of order " + event.orderId(), e);
+        }
+        outboxMessage.setContentType(OutboxMessage.DEFAULT_CONTENT_TYPE);
+    }
+
+    byte[] encode(OrderCreatedEvent event) {
+        ByteBuffer buffer = ByteBuffer.allocate(MAX_AVRO_SIZE);
+        AvroBinary.writeHeader(buffer, schemaId);
+        AvroBinary.writeUuid(buffer, event.orderId());
+        AvroBinary.writeUuid(buffer, event.productId());
+        AvroBinary.writeInt(buffer, event.quantity());
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+}
@@ -0,0 +1,177 @@
+package com.turkcell.order_service.order;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Group commit for order intake
+ * Requests queue their order and wait; a single writer takes the queued orders,
+ * waiting at most the window after the first one for up to max-batch orders,
+ * and stores them with their outbox rows in one transaction, so concurrent
+ * requests share one commit instead of paying one each. A request returns once
+ * the transaction holding its order has committed
+ * When a batch fails its orders are retried in a transaction each, so a bad
+ * order fails only its own request. The queue is bounded; when it is full,
+ * requests wait for room
+ */
+@Component
+public class OrderGroupCommitter implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(OrderGroupCommitter.class);
+    private static final long MAX_WINDOW_MILLIS = 1000;
+
+    private final OrderService orderService;
+    private final boolean enabled;
+    private final int maxBatch;
+    private final long windowNanos;
+    private final BlockingQueue<PendingOrder> queue;
+    private volatile Thread thread;
+
+    public OrderGroupCommitter(OrderService orderService,
+            @Value("${orders.group-commit.enabled:true}") boolean enabled,
+            @Value("${orders.group-commit.max-batch:100}") int maxBatch,
+            @Value("${orders.group-commit.window-ms:1}") long windowMillis,
+            @Value("${orders.group-commit.queue-capacity:10000}") int queueCapacity) {
+        if (maxBatch < 1) {
+            throw new IllegalArgumentException("Group commit batch must hold at least one order");
+        }
+        if (windowMillis < 0 || windowMillis > MAX_WINDOW_MILLIS) {
+            throw new IllegalArgumentException("Group commit window must be between 0 and " + MAX_WINDOW_MILLIS + " ms");
+        }
+        if (queueCapacity < maxBatch) {
+            throw new IllegalArgumentException("Group commit queue must hold at least one batch");
+        }
+        this.orderService = orderService;
+        this.enabled = enabled;
+        this.maxBatch = maxBatch;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * Stores an order with its outbox row and returns it once committed; with
+     * group commit disabled the order gets a transaction of its own
+     */
+    public Order submit(UUID productId, int quantity) throws InterruptedException {
+        Order order = new Order(productId, quantity);
+        if (!enabled) {
+            return orderService.createOrders(List.of(order)).get(0);
+        }
+
+        PendingOrder pending = new PendingOrder(order);
+        queue.put(pending);
+        if (thread == null) {
+            // Stopped while queueing; the writer will not see this order
+            failQueued(new IllegalStateException("Order intake is stopped"));
+        }
+        try {
+            return pending.committed.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        // Assigned before the thread runs, which loops while it is set
+        thread = Thread.ofPlatform().name("order-group-commit").daemon().unstarted(this::run);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        Thread running = thread;
+        thread = null;
+        if (running != null) {
+            running.interrupt();
+            try {
+                running.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        failQueued(new IllegalStateException("Order intake is stopped"));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return thread != null;
+    }
+
+    private void run() {
+        List<PendingOrder> batch = new ArrayList<>(maxBatch);
+        while (thread != null) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + windowNanos;
+                queue.drainTo(batch, maxBatch - batch.size());
+                while (batch.size() < maxBatch) {
+                    PendingOrder next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, maxBatch - batch.size());
+                }
+            } catch (InterruptedException e) {
+                // Stopping
+                batch.forEach(pending -> pending.committed.completeExceptionally(
+                        new IllegalStateException("Order intake is stopped")));
+                return;
+            }
+            commit(batch);
+            batch.clear();
+        }
+    }
+
+    private void commit(List<PendingOrder> batch) {
+        try {
+            orderService.createOrders(batch.stream().map(PendingOrder::order).toList());
+            batch.forEach(pending -> pending.committed.complete(pending.order()));
+            return;
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).committed.completeExceptionally(e);
+                return;
+            }
+            logger.warn("Group commit of {} orders failed, committing them one by one", batch.size(), e);
+        }
+        for (PendingOrder pending : batch) {
+            try {
+                orderService.createOrders(List.of(pending.order()));
+                pending.committed.complete(pending.order());
+            } catch (RuntimeException e) {
+                pending.committed.completeExceptionally(e);
+            }
+        }
+    }
+
+    private void failQueued(RuntimeException failure) {
+        List<PendingOrder> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(pending -> pending.committed.completeExceptionally(failure));
+    }
+
+    private record PendingOrder(Order order, CompletableFuture<Order> committed) {
+        PendingOrder(Order order) {
+            this(order, new CompletableFuture<>());
+        }
+    }
+}
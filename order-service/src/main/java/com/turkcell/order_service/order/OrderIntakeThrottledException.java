@@ -0,0 +1,18 @@
+package com.turkcell.order_service.order;
+
+/**
+ * Thrown when order intake sheds a request because the outbox backlog is over
+ * its watermark; the client should retry after the given seconds
+ */
+public class OrderIntakeThrottledException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public OrderIntakeThrottledException(long retryAfterSeconds) {
+        super("Order intake is throttled while queued events are delivered, retry in " + retryAfterSeconds + " s");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,8 @@
+package com.turkcell.order_service.order;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OrderRepository extends JpaRepository<Order, UUID> {
+}
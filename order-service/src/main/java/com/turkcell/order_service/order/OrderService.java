@@ -0,0 +1,67 @@
+package com.turkcell.order_service.order;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.turkcell.order_service.messaging.outbox.OutboxAppendedEvent;
+import com.turkcell.order_service.messaging.outbox.OutboxMessage;
+import com.turkcell.order_service.messaging.outbox.OutboxMetrics;
+import com.turkcell.order_service.messaging.outbox.OutboxRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class OrderService {
+    private final OrderRepository orderRepository;
+    private final OutboxRepository outboxRepository;
+    private final OrderEventSerializer eventSerializer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxMetrics outboxMetrics;
+
+    public OrderService(OrderRepository orderRepository, OutboxRepository outboxRepository,
+            OrderEventSerializer eventSerializer, ApplicationEventPublisher eventPublisher, OutboxMetrics outboxMetrics) {
+        this.orderRepository = orderRepository;
+        this.outboxRepository = outboxRepository;
+        this.eventSerializer = eventSerializer;
+        this.eventPublisher = eventPublisher;
+        this.outboxMetrics = outboxMetrics;
+    }
+
+    /**
+     * Stores orders together with their OrderCreatedEvent outbox rows in one
+     * transaction, all or none
+     * Every row carries an id assigned here and is persisted without a prior
+     * SELECT; Hibernate queues the inserts and sends them per table as JDBC
+     * batches when the transaction flushes at commit, so the round trips of a
+     * call do not grow with the number of orders
+     */
+    @Transactional
+    public List<Order> createOrders(List<Order> orders) {
+        // Serialized before anything is written, so a failure leaves nothing to
+        // roll back
+        List<OutboxMessage> outboxMessages = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            outboxMessages.add(outboxMessage(order));
+        }
+
+        orderRepository.saveAll(orders);
+        outboxRepository.saveAll(outboxMessages);
+        for (OutboxMessage outboxMessage : outboxMessages) {
+            outboxMetrics.appended(outboxMessage.getEventType());
+        }
+        eventPublisher.publishEvent(new OutboxAppendedEvent()); // commit sonrası relayer'ı uyandırır
+        return orders;
+    }
+
+    private OutboxMessage outboxMessage(Order order) {
+        OutboxMessage outboxMessage = new OutboxMessage();
+        outboxMessage.setAggregateId(order.getId());
+        outboxMessage.setAggregateType("Order");
+        outboxMessage.setEventType("OrderCreatedEvent");
+        eventSerializer.write(new OrderCreatedEvent(order.getId(), order.getProductId(), order.getQuantity()),
+                outboxMessage);
+        return outboxMessage;
+    }
+}
@@ -0,0 +1,5 @@
+package com.turkcell.order_service.order;
+
+public enum OrderStatus {
+    CREATED
+}
@@ -0,0 +1,66 @@
+package com.turkcell.order_service.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.turkcell.order_service.controller.OrdersController.CreateOrderDto;
+import com.turkcell.order_service.order.Order;
+import com.turkcell.order_service.order.OrderAdmission;
+import com.turkcell.order_service.order.OrderService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OrdersControllerTest {
+
+	private final List<List<Order>> transactions = new ArrayList<>();
+	private final OrdersController controller = new OrdersController(
+			new OrderAdmission(null, new SimpleMeterRegistry(), false, 0, 0, 0, 0, 1), null,
+			new RecordingOrderService(), 3);
+
+	@Test
+	void batchIsStoredInOneTransactionAndReturnsIdsInRequestOrder() {
+		UUID first = UUID.randomUUID();
+		UUID second = UUID.randomUUID();
+
+		List<String> ids = controller.createOrders(List.of(new CreateOrderDto(first, 2), new CreateOrderDto(second, null)));
+
+		assertEquals(1, transactions.size());
+		List<Order> stored = transactions.get(0);
+		assertEquals(List.of(stored.get(0).getId().toString(), stored.get(1).getId().toString()), ids);
+		assertEquals(first, stored.get(0).getProductId());
+		assertEquals(2, stored.get(0).getQuantity());
+		assertEquals(1, stored.get(1).getQuantity());
+	}
+
+	@Test
+	void invalidBatchIsRejectedBeforeAnythingIsStored() {
+		CreateOrderDto valid = new CreateOrderDto(UUID.randomUUID(), 1);
+		assertThrows(IllegalArgumentException.class, () -> controller.createOrders(List.of()));
+		assertThrows(IllegalArgumentException.class, () -> controller.createOrders(Collections.nCopies(4, valid)));
+		IllegalArgumentException invalid = assertThrows(IllegalArgumentException.class,
+				() -> controller.createOrders(List.of(valid, new CreateOrderDto(UUID.randomUUID(), 0))));
+		assertTrue(invalid.getMessage().startsWith("Order 1"), invalid.getMessage());
+		assertTrue(transactions.isEmpty());
+	}
+
+	private final class RecordingOrderService extends OrderService {
+
+		RecordingOrderService() {
+			super(null, null, null, null, null);
+		}
+
+		@Override
+		public List<Order> createOrders(List<Order> orders) {
+			transactions.add(orders);
+			return orders;
+		}
+	}
+}
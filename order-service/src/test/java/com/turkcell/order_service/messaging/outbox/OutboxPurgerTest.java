@@ -0,0 +1,53 @@
+package com.turkcell.order_service.messaging.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class OutboxPurgerTest {
+
+	private final OutboxRepository repository = mock(OutboxRepository.class);
+	private final OutboxPurger purger = new OutboxPurger(repository, 24, 100);
+
+	@Test
+	void deletesBatchesUntilOneComesBackShort() {
+		when(repository.deleteSentBefore(any(), eq(100))).thenReturn(100, 100, 37);
+		OffsetDateTime before = OffsetDateTime.now().minusHours(24);
+
+		purger.purgeSentEvents();
+
+		ArgumentCaptor<OffsetDateTime> cutoffs = ArgumentCaptor.forClass(OffsetDateTime.class);
+		verify(repository, times(3)).deleteSentBefore(cutoffs.capture(), eq(100));
+		OffsetDateTime cutoff = cutoffs.getValue();
+		assertTrue(!cutoff.isBefore(before) && !cutoff.isAfter(OffsetDateTime.now().minusHours(24)),
+				"rows are kept for the retention");
+		assertTrue(cutoffs.getAllValues().stream().allMatch(cutoff::equals), "every batch uses one cutoff");
+	}
+
+	@Test
+	void stopsAfterOneQueryWhenNothingIsOldEnough() {
+		when(repository.deleteSentBefore(any(), eq(100))).thenReturn(0);
+
+		purger.purgeSentEvents();
+
+		verify(repository, times(1)).deleteSentBefore(any(), eq(100));
+	}
+
+	@Test
+	void aFullLastBatchIsFollowedByAnEmptyOne() {
+		when(repository.deleteSentBefore(any(), eq(100))).thenReturn(100, 0);
+
+		purger.purgeSentEvents();
+
+		verify(repository, times(2)).deleteSentBefore(any(), eq(100));
+	}
+}
@@ -0,0 +1,179 @@
+package com.turkcell.order_service.messaging.relayer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.turkcell.order_service.messaging.outbox.OutboxClaimer;
+import com.turkcell.order_service.messaging.outbox.OutboxMessage;
+import com.turkcell.order_service.messaging.outbox.OutboxMetrics;
+import com.turkcell.order_service.messaging.outbox.OutboxRepository;
+import com.turkcell.order_service.messaging.outbox.OutboxStatus;
+
+class OutboxEventRelayerOrderingTest {
+
+	private static final int AGGREGATES = 200;
+	private static final int EVENTS_PER_AGGREGATE = 10;
+
+	private final List<OutboxMessage> rows = new ArrayList<>();
+	private final Map<String, List<Integer>> published = new ConcurrentHashMap<>();
+
+	@Test
+	void eventsOfAnAggregateArePublishedInOrderAcrossLanesAndRetries() throws Exception {
+		List<UUID> aggregates = IntStream.range(0, AGGREGATES).mapToObj(i -> UUID.randomUUID()).toList();
+		OffsetDateTime createdAt = OffsetDateTime.now().minusMinutes(1);
+		for (int sequence = 0; sequence < EVENTS_PER_AGGREGATE; sequence++) {
+			for (UUID aggregate : aggregates) {
+				OutboxMessage row = new OutboxMessage();
+				row.setAggregateId(aggregate);
+				row.setEventType("OrderCreatedEvent");
+				row.setPayloadJson(String.valueOf(sequence));
+				createdAt = createdAt.plusNanos(1_000);
+				row.setCreatedAt(createdAt);
+				rows.add(row);
+			}
+		}
+
+		OutboxDestinations destinations = new OutboxDestinations();
+		destinations.setDestinations(Map.of("OrderCreatedEvent", "order-topic"));
+		MeterRegistry registry = new SimpleMeterRegistry();
+		OutboxRepository repository = repository();
+		OutboxEventRelayer relayer = new OutboxEventRelayer(repository, new FlakyKafkaTemplate(), destinations,
+				new InMemoryClaimer(), new OutboxRetryPolicy(1_000, 1, 4), new OutboxMetrics(repository, registry), 50,
+				30_000, "outbox.DLT");
+		OutboxDispatcher dispatcher = new OutboxDispatcher(relayer, new OutboxWakeup(), 5, 4, true);
+
+		dispatcher.start();
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+		while (!allSent() && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		dispatcher.stop();
+
+		assertTrue(allSent(), () -> rows.stream().filter(row -> row.getStatus() != OutboxStatus.SENT).count() + " rows unsent");
+		List<Integer> expected = IntStream.range(0, EVENTS_PER_AGGREGATE).boxed().toList();
+		for (UUID aggregate : aggregates) {
+			assertEquals(expected, published.get(aggregate.toString()), aggregate.toString());
+		}
+		assertEquals(rows.size(), registry.counter("outbox.events.sent", "eventType", "OrderCreatedEvent").count());
+		assertTrue(registry.counter("outbox.events.retried", "eventType", "OrderCreatedEvent").count() > 0);
+	}
+
+	private synchronized boolean allSent() {
+		return rows.stream().allMatch(row -> row.getStatus() == OutboxStatus.SENT);
+	}
+
+	/**
+	 * Claims by the contract of OutboxRepository.lockClaimable: the oldest
+	 * pending row of each aggregate in the lane, once its lease and backoff end
+	 */
+	private synchronized List<OutboxMessage> claim(int limit, int lane, int lanes) {
+		OffsetDateTime now = OffsetDateTime.now();
+		List<OutboxMessage> claimed = new ArrayList<>();
+		List<UUID> seen = new ArrayList<>();
+		for (OutboxMessage row : rows) {
+			if (claimed.size() == limit) {
+				break;
+			}
+			if (row.getStatus() != OutboxStatus.PENDING || Math.abs(row.getAggregateId().hashCode() % lanes) != lane
+					|| seen.contains(row.getAggregateId())) {
+				continue;
+			}
+			seen.add(row.getAggregateId());
+			boolean leased = row.getLeaseUntil() != null && !row.getLeaseUntil().isBefore(now);
+			boolean backingOff = row.getNextAttemptAt() != null && row.getNextAttemptAt().isAfter(now);
+			if (!leased && !backingOff) {
+				row.setLeaseUntil(now.plusMinutes(1));
+				claimed.add(row);
+			}
+		}
+		return claimed;
+	}
+
+	private OutboxRepository repository() {
+		OutboxRepository repository = mock(OutboxRepository.class);
+		when(repository.updateStatus(anyCollection(), any(), any()))
+				.thenAnswer(invocation -> markStatus(invocation.getArgument(0), invocation.getArgument(1)));
+		return repository;
+	}
+
+	private synchronized int markStatus(Collection<UUID> ids, OutboxStatus status) {
+		for (OutboxMessage row : rows) {
+			if (ids.contains(row.getId())) {
+				row.setStatus(status);
+			}
+		}
+		return ids.size();
+	}
+
+	private final class InMemoryClaimer extends OutboxClaimer {
+
+		InMemoryClaimer() {
+			super(null, "test", 60);
+		}
+
+		@Override
+		public List<OutboxMessage> claim(int limit, int lane, int lanes) {
+			return OutboxEventRelayerOrderingTest.this.claim(limit, lane, lanes);
+		}
+	}
+
+	/**
+	 * Acknowledges sends after a random delay and fails one in ten; a record
+	 * counts as published when its acknowledgement arrives
+	 */
+	private final class FlakyKafkaTemplate extends KafkaTemplate<String, byte[]> {
+
+		FlakyKafkaTemplate() {
+			super(new DefaultKafkaProducerFactory<>(Map.of()));
+		}
+
+		@Override
+		public CompletableFuture<SendResult<String, byte[]>> send(ProducerRecord<String, byte[]> record) {
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			boolean fails = random.nextInt(10) == 0;
+			return CompletableFuture.supplyAsync(() -> {
+				if (fails) {
+					throw new IllegalStateException("broker unavailable");
+				}
+				published.computeIfAbsent(record.key(), key -> new ArrayList<>())
+						.add(Integer.valueOf(new String(record.value(), StandardCharsets.UTF_8)));
+				return new SendResult<>(record, null);
+			}, CompletableFuture.delayedExecutor(random.nextInt(2_000), TimeUnit.MICROSECONDS));
+		}
+
+		/**
+		 * KafkaProducer.flush() blocks the producer all lanes share for up to
+		 * delivery.timeout.ms; a lane only waits for its own sends
+		 */
+		@Override
+		public void flush() {
+			throw new AssertionError("The relayer must not flush the shared producer");
+		}
+	}
+}
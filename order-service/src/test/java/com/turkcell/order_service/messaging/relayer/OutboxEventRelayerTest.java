@@ -0,0 +1,185 @@
+package com.turkcell.order_service.messaging.relayer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.header.Header;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.turkcell.order_service.messaging.outbox.OutboxClaimer;
+import com.turkcell.order_service.messaging.outbox.OutboxMessage;
+import com.turkcell.order_service.messaging.outbox.OutboxMetrics;
+import com.turkcell.order_service.messaging.outbox.OutboxRepository;
+import com.turkcell.order_service.messaging.outbox.OutboxStatus;
+
+class OutboxEventRelayerTest {
+
+	private static final long SEND_TIMEOUT_MILLIS = 200;
+
+	private final OutboxRepository repository = mock(OutboxRepository.class);
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+	private final List<ProducerRecord<String, byte[]>> deadLetters = new ArrayList<>();
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void sentRowsAreMarkedInOneUpdateAndFailedRowsAreRetriedOrFailed() {
+		OutboxMessage sent = row("OrderCreatedEvent", "ok", 0);
+		OutboxMessage timedOut = row("OrderCreatedEvent", "timeout", 0);
+		OutboxMessage unacknowledged = row("OrderCreatedEvent", "silent", 0);
+		OutboxMessage tooLarge = row("OrderCreatedEvent", "too-large", 0);
+		OutboxMessage exhausted = row("OrderCreatedEvent", "timeout", 5);
+		OutboxMessage unroutable = row("UnknownEvent", "ok", 0);
+		OffsetDateTime before = OffsetDateTime.now();
+
+		long start = System.nanoTime();
+		relayer(List.of(sent, timedOut, unacknowledged, tooLarge, exhausted, unroutable)).publishPendingEvents(0, 1);
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+		verify(repository).updateStatus(eq(List.of(sent.getId())), eq(OutboxStatus.SENT), any());
+		ArgumentCaptor<List<OutboxMessage>> saved = ArgumentCaptor.forClass(List.class);
+		verify(repository).saveAll(saved.capture());
+		assertEquals(List.of(timedOut, unacknowledged, tooLarge, exhausted, unroutable), saved.getValue());
+
+		// A transient failure waits out its backoff and stays pending
+		assertEquals(OutboxStatus.PENDING, timedOut.getStatus());
+		assertEquals(1, timedOut.getRetryCount());
+		assertTrue(!timedOut.getNextAttemptAt().isBefore(before.plusNanos(500_000_000L)));
+		assertTrue(!timedOut.getNextAttemptAt().isAfter(OffsetDateTime.now().plusSeconds(1)));
+		assertNull(timedOut.getLeaseUntil());
+
+		// A send the broker never acknowledges is given up after the send timeout
+		// and retried like a failed one
+		assertTrue(elapsedMillis >= SEND_TIMEOUT_MILLIS && elapsedMillis < 10 * SEND_TIMEOUT_MILLIS);
+		assertEquals(OutboxStatus.PENDING, unacknowledged.getStatus());
+		assertEquals(1, unacknowledged.getRetryCount());
+
+		// Permanent failures, spent retry budgets and unroutable events fail and are dead-lettered
+		assertEquals(OutboxStatus.FAILED, tooLarge.getStatus());
+		assertEquals(OutboxStatus.FAILED, exhausted.getStatus());
+		assertEquals(6, exhausted.getRetryCount());
+		assertEquals(OutboxStatus.FAILED, unroutable.getStatus());
+		assertEquals(3, deadLetters.size());
+		assertTrue(failureOf(deadLetters.get(0)).contains("RecordTooLargeException"));
+		assertTrue(failureOf(deadLetters.get(1)).contains("TimeoutException"));
+		assertTrue(failureOf(deadLetters.get(2)).contains("No destination for event type UnknownEvent"));
+
+		assertEquals(1, registry.counter("outbox.events.sent", "eventType", "OrderCreatedEvent").count());
+		assertEquals(2, registry.counter("outbox.events.retried", "eventType", "OrderCreatedEvent").count());
+		assertEquals(2, registry.counter("outbox.events.failed", "eventType", "OrderCreatedEvent").count());
+		assertEquals(1, registry.counter("outbox.events.failed", "eventType", "UnknownEvent").count());
+	}
+
+	@Test
+	void aBatchWithoutFailuresWritesOnlyTheStatusUpdate() {
+		OutboxMessage first = row("OrderCreatedEvent", "ok", 0);
+		OutboxMessage second = row("OrderCreatedEvent", "ok", 2);
+
+		relayer(List.of(first, second)).publishPendingEvents(0, 1);
+
+		verify(repository).updateStatus(eq(List.of(first.getId(), second.getId())), eq(OutboxStatus.SENT), any());
+		verify(repository, never()).saveAll(any());
+		assertTrue(deadLetters.isEmpty());
+	}
+
+	private OutboxEventRelayer relayer(List<OutboxMessage> batch) {
+		OutboxDestinations destinations = new OutboxDestinations();
+		destinations.setDestinations(Map.of("OrderCreatedEvent", "order-topic"));
+		return new OutboxEventRelayer(repository, new ScriptedKafkaTemplate(), destinations, new OneBatchClaimer(batch),
+				new OutboxRetryPolicy(5, 1_000, 16_000), new OutboxMetrics(repository, registry), 50, SEND_TIMEOUT_MILLIS,
+				"outbox.DLT");
+	}
+
+	private static OutboxMessage row(String eventType, String payload, int retryCount) {
+		OutboxMessage row = new OutboxMessage();
+		row.setAggregateId(UUID.randomUUID());
+		row.setEventType(eventType);
+		row.setPayloadJson(payload);
+		row.setRetryCount(retryCount);
+		row.setCreatedAt(OffsetDateTime.now());
+		row.setLeaseUntil(OffsetDateTime.now().plusMinutes(1));
+		return row;
+	}
+
+	private static String failureOf(ProducerRecord<String, byte[]> record) {
+		for (Header header : record.headers()) {
+			if (header.key().equals("failure")) {
+				return new String(header.value(), StandardCharsets.UTF_8);
+			}
+		}
+		return "";
+	}
+
+	private static final class OneBatchClaimer extends OutboxClaimer {
+		private List<OutboxMessage> batch;
+
+		OneBatchClaimer(List<OutboxMessage> batch) {
+			super(null, "test", 60);
+			this.batch = batch;
+		}
+
+		@Override
+		public List<OutboxMessage> claim(int limit, int lane, int lanes) {
+			List<OutboxMessage> claimed = batch;
+			batch = List.of();
+			return claimed;
+		}
+	}
+
+	/**
+	 * Acknowledges, fails or never answers each send by its payload, and
+	 * records dead letters
+	 */
+	private final class ScriptedKafkaTemplate extends KafkaTemplate<String, byte[]> {
+
+		ScriptedKafkaTemplate() {
+			super(new DefaultKafkaProducerFactory<>(Map.of()));
+		}
+
+		@Override
+		public CompletableFuture<SendResult<String, byte[]>> send(ProducerRecord<String, byte[]> record) {
+			if (record.topic().equals("outbox.DLT")) {
+				deadLetters.add(record);
+				return CompletableFuture.completedFuture(new SendResult<>(record, null));
+			}
+			return switch (new String(record.value(), StandardCharsets.UTF_8)) {
+				case "timeout" -> CompletableFuture.failedFuture(new TimeoutException("no acknowledgement"));
+				case "too-large" -> CompletableFuture.failedFuture(new RecordTooLargeException("record too large"));
+				case "silent" -> new CompletableFuture<>();
+				default -> CompletableFuture.completedFuture(new SendResult<>(record, null));
+			};
+		}
+
+		/**
+		 * KafkaProducer.flush() blocks the producer all lanes share for up to
+		 * delivery.timeout.ms; a lane only waits for its own sends
+		 */
+		@Override
+		public void flush() {
+			throw new AssertionError("The relayer must not flush the shared producer");
+		}
+	}
+}
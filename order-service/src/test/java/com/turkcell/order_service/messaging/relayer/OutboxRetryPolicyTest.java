@@ -0,0 +1,60 @@
+package com.turkcell.order_service.messaging.relayer;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+class OutboxRetryPolicyTest {
+
+	private final OutboxRetryPolicy policy = new OutboxRetryPolicy(5, 1_000, 16_000);
+
+	@Test
+	void delaysDoubleUpToTheCapWithJitterInTheUpperHalf() {
+		OffsetDateTime now = OffsetDateTime.now();
+		long[] backoffs = { 1_000, 2_000, 4_000, 8_000, 16_000, 16_000, 16_000 };
+		for (int retry = 1; retry <= backoffs.length; retry++) {
+			long backoff = backoffs[retry - 1];
+			long shortest = Long.MAX_VALUE;
+			long longest = 0;
+			for (int sample = 0; sample < 1_000; sample++) {
+				long delay = Duration.between(now, policy.nextAttemptAt(retry, now)).toMillis();
+				assertTrue(delay >= backoff / 2 && delay <= backoff, "retry " + retry + " waited " + delay + " ms");
+				shortest = Math.min(shortest, delay);
+				longest = Math.max(longest, delay);
+			}
+			// The jitter spreads over the whole upper half rather than a fixed delay
+			assertTrue(shortest < backoff * 6 / 10, "retry " + retry + " shortest " + shortest);
+			assertTrue(longest > backoff * 9 / 10, "retry " + retry + " longest " + longest);
+		}
+
+		long farDelay = Duration.between(now, policy.nextAttemptAt(200, now)).toMillis();
+		assertTrue(farDelay >= 8_000 && farDelay <= 16_000, "a high retry count stays at the cap");
+	}
+
+	@Test
+	void retriesTransientFailuresUntilTheBudgetIsSpent() {
+		assertTrue(policy.shouldRetry(1, new TimeoutException("no ack")));
+		assertTrue(policy.shouldRetry(1, new ExecutionException(new KafkaException("send failed",
+				new TimeoutException("metadata not available")))));
+		assertTrue(policy.shouldRetry(1, new java.util.concurrent.TimeoutException("not acknowledged")));
+		assertTrue(policy.shouldRetry(1, new IllegalStateException("broker unavailable")));
+		assertTrue(policy.shouldRetry(5, new TimeoutException("no ack")));
+		assertFalse(policy.shouldRetry(6, new TimeoutException("no ack")));
+	}
+
+	@Test
+	void doesNotRetryPermanentFailures() {
+		assertFalse(policy.shouldRetry(1, new RecordTooLargeException("too large")));
+		assertFalse(policy.shouldRetry(1, new ExecutionException(new RecordTooLargeException("too large"))));
+		assertFalse(policy.shouldRetry(1, new NoDestinationException("UnknownEvent")));
+		assertFalse(policy.shouldRetry(1, new KafkaException("send failed", new NoDestinationException("UnknownEvent"))));
+	}
+}
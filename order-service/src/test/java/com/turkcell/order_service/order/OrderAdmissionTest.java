@@ -0,0 +1,105 @@
+package com.turkcell.order_service.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.turkcell.order_service.messaging.outbox.OutboxBacklog;
+import com.turkcell.order_service.messaging.outbox.OutboxMessage;
+import com.turkcell.order_service.messaging.outbox.OutboxMetrics;
+import com.turkcell.order_service.messaging.outbox.OutboxRepository;
+import com.turkcell.order_service.messaging.outbox.OutboxStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OrderAdmissionTest {
+
+	private final OutboxRepository repository = mock(OutboxRepository.class);
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final OutboxMetrics metrics = new OutboxMetrics(repository, registry);
+	private final OrderAdmission admission = new OrderAdmission(metrics, registry, true, 100, 50, 60, 10, 5);
+
+	@Test
+	void shedsAtTheHighWatermarkUntilTheBacklogDrainsBelowTheLowOne() {
+		refresh(0, null);
+		for (int i = 0; i < 99; i++) {
+			admission.admit(1);
+			metrics.appended("OrderCreatedEvent");
+		}
+		admission.admit(1);
+		metrics.appended("OrderCreatedEvent");
+
+		OrderIntakeThrottledException throttled = assertThrows(OrderIntakeThrottledException.class,
+				() -> admission.admit(1));
+		assertTrue(throttled.getRetryAfterSeconds() >= 5 && throttled.getRetryAfterSeconds() <= 10);
+		assertTrue(admission.isShedding());
+
+		sent(40);
+		assertThrows(OrderIntakeThrottledException.class, () -> admission.admit(1));
+		sent(10);
+		admission.admit(1);
+		assertFalse(admission.isShedding());
+		// The backlog is read without a query per request
+		verify(repository, times(1)).backlogOf(eq(OutboxStatus.PENDING), any());
+		assertEquals(2, registry.counter("orders.admission.rejected").count());
+	}
+
+	@Test
+	void shedsWhileTheOldestPendingEventIsTooOld() {
+		refresh(1, OffsetDateTime.now().minusSeconds(90));
+		assertThrows(OrderIntakeThrottledException.class, () -> admission.admit(1));
+
+		refresh(1, OffsetDateTime.now().minusSeconds(30));
+		assertThrows(OrderIntakeThrottledException.class, () -> admission.admit(1));
+
+		refresh(1, OffsetDateTime.now().minusSeconds(5));
+		admission.admit(1);
+	}
+
+	@Test
+	void rowsWaitingOutARetryBackoffDoNotCountAsLag() {
+		refresh(2, 2, null);
+		admission.admit(1);
+		assertFalse(admission.isShedding());
+		assertEquals(0, metrics.oldestPendingAgeSeconds());
+		assertEquals(2, registry.get("outbox.backlog.backoff").gauge().value());
+	}
+
+	@Test
+	void refusesABatchThatWouldCrossTheHighWatermark() {
+		refresh(60, OffsetDateTime.now());
+		assertThrows(OrderIntakeThrottledException.class, () -> admission.admit(41));
+		assertFalse(admission.isShedding());
+		admission.admit(40);
+	}
+
+	private void refresh(long size, OffsetDateTime oldestClaimable) {
+		refresh(size, 0, oldestClaimable);
+	}
+
+	private void refresh(long size, long backingOff, OffsetDateTime oldestClaimable) {
+		OutboxBacklog backlog = mock(OutboxBacklog.class);
+		when(backlog.getSize()).thenReturn(size);
+		when(backlog.getBackingOff()).thenReturn(backingOff);
+		when(backlog.getOldestClaimableCreatedAt()).thenReturn(oldestClaimable);
+		when(repository.backlogOf(eq(OutboxStatus.PENDING), any())).thenReturn(backlog);
+		metrics.refreshBacklog();
+	}
+
+	private void sent(int events) {
+		for (int i = 0; i < events; i++) {
+			metrics.sent(new OutboxMessage(), OffsetDateTime.now());
+		}
+	}
+}
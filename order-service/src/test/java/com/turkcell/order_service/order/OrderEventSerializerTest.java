@@ -0,0 +1,65 @@
+package com.turkcell.order_service.order;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.order_service.messaging.outbox.OutboxMessage;
+import com.turkcell.order_service.messaging.schema.AvroBinary;
+import com.turkcell.order_service.messaging.schema.SchemaRegistry;
+
+class OrderEventSerializerTest {
+
+	private static final UUID ORDER_ID = UUID.fromString("00112233-4455-6677-8899-aabbccddeeff");
+	private static final UUID PRODUCT_ID = UUID.fromString("ffeeddcc-bbaa-9988-7766-554433221100");
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final SchemaRegistry schemaRegistry = new SchemaRegistry();
+
+	@Test
+	void avroPayloadIsTheSchemaHeaderFollowedByTheAvroBinaryRecord() {
+		OutboxMessage outboxMessage = new OutboxMessage();
+		new OrderEventSerializer(objectMapper, schemaRegistry, "avro")
+				.write(new OrderCreatedEvent(ORDER_ID, PRODUCT_ID, 3), outboxMessage);
+
+		ByteBuffer expected = ByteBuffer.allocate(38);
+		expected.put((byte) 0).putInt(schemaRegistry.idOf(OrderEventSerializer.SCHEMA_FILE));
+		expected.putLong(0x0011223344556677L).putLong(0x8899aabbccddeeffL);
+		expected.putLong(0xffeeddccbbaa9988L).putLong(0x7766554433221100L);
+		expected.put((byte) 6);
+		assertArrayEquals(expected.array(), outboxMessage.getPayload());
+		assertNull(outboxMessage.getPayloadJson());
+		assertEquals(OrderEventSerializer.AVRO_CONTENT_TYPE, outboxMessage.getContentType());
+	}
+
+	@Test
+	void avroIntsRoundTripAsZigZagVarints() {
+		ByteBuffer buffer = ByteBuffer.allocate(AvroBinary.MAX_INT_SIZE);
+		for (int value : new int[] { 0, -1, 1, 63, -64, 64, 1_000_000, Integer.MAX_VALUE, Integer.MIN_VALUE }) {
+			buffer.clear();
+			AvroBinary.writeInt(buffer, value);
+			buffer.flip();
+			assertEquals(value, AvroBinary.readInt(buffer));
+		}
+	}
+
+	@Test
+	void jsonPayloadStaysReadableText() throws Exception {
+		OutboxMessage outboxMessage = new OutboxMessage();
+		new OrderEventSerializer(objectMapper, schemaRegistry, "json")
+				.write(new OrderCreatedEvent(ORDER_ID, PRODUCT_ID, 3), outboxMessage);
+
+		assertEquals(new OrderCreatedEvent(ORDER_ID, PRODUCT_ID, 3),
+				objectMapper.readValue(outboxMessage.getPayloadJson(), OrderCreatedEvent.class));
+		assertNull(outboxMessage.getPayload());
+		assertEquals(OutboxMessage.DEFAULT_CONTENT_TYPE, outboxMessage.getContentType());
+		assertThrows(IllegalArgumentException.class, () -> new OrderEventSerializer(objectMapper, schemaRegistry, "xml"));
+	}
+}
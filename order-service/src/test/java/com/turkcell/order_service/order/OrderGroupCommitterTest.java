@@ -0,0 +1,104 @@
+package com.turkcell.order_service.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntUnaryOperator;
+
+import org.junit.jupiter.api.Test;
+
+class OrderGroupCommitterTest {
+
+	private static final int POISON_QUANTITY = 13;
+
+	private final List<Integer> committedBatches = new ArrayList<>();
+
+	@Test
+	void concurrentRequestsShareCommits() throws Exception {
+		OrderGroupCommitter committer = new OrderGroupCommitter(new RecordingOrderService(), true, 50, 5, 1_000);
+		committer.start();
+		List<Future<Order>> orders = submitConcurrently(committer, 1_000, i -> 1);
+		for (Future<Order> order : orders) {
+			assertEquals(1, order.get().getQuantity());
+		}
+		committer.stop();
+
+		synchronized (committedBatches) {
+			assertEquals(1_000, committedBatches.stream().mapToInt(Integer::intValue).sum());
+			assertTrue(committedBatches.stream().allMatch(size -> size <= 50), committedBatches.toString());
+			assertTrue(committedBatches.size() < 100, committedBatches.size() + " commits");
+		}
+	}
+
+	@Test
+	void failedBatchFailsOnlyTheBadOrder() throws Exception {
+		OrderGroupCommitter committer = new OrderGroupCommitter(new RecordingOrderService(), true, 50, 20, 1_000);
+		committer.start();
+		List<Future<Order>> orders = submitConcurrently(committer, 40, i -> i == 7 ? POISON_QUANTITY : 1);
+		for (int i = 0; i < orders.size(); i++) {
+			Future<Order> order = orders.get(i);
+			if (i == 7) {
+				ExecutionException failure = assertThrows(ExecutionException.class, order::get);
+				assertTrue(failure.getCause() instanceof IllegalStateException);
+			} else {
+				assertEquals(1, order.get().getQuantity());
+			}
+		}
+		committer.stop();
+	}
+
+	@Test
+	void invalidOrderIsRejectedBeforeQueueing() {
+		OrderGroupCommitter committer = new OrderGroupCommitter(new RecordingOrderService(), true, 50, 5, 1_000);
+		assertThrows(IllegalArgumentException.class, () -> committer.submit(UUID.randomUUID(), 0));
+		assertThrows(IllegalArgumentException.class,
+				() -> new OrderGroupCommitter(new RecordingOrderService(), true, 50, 5_000, 1_000));
+	}
+
+	private static List<Future<Order>> submitConcurrently(OrderGroupCommitter committer, int count,
+			IntUnaryOperator quantity) {
+		List<Future<Order>> orders = new ArrayList<>(count);
+		try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < count; i++) {
+				int index = i;
+				orders.add(clients.submit(() -> committer.submit(UUID.randomUUID(), quantity.applyAsInt(index))));
+			}
+		}
+		return orders;
+	}
+
+	/**
+	 * Takes a millisecond per commit like a database would, and fails any
+	 * transaction holding a poison order
+	 */
+	private final class RecordingOrderService extends OrderService {
+
+		RecordingOrderService() {
+			super(null, null, null, null, null);
+		}
+
+		@Override
+		public List<Order> createOrders(List<Order> orders) {
+			try {
+				Thread.sleep(1);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (orders.stream().anyMatch(order -> order.getQuantity() == POISON_QUANTITY)) {
+				throw new IllegalStateException("constraint violated");
+			}
+			synchronized (committedBatches) {
+				committedBatches.add(orders.size());
+			}
+			return orders;
+		}
+	}
+}
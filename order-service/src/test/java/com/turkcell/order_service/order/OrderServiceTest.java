@@ -0,0 +1,88 @@
+package com.turkcell.order_service.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Persistable;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.order_service.messaging.outbox.OutboxAppendedEvent;
+import com.turkcell.order_service.messaging.outbox.OutboxMessage;
+import com.turkcell.order_service.messaging.outbox.OutboxMetrics;
+import com.turkcell.order_service.messaging.outbox.OutboxRepository;
+import com.turkcell.order_service.messaging.schema.SchemaRegistry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OrderServiceTest {
+
+	private final OrderRepository orderRepository = mock(OrderRepository.class);
+	private final OutboxRepository outboxRepository = mock(OutboxRepository.class);
+	private final List<Object> published = new ArrayList<>();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void ordersAndTheirOutboxRowsArePersistedAsNewRowsInOneSaveAllPerTable() throws Exception {
+		UUID productId = UUID.randomUUID();
+		List<Order> orders = List.of(new Order(productId, 3), new Order(productId, 1));
+
+		List<Order> created = service(objectMapper).createOrders(orders);
+
+		assertEquals(orders, created);
+		ArgumentCaptor<List<Order>> savedOrders = ArgumentCaptor.forClass(List.class);
+		ArgumentCaptor<List<OutboxMessage>> savedMessages = ArgumentCaptor.forClass(List.class);
+		verify(orderRepository).saveAll(savedOrders.capture());
+		verify(outboxRepository).saveAll(savedMessages.capture());
+		assertEquals(orders, savedOrders.getValue());
+		assertEquals(2, savedMessages.getValue().size());
+		// An entity with an assigned id must still report itself as new, or
+		// Spring Data would merge it with a SELECT first
+		savedOrders.getValue().forEach(order -> assertTrue(((Persistable<?>) order).isNew()));
+		savedMessages.getValue().forEach(message -> assertTrue(((Persistable<?>) message).isNew()));
+
+		OutboxMessage outboxMessage = savedMessages.getValue().get(0);
+		assertEquals(orders.get(0).getId(), outboxMessage.getAggregateId());
+		assertEquals("OrderCreatedEvent", outboxMessage.getEventType());
+		JsonNode payload = objectMapper.readTree(outboxMessage.getPayloadJson());
+		assertEquals(orders.get(0).getId().toString(), payload.get("orderId").asText());
+		assertEquals(productId.toString(), payload.get("productId").asText());
+		assertEquals(3, payload.get("quantity").asInt());
+		assertEquals(List.of(new OutboxAppendedEvent()), published);
+	}
+
+	@Test
+	void serializationFailureWritesNothing() {
+		ObjectMapper failing = new ObjectMapper() {
+			@Override
+			public String writeValueAsString(Object value) throws JsonProcessingException {
+				throw new JsonMappingException(null, "not serializable");
+			}
+		};
+
+		assertThrows(IllegalStateException.class,
+				() -> service(failing).createOrders(List.of(new Order(UUID.randomUUID(), 1))));
+		verifyNoInteractions(orderRepository, outboxRepository);
+		assertTrue(published.isEmpty());
+	}
+
+	private OrderService service(ObjectMapper mapper) {
+		OrderEventSerializer serializer = new OrderEventSerializer(mapper, new SchemaRegistry(), "json");
+		return new OrderService(orderRepository, outboxRepository, serializer, published::add,
+				new OutboxMetrics(outboxRepository, new SimpleMeterRegistry()));
+	}
+}
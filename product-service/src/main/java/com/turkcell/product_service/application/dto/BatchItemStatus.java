@@ -0,0 +1,16 @@
+package com.turkcell.product_service.application.dto;
+
+/**
+ * Outcome of one item of a batch operation
+ */
+public enum BatchItemStatus {
+    CREATED,
+    UPDATED,
+    DELETED,
+    NOT_FOUND,
+    INVALID;
+
+    public boolean isSuccess() {
+        return this == CREATED || this == UPDATED || this == DELETED;
+    }
+}
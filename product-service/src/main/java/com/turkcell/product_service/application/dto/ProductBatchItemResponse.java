@@ -0,0 +1,81 @@
+package com.turkcell.product_service.application.dto;
+
+import java.util.UUID;
+
+/**
+ * Application DTO for the outcome of one item of a batch operation
+ * Holds the product on success and the reason on failure
+ */
+public class ProductBatchItemResponse {
+
+    private int index;
+    private UUID id;
+    private BatchItemStatus status;
+    private ProductResponse product;
+    private String error;
+
+    // Default constructor
+    public ProductBatchItemResponse() {
+    }
+
+    // Constructor with all fields
+    public ProductBatchItemResponse(int index, UUID id, BatchItemStatus status, ProductResponse product, String error) {
+        this.index = index;
+        this.id = id;
+        this.status = status;
+        this.product = product;
+        this.error = error;
+    }
+
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public BatchItemStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(BatchItemStatus status) {
+        this.status = status;
+    }
+
+    public ProductResponse getProduct() {
+        return product;
+    }
+
+    public void setProduct(ProductResponse product) {
+        this.product = product;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductBatchItemResponse{" +
+                "index=" + index +
+                ", id=" + id +
+                ", status=" + status +
+                ", product=" + product +
+                ", error='" + error + '\'' +
+                '}';
+    }
+}
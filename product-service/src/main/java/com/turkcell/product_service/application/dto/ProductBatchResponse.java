@@ -0,0 +1,58 @@
+package com.turkcell.product_service.application.dto;
+
+import java.util.List;
+
+/**
+ * Application DTO for the per-item results of a batch operation
+ */
+public class ProductBatchResponse {
+
+    private List<ProductBatchItemResponse> items;
+    private int succeededCount;
+    private int failedCount;
+
+    // Default constructor
+    public ProductBatchResponse() {
+    }
+
+    // Constructor with all fields
+    public ProductBatchResponse(List<ProductBatchItemResponse> items, int succeededCount, int failedCount) {
+        this.items = items;
+        this.succeededCount = succeededCount;
+        this.failedCount = failedCount;
+    }
+
+    // Getters and Setters
+    public List<ProductBatchItemResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ProductBatchItemResponse> items) {
+        this.items = items;
+    }
+
+    public int getSucceededCount() {
+        return succeededCount;
+    }
+
+    public void setSucceededCount(int succeededCount) {
+        this.succeededCount = succeededCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(int failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductBatchResponse{" +
+                "items=" + items +
+                ", succeededCount=" + succeededCount +
+                ", failedCount=" + failedCount +
+                '}';
+    }
+}
@@ -0,0 +1,47 @@
+package com.turkcell.product_service.application.dto;
+
+import java.util.List;
+
+/**
+ * Application DTO for a keyset page of products
+ */
+public class ProductPageResponse {
+
+    private List<ProductResponse> products;
+    private String nextCursor;
+
+    // Default constructor
+    public ProductPageResponse() {
+    }
+
+    // Constructor with all fields
+    public ProductPageResponse(List<ProductResponse> products, String nextCursor) {
+        this.products = products;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<ProductResponse> getProducts() {
+        return products;
+    }
+
+    public void setProducts(List<ProductResponse> products) {
+        this.products = products;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductPageResponse{" +
+                "products=" + products +
+                ", nextCursor='" + nextCursor + '\'' +
+                '}';
+    }
+}
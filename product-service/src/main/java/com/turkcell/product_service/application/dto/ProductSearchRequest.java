@@ -0,0 +1,104 @@
+package com.turkcell.product_service.application.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Application DTO for searching products
+ * Every filter is optional; null means the filter is not applied
+ */
+public class ProductSearchRequest {
+
+    private String currency;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private boolean inStock;
+    private String namePrefix;
+    private String query;
+    private int limit;
+
+    // Default constructor
+    public ProductSearchRequest() {
+    }
+
+    // Constructor with all fields
+    public ProductSearchRequest(String currency, BigDecimal minPrice, BigDecimal maxPrice, boolean inStock,
+            String namePrefix, String query, int limit) {
+        this.currency = currency;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.inStock = inStock;
+        this.namePrefix = namePrefix;
+        this.query = query;
+        this.limit = limit;
+    }
+
+    // Getters and Setters
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public BigDecimal getMinPrice() {
+        return minPrice;
+    }
+
+    public void setMinPrice(BigDecimal minPrice) {
+        this.minPrice = minPrice;
+    }
+
+    public BigDecimal getMaxPrice() {
+        return maxPrice;
+    }
+
+    public void setMaxPrice(BigDecimal maxPrice) {
+        this.maxPrice = maxPrice;
+    }
+
+    public boolean isInStock() {
+        return inStock;
+    }
+
+    public void setInStock(boolean inStock) {
+        this.inStock = inStock;
+    }
+
+    public String getNamePrefix() {
+        return namePrefix;
+    }
+
+    public void setNamePrefix(String namePrefix) {
+        this.namePrefix = namePrefix;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductSearchRequest{" +
+                "currency='" + currency + '\'' +
+                ", minPrice=" + minPrice +
+                ", maxPrice=" + maxPrice +
+                ", inStock=" + inStock +
+                ", namePrefix='" + namePrefix + '\'' +
+                ", query='" + query + '\'' +
+                ", limit=" + limit +
+                '}';
+    }
+}
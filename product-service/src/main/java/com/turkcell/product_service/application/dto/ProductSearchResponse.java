@@ -0,0 +1,36 @@
+package com.turkcell.product_service.application.dto;
+
+import java.util.List;
+
+/**
+ * Application DTO for product search results
+ */
+public class ProductSearchResponse {
+
+    private List<ProductResponse> products;
+
+    // Default constructor
+    public ProductSearchResponse() {
+    }
+
+    // Constructor with all fields
+    public ProductSearchResponse(List<ProductResponse> products) {
+        this.products = products;
+    }
+
+    // Getters and Setters
+    public List<ProductResponse> getProducts() {
+        return products;
+    }
+
+    public void setProducts(List<ProductResponse> products) {
+        this.products = products;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductSearchResponse{" +
+                "products=" + products +
+                '}';
+    }
+}
@@ -0,0 +1,56 @@
+package com.turkcell.product_service.application.dto;
+
+/**
+ * Application DTO for catalog statistics response
+ */
+public class ProductStatisticsResponse {
+
+    private int totalCount;
+    private int availableCount;
+    private int outOfStockCount;
+
+    // Default constructor
+    public ProductStatisticsResponse() {
+    }
+
+    // Constructor with all fields
+    public ProductStatisticsResponse(int totalCount, int availableCount, int outOfStockCount) {
+        this.totalCount = totalCount;
+        this.availableCount = availableCount;
+        this.outOfStockCount = outOfStockCount;
+    }
+
+    // Getters and Setters
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(int totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    public int getAvailableCount() {
+        return availableCount;
+    }
+
+    public void setAvailableCount(int availableCount) {
+        this.availableCount = availableCount;
+    }
+
+    public int getOutOfStockCount() {
+        return outOfStockCount;
+    }
+
+    public void setOutOfStockCount(int outOfStockCount) {
+        this.outOfStockCount = outOfStockCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductStatisticsResponse{" +
+                "totalCount=" + totalCount +
+                ", availableCount=" + availableCount +
+                ", outOfStockCount=" + outOfStockCount +
+                '}';
+    }
+}
@@ -0,0 +1,68 @@
+package com.turkcell.product_service.application.dto;
+
+/**
+ * Application DTO for the outcome of decrementing a product's stock for
+ * several orders
+ */
+public class StockDecrementResponse {
+
+    private int appliedCount;
+    private int rejectedCount;
+    private int skippedCount;
+    private int remainingStock;
+
+    // Default constructor
+    public StockDecrementResponse() {
+    }
+
+    // Constructor with all fields
+    public StockDecrementResponse(int appliedCount, int rejectedCount, int skippedCount, int remainingStock) {
+        this.appliedCount = appliedCount;
+        this.rejectedCount = rejectedCount;
+        this.skippedCount = skippedCount;
+        this.remainingStock = remainingStock;
+    }
+
+    // Getters and Setters
+    public int getAppliedCount() {
+        return appliedCount;
+    }
+
+    public void setAppliedCount(int appliedCount) {
+        this.appliedCount = appliedCount;
+    }
+
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public void setRejectedCount(int rejectedCount) {
+        this.rejectedCount = rejectedCount;
+    }
+
+    public int getSkippedCount() {
+        return skippedCount;
+    }
+
+    public void setSkippedCount(int skippedCount) {
+        this.skippedCount = skippedCount;
+    }
+
+    public int getRemainingStock() {
+        return remainingStock;
+    }
+
+    public void setRemainingStock(int remainingStock) {
+        this.remainingStock = remainingStock;
+    }
+
+    @Override
+    public String toString() {
+        return "StockDecrementResponse{" +
+                "appliedCount=" + appliedCount +
+                ", rejectedCount=" + rejectedCount +
+                ", skippedCount=" + skippedCount +
+                ", remainingStock=" + remainingStock +
+                '}';
+    }
+}
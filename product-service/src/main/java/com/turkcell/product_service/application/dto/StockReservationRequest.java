@@ -0,0 +1,39 @@
+package com.turkcell.product_service.application.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Application DTO for reserving or releasing product stock
+ */
+public class StockReservationRequest {
+
+    @NotNull(message = "Quantity is required")
+    @Min(value = 1, message = "Quantity must be at least 1")
+    private Integer quantity;
+
+    // Default constructor
+    public StockReservationRequest() {
+    }
+
+    // Constructor with all fields
+    public StockReservationRequest(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    // Getters and Setters
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    @Override
+    public String toString() {
+        return "StockReservationRequest{" +
+                "quantity=" + quantity +
+                '}';
+    }
+}
@@ -2,9 +2,15 @@ package com.turkcell.product_service.application.port;
 
 import com.turkcell.product_service.domain.entity.Product;
 import com.turkcell.product_service.domain.valueobject.ProductId;
+import com.turkcell.product_service.domain.valueobject.ProductSearchCriteria;
+import com.turkcell.product_service.domain.valueobject.ProductSortKey;
+import com.turkcell.product_service.domain.valueobject.ProductStatistics;
+import com.turkcell.product_service.domain.valueobject.Stock;
+import com.turkcell.product_service.domain.valueobject.StockDecrement;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Port interface for Product Repository operations
@@ -21,6 +27,14 @@ public interface ProductRepositoryPort {
      */
     Product save(Product product);
 
+    /**
+     * Saves several products in one pass
+     * 
+     * @param products the products to save
+     * @return the saved products
+     */
+    List<Product> saveAll(List<Product> products);
+
     /**
      * Finds a product by its ID
      * 
@@ -29,6 +43,14 @@ public interface ProductRepositoryPort {
      */
     Optional<Product> findById(ProductId productId);
 
+    /**
+     * Finds the products with the given IDs, skipping unknown ones
+     * 
+     * @param productIds the product IDs
+     * @return the products found
+     */
+    List<Product> findAllById(List<ProductId> productIds);
+
     /**
      * Finds all products
      * 
@@ -36,6 +58,25 @@ public interface ProductRepositoryPort {
      */
     List<Product> findAll();
 
+    /**
+     * Finds a page of products in listing order (createdAt, then id)
+     * 
+     * @param after the sort key of the last product of the previous page, null
+     *              for the first page
+     * @param limit the maximum number of products to return
+     * @return the products following the given key
+     */
+    List<Product> findPage(ProductSortKey after, int limit);
+
+    /**
+     * Finds products matching every filter of the criteria
+     * Served from secondary indexes, so the cost follows the result size
+     * 
+     * @param criteria the search filters and the maximum number of results
+     * @return the matching products
+     */
+    List<Product> findByCriteria(ProductSearchCriteria criteria);
+
     /**
      * Deletes a product by its ID
      * 
@@ -44,6 +85,14 @@ public interface ProductRepositoryPort {
      */
     boolean deleteById(ProductId productId);
 
+    /**
+     * Deletes several products in one pass
+     * 
+     * @param productIds the product IDs
+     * @return the IDs of the products that existed and were deleted
+     */
+    Set<ProductId> deleteAllById(List<ProductId> productIds);
+
     /**
      * Checks if a product exists by its ID
      * 
@@ -58,4 +107,40 @@ public interface ProductRepositoryPort {
      * @return the total number of products
      */
     long count();
+
+    /**
+     * Returns the catalog counts without scanning the products
+     * 
+     * @return the total, available and out-of-stock product counts
+     */
+    ProductStatistics statistics();
+
+    /**
+     * Atomically reserves stock of a product
+     * 
+     * @param productId the product ID
+     * @param amount    the amount to reserve
+     * @return Optional containing the updated product if found, empty otherwise
+     */
+    Optional<Product> reserveStock(ProductId productId, Stock amount);
+
+    /**
+     * Atomically releases previously reserved stock back to a product
+     * 
+     * @param productId the product ID
+     * @param amount    the amount to release
+     * @return Optional containing the updated product if found, empty otherwise
+     */
+    Optional<Product> releaseStock(ProductId productId, Stock amount);
+
+    /**
+     * Atomically takes stock of a product for several orders, skipping and
+     * recording their event ids
+     * 
+     * @param productId  the product ID
+     * @param eventIds   the event id of each order, null where it has none
+     * @param quantities the ordered quantities, oldest order first
+     * @return Optional containing the outcome if the product was found, empty otherwise
+     */
+    Optional<StockDecrement> decrementStock(ProductId productId, List<String> eventIds, List<Integer> quantities);
 }
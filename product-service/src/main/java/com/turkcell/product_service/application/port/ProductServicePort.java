@@ -1,11 +1,21 @@
 package com.turkcell.product_service.application.port;
 
+import com.turkcell.product_service.application.dto.BatchUpdateProductRequest;
 import com.turkcell.product_service.application.dto.CreateProductRequest;
+import com.turkcell.product_service.application.dto.ProductBatchResponse;
 import com.turkcell.product_service.application.dto.ProductListResponse;
+import com.turkcell.product_service.application.dto.ProductPageResponse;
 import com.turkcell.product_service.application.dto.ProductResponse;
+import com.turkcell.product_service.application.dto.ProductSearchRequest;
+import com.turkcell.product_service.application.dto.ProductSearchResponse;
+import com.turkcell.product_service.application.dto.ProductStatisticsResponse;
+import com.turkcell.product_service.application.dto.StockDecrementResponse;
+import com.turkcell.product_service.application.dto.StockReservationRequest;
 import com.turkcell.product_service.application.dto.UpdateProductRequest;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Port interface for Product Service operations
@@ -21,6 +31,15 @@ public interface ProductServicePort {
      */
     ProductResponse createProduct(CreateProductRequest request);
 
+    /**
+     * Creates several products; invalid items are reported and the valid ones
+     * are saved together
+     * 
+     * @param requests the create product requests
+     * @return the outcome of every item, in request order
+     */
+    ProductBatchResponse createProducts(List<CreateProductRequest> requests);
+
     /**
      * Gets all products
      * 
@@ -28,6 +47,41 @@ public interface ProductServicePort {
      */
     ProductListResponse getAllProducts();
 
+    /**
+     * Gets a page of products in listing order
+     * 
+     * @param limit  the maximum number of products on the page
+     * @param cursor the cursor returned with the previous page, null for the first
+     *               page
+     * @return the product page response
+     */
+    ProductPageResponse getProductPage(int limit, String cursor);
+
+    /**
+     * Gets the catalog statistics
+     * 
+     * @return the product statistics response
+     */
+    ProductStatisticsResponse getProductStatistics();
+
+    /**
+     * Searches products by keywords, currency, price range, availability and
+     * name prefix; keyword results are ranked by relevance
+     * 
+     * @param request the search filters
+     * @return the product search response
+     */
+    ProductSearchResponse searchProducts(ProductSearchRequest request);
+
+    /**
+     * Streams every product in listing order to the consumer
+     * Products are read one page at a time, so the whole catalog is never held
+     * in memory
+     * 
+     * @param consumer receives each product response
+     */
+    void exportProducts(Consumer<ProductResponse> consumer);
+
     /**
      * Gets a product by ID
      * 
@@ -45,10 +99,58 @@ public interface ProductServicePort {
      */
     ProductResponse updateProduct(UUID id, UpdateProductRequest request);
 
+    /**
+     * Updates several products; invalid and unknown items are reported and the
+     * others are saved together
+     * 
+     * @param requests the batch update requests
+     * @return the outcome of every item, in request order
+     */
+    ProductBatchResponse updateProducts(List<BatchUpdateProductRequest> requests);
+
     /**
      * Deletes a product
      * 
      * @param id the product ID
      */
     void deleteProduct(UUID id);
+
+    /**
+     * Deletes several products; unknown IDs are reported as not found
+     * 
+     * @param ids the product IDs
+     * @return the outcome of every item, in request order
+     */
+    ProductBatchResponse deleteProducts(List<UUID> ids);
+
+    /**
+     * Reserves stock of a product atomically
+     * 
+     * @param id      the product ID
+     * @param request the stock reservation request
+     * @return the updated product response
+     */
+    ProductResponse reserveStock(UUID id, StockReservationRequest request);
+
+    /**
+     * Decrements the stock of a product for several orders in one atomic step
+     * The orders are taken oldest first and those that do not fit are
+     * rejected; orders whose event id was already applied are skipped, and the
+     * event ids are recorded with the stock change
+     * 
+     * @param id         the product ID
+     * @param eventIds   the event id of each order, null where it has none
+     * @param quantities the ordered quantities, oldest order first
+     * @return the stock decrement response
+     */
+    StockDecrementResponse decrementStock(UUID id, List<String> eventIds, List<Integer> quantities);
+
+    /**
+     * Releases previously reserved stock of a product atomically
+     * 
+     * @param id      the product ID
+     * @param request the stock reservation request
+     * @return the updated product response
+     */
+    ProductResponse releaseStock(UUID id, StockReservationRequest request);
 }
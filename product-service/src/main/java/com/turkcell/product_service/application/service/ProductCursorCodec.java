@@ -0,0 +1,57 @@
+package com.turkcell.product_service.application.service;
+
+import com.turkcell.product_service.domain.valueobject.ProductSortKey;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Encodes listing positions as opaque, URL-safe page cursors
+ */
+final class ProductCursorCodec {
+
+    private static final int CURSOR_BYTES = 8 + 4 + 16;
+
+    private ProductCursorCodec() {
+    }
+
+    static String encode(ProductSortKey key) {
+        LocalDateTime createdAt = key.getCreatedAt();
+        UUID id = key.getId();
+        ByteBuffer buffer = ByteBuffer.allocate(CURSOR_BYTES)
+                .putLong(createdAt.toEpochSecond(ZoneOffset.UTC))
+                .putInt(createdAt.getNano())
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    static ProductSortKey decode(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid page cursor", e);
+        }
+        if (bytes.length != CURSOR_BYTES) {
+            throw new IllegalArgumentException("Invalid page cursor");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        if (nanos < 0 || nanos > 999_999_999) {
+            throw new IllegalArgumentException("Invalid page cursor");
+        }
+        LocalDateTime createdAt;
+        try {
+            createdAt = LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid page cursor", e);
+        }
+        return ProductSortKey.of(createdAt, new UUID(buffer.getLong(), buffer.getLong()));
+    }
+}
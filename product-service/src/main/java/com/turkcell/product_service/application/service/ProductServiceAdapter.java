@@ -1,19 +1,39 @@
 package com.turkcell.product_service.application.service;
 
+import com.turkcell.product_service.application.dto.BatchItemStatus;
+import com.turkcell.product_service.application.dto.BatchUpdateProductRequest;
 import com.turkcell.product_service.application.dto.CreateProductRequest;
+import com.turkcell.product_service.application.dto.ProductBatchItemResponse;
+import com.turkcell.product_service.application.dto.ProductBatchResponse;
 import com.turkcell.product_service.application.dto.ProductListResponse;
+import com.turkcell.product_service.application.dto.ProductPageResponse;
 import com.turkcell.product_service.application.dto.ProductResponse;
+import com.turkcell.product_service.application.dto.ProductSearchRequest;
+import com.turkcell.product_service.application.dto.ProductSearchResponse;
+import com.turkcell.product_service.application.dto.ProductStatisticsResponse;
+import com.turkcell.product_service.application.dto.StockDecrementResponse;
+import com.turkcell.product_service.application.dto.StockReservationRequest;
 import com.turkcell.product_service.application.dto.UpdateProductRequest;
 import com.turkcell.product_service.application.port.ProductRepositoryPort;
 import com.turkcell.product_service.application.port.ProductServicePort;
 import com.turkcell.product_service.domain.entity.Product;
+import com.turkcell.product_service.domain.exception.ProductDomainException;
 import com.turkcell.product_service.domain.exception.ProductNotFoundException;
 import com.turkcell.product_service.domain.valueobject.*;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Adapter implementation of ProductServicePort
@@ -22,6 +42,10 @@ import java.util.stream.Collectors;
 @Service
 public class ProductServiceAdapter implements ProductServicePort {
 
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int EXPORT_BATCH_SIZE = 500;
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final ProductRepositoryPort productRepositoryPort;
 
     public ProductServiceAdapter(ProductRepositoryPort productRepositoryPort) {
@@ -30,15 +54,8 @@ public class ProductServiceAdapter implements ProductServicePort {
 
     @Override
     public ProductResponse createProduct(CreateProductRequest request) {
-        // Create value objects
-        ProductName name = ProductName.of(request.getName());
-        Description description = Description.of(request.getDescription());
-        Price price = Price.of(request.getPrice());
-        Currency currency = Currency.of(request.getCurrency());
-        Stock stock = Stock.of(request.getStock());
-
         // Create product entity
-        Product product = Product.create(name, description, price, currency, stock);
+        Product product = toNewProduct(request);
 
         // Save product
         Product savedProduct = productRepositoryPort.save(product);
@@ -47,6 +64,33 @@ public class ProductServiceAdapter implements ProductServicePort {
         return convertToResponse(savedProduct);
     }
 
+    @Override
+    public ProductBatchResponse createProducts(List<CreateProductRequest> requests) {
+        requireBatchSize(requests.size());
+        ProductBatchItemResponse[] items = new ProductBatchItemResponse[requests.size()];
+        Product[] products = new Product[requests.size()];
+
+        // Value objects validate independently, so the items are checked in parallel
+        IntStream.range(0, requests.size()).parallel().forEach(i -> {
+            try {
+                products[i] = toNewProduct(requests.get(i));
+            } catch (IllegalArgumentException | ProductDomainException e) {
+                items[i] = failed(i, null, BatchItemStatus.INVALID, e.getMessage());
+            }
+        });
+
+        // Save every valid product in one repository pass
+        List<Product> valid = Arrays.stream(products).filter(Objects::nonNull).collect(Collectors.toList());
+        productRepositoryPort.saveAll(valid);
+
+        for (int i = 0; i < products.length; i++) {
+            if (products[i] != null) {
+                items[i] = succeeded(i, products[i], BatchItemStatus.CREATED);
+            }
+        }
+        return toBatchResponse(items);
+    }
+
     @Override
     public ProductListResponse getAllProducts() {
         List<Product> products = productRepositoryPort.findAll();
@@ -55,14 +99,74 @@ public class ProductServiceAdapter implements ProductServicePort {
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
 
-        // Calculate statistics
-        int totalCount = productResponses.size();
-        int availableCount = (int) productResponses.stream()
-                .filter(ProductResponse::isAvailable)
-                .count();
-        int outOfStockCount = totalCount - availableCount;
+        // Statistics are maintained by the repository on every change
+        ProductStatistics statistics = productRepositoryPort.statistics();
+
+        return new ProductListResponse(productResponses, statistics.getTotalCount(),
+                statistics.getAvailableCount(), statistics.getOutOfStockCount());
+    }
+
+    @Override
+    public ProductPageResponse getProductPage(int limit, String cursor) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        ProductSortKey after = cursor == null || cursor.isBlank() ? null : ProductCursorCodec.decode(cursor);
+
+        // Fetch one extra row to know whether another page follows
+        List<Product> products = productRepositoryPort.findPage(after, limit + 1);
+        boolean hasMore = products.size() > limit;
+        List<Product> page = hasMore ? products.subList(0, limit) : products;
+
+        List<ProductResponse> productResponses = page.stream()
+                .map(this::convertToResponse)
+                .collect(Collectors.toList());
+        String nextCursor = hasMore ? ProductCursorCodec.encode(ProductSortKey.of(page.get(page.size() - 1))) : null;
+
+        return new ProductPageResponse(productResponses, nextCursor);
+    }
+
+    @Override
+    public ProductStatisticsResponse getProductStatistics() {
+        ProductStatistics statistics = productRepositoryPort.statistics();
+        return new ProductStatisticsResponse(statistics.getTotalCount(), statistics.getAvailableCount(),
+                statistics.getOutOfStockCount());
+    }
+
+    @Override
+    public ProductSearchResponse searchProducts(ProductSearchRequest request) {
+        if (request.getLimit() < 1 || request.getLimit() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Search limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        ProductSearchCriteria criteria = ProductSearchCriteria.of(
+                request.getCurrency() == null ? null : Currency.of(request.getCurrency()),
+                request.getMinPrice() == null ? null : Price.of(request.getMinPrice()),
+                request.getMaxPrice() == null ? null : Price.of(request.getMaxPrice()),
+                request.isInStock(),
+                request.getNamePrefix(),
+                request.getQuery(),
+                request.getLimit());
+
+        List<ProductResponse> productResponses = productRepositoryPort.findByCriteria(criteria).stream()
+                .map(this::convertToResponse)
+                .collect(Collectors.toList());
+
+        return new ProductSearchResponse(productResponses);
+    }
 
-        return new ProductListResponse(productResponses, totalCount, availableCount, outOfStockCount);
+    @Override
+    public void exportProducts(Consumer<ProductResponse> consumer) {
+        ProductSortKey after = null;
+        List<Product> batch;
+        do {
+            batch = productRepositoryPort.findPage(after, EXPORT_BATCH_SIZE);
+            for (Product product : batch) {
+                consumer.accept(convertToResponse(product));
+            }
+            if (!batch.isEmpty()) {
+                after = ProductSortKey.of(batch.get(batch.size() - 1));
+            }
+        } while (batch.size() == EXPORT_BATCH_SIZE);
     }
 
     @Override
@@ -98,6 +202,63 @@ public class ProductServiceAdapter implements ProductServicePort {
         return convertToResponse(savedProduct);
     }
 
+    @Override
+    public ProductBatchResponse updateProducts(List<BatchUpdateProductRequest> requests) {
+        requireBatchSize(requests.size());
+        ProductBatchItemResponse[] items = new ProductBatchItemResponse[requests.size()];
+        ProductChanges[] changes = new ProductChanges[requests.size()];
+
+        // Value objects validate independently, so the items are checked in parallel
+        IntStream.range(0, requests.size()).parallel().forEach(i -> {
+            BatchUpdateProductRequest request = requests.get(i);
+            try {
+                changes[i] = toChanges(request);
+            } catch (IllegalArgumentException | ProductDomainException e) {
+                items[i] = failed(i, request == null ? null : request.getId(), BatchItemStatus.INVALID, e.getMessage());
+            }
+        });
+
+        // Load every product in one pass; an id may appear only once per batch
+        Set<ProductId> ids = new LinkedHashSet<>();
+        for (int i = 0; i < changes.length; i++) {
+            if (changes[i] != null && !ids.add(changes[i].id())) {
+                items[i] = failed(i, changes[i].id().getValue(), BatchItemStatus.INVALID,
+                        "Duplicate product id in batch: " + changes[i].id());
+                changes[i] = null;
+            }
+        }
+        Map<ProductId, Product> found = productRepositoryPort.findAllById(new ArrayList<>(ids)).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<Product> updated = new ArrayList<>(found.size());
+        Product[] products = new Product[changes.length];
+        for (int i = 0; i < changes.length; i++) {
+            if (changes[i] == null) {
+                continue;
+            }
+            Product product = found.get(changes[i].id());
+            if (product == null) {
+                items[i] = failed(i, changes[i].id().getValue(), BatchItemStatus.NOT_FOUND,
+                        "Product not found with id: " + changes[i].id());
+                continue;
+            }
+            product.updateInfo(changes[i].name(), changes[i].description(), changes[i].price(), changes[i].currency());
+            product.updateStock(changes[i].stock());
+            products[i] = product;
+            updated.add(product);
+        }
+
+        // Save every updated product in one repository pass
+        productRepositoryPort.saveAll(updated);
+
+        for (int i = 0; i < products.length; i++) {
+            if (products[i] != null) {
+                items[i] = succeeded(i, products[i], BatchItemStatus.UPDATED);
+            }
+        }
+        return toBatchResponse(items);
+    }
+
     @Override
     public void deleteProduct(UUID id) {
         ProductId productId = ProductId.of(id);
@@ -108,6 +269,146 @@ public class ProductServiceAdapter implements ProductServicePort {
         }
     }
 
+    @Override
+    public ProductBatchResponse deleteProducts(List<UUID> ids) {
+        requireBatchSize(ids.size());
+        ProductBatchItemResponse[] items = new ProductBatchItemResponse[ids.size()];
+        Set<ProductId> productIds = new LinkedHashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            UUID id = ids.get(i);
+            if (id == null) {
+                items[i] = failed(i, null, BatchItemStatus.INVALID, "Product id is required");
+            } else if (!productIds.add(ProductId.of(id))) {
+                items[i] = failed(i, id, BatchItemStatus.INVALID, "Duplicate product id in batch: " + id);
+            }
+        }
+
+        // Delete every product in one repository pass
+        Set<ProductId> deleted = productRepositoryPort.deleteAllById(new ArrayList<>(productIds));
+
+        for (int i = 0; i < items.length; i++) {
+            if (items[i] == null) {
+                UUID id = ids.get(i);
+                items[i] = deleted.contains(ProductId.of(id))
+                        ? new ProductBatchItemResponse(i, id, BatchItemStatus.DELETED, null, null)
+                        : failed(i, id, BatchItemStatus.NOT_FOUND, "Product not found with id: " + id);
+            }
+        }
+        return toBatchResponse(items);
+    }
+
+    @Override
+    public ProductResponse reserveStock(UUID id, StockReservationRequest request) {
+        ProductId productId = ProductId.of(id);
+        Stock amount = Stock.of(request.getQuantity());
+
+        Product product = productRepositoryPort.reserveStock(productId, amount)
+                .orElseThrow(() -> new ProductNotFoundException("Product not found with id: " + id));
+
+        return convertToResponse(product);
+    }
+
+    @Override
+    public StockDecrementResponse decrementStock(UUID id, List<String> eventIds, List<Integer> quantities) {
+        if (eventIds.size() != quantities.size()) {
+            throw new IllegalArgumentException("Every order needs an event id entry");
+        }
+        for (Integer quantity : quantities) {
+            if (quantity == null || quantity < 1) {
+                throw new IllegalArgumentException("Quantity must be at least 1");
+            }
+        }
+
+        StockDecrement decrement = productRepositoryPort.decrementStock(ProductId.of(id), eventIds, quantities)
+                .orElseThrow(() -> new ProductNotFoundException("Product not found with id: " + id));
+        return new StockDecrementResponse(decrement.getAppliedCount(), decrement.getRejectedCount(),
+                decrement.getSkippedCount(), decrement.getRemainingStock().getValue());
+    }
+
+    @Override
+    public ProductResponse releaseStock(UUID id, StockReservationRequest request) {
+        ProductId productId = ProductId.of(id);
+        Stock amount = Stock.of(request.getQuantity());
+
+        Product product = productRepositoryPort.releaseStock(productId, amount)
+                .orElseThrow(() -> new ProductNotFoundException("Product not found with id: " + id));
+
+        return convertToResponse(product);
+    }
+
+    /**
+     * Creates a product entity from a create request, validating every field
+     * 
+     * @param request the create product request
+     * @return the new product
+     */
+    private Product toNewProduct(CreateProductRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Batch item cannot be null");
+        }
+        // Create value objects
+        ProductName name = ProductName.of(request.getName());
+        Description description = Description.of(request.getDescription());
+        Price price = Price.of(request.getPrice());
+        Currency currency = Currency.of(request.getCurrency());
+        Stock stock = toStock(request.getStock());
+
+        return Product.create(name, description, price, currency, stock);
+    }
+
+    /**
+     * Validates the fields of a batch update item into value objects
+     * 
+     * @param request the batch update request
+     * @return the validated changes
+     */
+    private ProductChanges toChanges(BatchUpdateProductRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Batch item cannot be null");
+        }
+        if (request.getId() == null) {
+            throw new IllegalArgumentException("Product id is required");
+        }
+        return new ProductChanges(
+                ProductId.of(request.getId()),
+                ProductName.of(request.getName()),
+                Description.of(request.getDescription()),
+                Price.of(request.getPrice()),
+                Currency.of(request.getCurrency()),
+                toStock(request.getStock()));
+    }
+
+    private static Stock toStock(Integer stock) {
+        if (stock == null) {
+            throw new IllegalArgumentException("Stock cannot be null");
+        }
+        return Stock.of(stock);
+    }
+
+    private static void requireBatchSize(int size) {
+        if (size < 1 || size > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch size must be between 1 and " + MAX_BATCH_SIZE);
+        }
+    }
+
+    private ProductBatchItemResponse succeeded(int index, Product product, BatchItemStatus status) {
+        return new ProductBatchItemResponse(index, product.getId().getValue(), status, convertToResponse(product), null);
+    }
+
+    private static ProductBatchItemResponse failed(int index, UUID id, BatchItemStatus status, String error) {
+        return new ProductBatchItemResponse(index, id, status, null, error);
+    }
+
+    private static ProductBatchResponse toBatchResponse(ProductBatchItemResponse[] items) {
+        int succeeded = 0;
+        for (ProductBatchItemResponse item : items) {
+            if (item.getStatus().isSuccess()) {
+                succeeded++;
+            }
+        }
+        return new ProductBatchResponse(Arrays.asList(items), succeeded, items.length - succeeded);
+    }
+
     /**
      * Converts a Product entity to ProductResponse DTO
      * 
@@ -131,4 +432,11 @@ public class ProductServiceAdapter implements ProductServicePort {
 
         return response;
     }
+
+    /**
+     * Validated fields of one batch update item
+     */
+    private record ProductChanges(ProductId id, ProductName name, Description description, Price price,
+            Currency currency, Stock stock) {
+    }
 }
@@ -1,10 +1,13 @@
 package com.turkcell.product_service.application.usecase;
 
 import com.turkcell.product_service.application.dto.CreateProductRequest;
+import com.turkcell.product_service.application.dto.ProductBatchResponse;
 import com.turkcell.product_service.application.dto.ProductResponse;
 import com.turkcell.product_service.application.port.ProductServicePort;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Use case for creating a new product
  */
@@ -26,4 +29,14 @@ public class CreateProductUseCase {
     public ProductResponse execute(CreateProductRequest request) {
         return productServicePort.createProduct(request);
     }
+
+    /**
+     * Executes the create product use case for a batch
+     * 
+     * @param requests the create product requests
+     * @return the outcome of every item, in request order
+     */
+    public ProductBatchResponse executeBatch(List<CreateProductRequest> requests) {
+        return productServicePort.createProducts(requests);
+    }
 }
@@ -0,0 +1,33 @@
+package com.turkcell.product_service.application.usecase;
+
+import com.turkcell.product_service.application.dto.StockDecrementResponse;
+import com.turkcell.product_service.application.port.ProductServicePort;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use case for decrementing product stock for placed orders
+ */
+@Component
+public class DecrementStockUseCase {
+
+    private final ProductServicePort productServicePort;
+
+    public DecrementStockUseCase(ProductServicePort productServicePort) {
+        this.productServicePort = productServicePort;
+    }
+
+    /**
+     * Executes the decrement stock use case
+     * 
+     * @param id         the product ID
+     * @param eventIds   the event id of each order, null where it has none
+     * @param quantities the ordered quantities, oldest order first
+     * @return the stock decrement response
+     */
+    public StockDecrementResponse execute(UUID id, List<String> eventIds, List<Integer> quantities) {
+        return productServicePort.decrementStock(id, eventIds, quantities);
+    }
+}
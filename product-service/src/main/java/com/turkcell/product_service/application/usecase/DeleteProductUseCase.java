@@ -1,8 +1,10 @@
 package com.turkcell.product_service.application.usecase;
 
+import com.turkcell.product_service.application.dto.ProductBatchResponse;
 import com.turkcell.product_service.application.port.ProductServicePort;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -25,4 +27,14 @@ public class DeleteProductUseCase {
     public void execute(UUID id) {
         productServicePort.deleteProduct(id);
     }
+
+    /**
+     * Executes the delete product use case for a batch
+     * 
+     * @param ids the product IDs
+     * @return the outcome of every item, in request order
+     */
+    public ProductBatchResponse executeBatch(List<UUID> ids) {
+        return productServicePort.deleteProducts(ids);
+    }
 }
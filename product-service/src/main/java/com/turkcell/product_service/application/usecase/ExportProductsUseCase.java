@@ -0,0 +1,29 @@
+package com.turkcell.product_service.application.usecase;
+
+import com.turkcell.product_service.application.dto.ProductResponse;
+import com.turkcell.product_service.application.port.ProductServicePort;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * Use case for exporting the whole catalog
+ */
+@Component
+public class ExportProductsUseCase {
+
+    private final ProductServicePort productServicePort;
+
+    public ExportProductsUseCase(ProductServicePort productServicePort) {
+        this.productServicePort = productServicePort;
+    }
+
+    /**
+     * Executes the export products use case
+     * 
+     * @param consumer receives every product in listing order
+     */
+    public void execute(Consumer<ProductResponse> consumer) {
+        productServicePort.exportProducts(consumer);
+    }
+}
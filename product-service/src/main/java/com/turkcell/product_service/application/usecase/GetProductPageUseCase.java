@@ -0,0 +1,30 @@
+package com.turkcell.product_service.application.usecase;
+
+import com.turkcell.product_service.application.dto.ProductPageResponse;
+import com.turkcell.product_service.application.port.ProductServicePort;
+import org.springframework.stereotype.Component;
+
+/**
+ * Use case for getting a page of products
+ */
+@Component
+public class GetProductPageUseCase {
+
+    private final ProductServicePort productServicePort;
+
+    public GetProductPageUseCase(ProductServicePort productServicePort) {
+        this.productServicePort = productServicePort;
+    }
+
+    /**
+     * Executes the get product page use case
+     * 
+     * @param limit  the maximum number of products on the page
+     * @param cursor the cursor returned with the previous page, null for the first
+     *               page
+     * @return the product page response
+     */
+    public ProductPageResponse execute(int limit, String cursor) {
+        return productServicePort.getProductPage(limit, cursor);
+    }
+}
@@ -0,0 +1,27 @@
+package com.turkcell.product_service.application.usecase;
+
+import com.turkcell.product_service.application.dto.ProductStatisticsResponse;
+import com.turkcell.product_service.application.port.ProductServicePort;
+import org.springframework.stereotype.Component;
+
+/**
+ * Use case for getting catalog statistics
+ */
+@Component
+public class GetProductStatisticsUseCase {
+
+    private final ProductServicePort productServicePort;
+
+    public GetProductStatisticsUseCase(ProductServicePort productServicePort) {
+        this.productServicePort = productServicePort;
+    }
+
+    /**
+     * Executes the get product statistics use case
+     * 
+     * @return the product statistics response
+     */
+    public ProductStatisticsResponse execute() {
+        return productServicePort.getProductStatistics();
+    }
+}
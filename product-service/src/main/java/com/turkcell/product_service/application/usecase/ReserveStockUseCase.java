@@ -0,0 +1,32 @@
+package com.turkcell.product_service.application.usecase;
+
+import com.turkcell.product_service.application.dto.ProductResponse;
+import com.turkcell.product_service.application.dto.StockReservationRequest;
+import com.turkcell.product_service.application.port.ProductServicePort;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Use case for reserving product stock
+ */
+@Component
+public class ReserveStockUseCase {
+
+    private final ProductServicePort productServicePort;
+
+    public ReserveStockUseCase(ProductServicePort productServicePort) {
+        this.productServicePort = productServicePort;
+    }
+
+    /**
+     * Executes the reserve stock use case
+     * 
+     * @param id      the product ID
+     * @param request the stock reservation request
+     * @return the updated product response
+     */
+    public ProductResponse execute(UUID id, StockReservationRequest request) {
+        return productServicePort.reserveStock(id, request);
+    }
+}
@@ -0,0 +1,29 @@
+package com.turkcell.product_service.application.usecase;
+
+import com.turkcell.product_service.application.dto.ProductSearchRequest;
+import com.turkcell.product_service.application.dto.ProductSearchResponse;
+import com.turkcell.product_service.application.port.ProductServicePort;
+import org.springframework.stereotype.Component;
+
+/**
+ * Use case for searching products
+ */
+@Component
+public class SearchProductsUseCase {
+
+    private final ProductServicePort productServicePort;
+
+    public SearchProductsUseCase(ProductServicePort productServicePort) {
+        this.productServicePort = productServicePort;
+    }
+
+    /**
+     * Executes the search products use case
+     * 
+     * @param request the search filters
+     * @return the product search response
+     */
+    public ProductSearchResponse execute(ProductSearchRequest request) {
+        return productServicePort.searchProducts(request);
+    }
+}
@@ -1,10 +1,13 @@
 package com.turkcell.product_service.application.usecase;
 
+import com.turkcell.product_service.application.dto.BatchUpdateProductRequest;
+import com.turkcell.product_service.application.dto.ProductBatchResponse;
 import com.turkcell.product_service.application.dto.ProductResponse;
 import com.turkcell.product_service.application.dto.UpdateProductRequest;
 import com.turkcell.product_service.application.port.ProductServicePort;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -29,4 +32,14 @@ public class UpdateProductUseCase {
     public ProductResponse execute(UUID id, UpdateProductRequest request) {
         return productServicePort.updateProduct(id, request);
     }
+
+    /**
+     * Executes the update product use case for a batch
+     * 
+     * @param requests the batch update requests
+     * @return the outcome of every item, in request order
+     */
+    public ProductBatchResponse executeBatch(List<BatchUpdateProductRequest> requests) {
+        return productServicePort.updateProducts(requests);
+    }
 }
@@ -102,6 +102,14 @@ public class Product {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Creates a detached copy of this product
+     * Used by repositories to swap product state without mutating a shared instance
+     */
+    public Product copy() {
+        return new Product(id, name, description, price, currency, stock, createdAt, updatedAt);
+    }
+
     /**
      * Checks if the product is available (has stock)
      */
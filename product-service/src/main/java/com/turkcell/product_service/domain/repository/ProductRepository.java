@@ -2,9 +2,15 @@ package com.turkcell.product_service.domain.repository;
 
 import com.turkcell.product_service.domain.entity.Product;
 import com.turkcell.product_service.domain.valueobject.ProductId;
+import com.turkcell.product_service.domain.valueobject.ProductSearchCriteria;
+import com.turkcell.product_service.domain.valueobject.ProductSortKey;
+import com.turkcell.product_service.domain.valueobject.ProductStatistics;
+import com.turkcell.product_service.domain.valueobject.Stock;
+import com.turkcell.product_service.domain.valueobject.StockDecrement;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for Product entity
@@ -19,6 +25,13 @@ public interface ProductRepository {
      */
     Product save(Product product);
     
+    /**
+     * Saves several products in one pass, with a single durability wait
+     * @param products the products to save
+     * @return the saved products
+     */
+    List<Product> saveAll(List<Product> products);
+    
     /**
      * Finds a product by its ID
      * @param productId the product ID
@@ -26,12 +39,34 @@ public interface ProductRepository {
      */
     Optional<Product> findById(ProductId productId);
     
+    /**
+     * Finds the products with the given IDs, skipping unknown ones
+     * @param productIds the product IDs
+     * @return the products found
+     */
+    List<Product> findAllById(List<ProductId> productIds);
+    
     /**
      * Finds all products
      * @return list of all products
      */
     List<Product> findAll();
     
+    /**
+     * Finds a page of products in listing order (createdAt, then id)
+     * @param after the sort key of the last product of the previous page, null for the first page
+     * @param limit the maximum number of products to return
+     * @return the products following the given key
+     */
+    List<Product> findPage(ProductSortKey after, int limit);
+    
+    /**
+     * Finds products matching every filter of the criteria using secondary indexes
+     * @param criteria the search filters and the maximum number of results
+     * @return the matching products
+     */
+    List<Product> findByCriteria(ProductSearchCriteria criteria);
+    
     /**
      * Deletes a product by its ID
      * @param productId the product ID
@@ -39,6 +74,13 @@ public interface ProductRepository {
      */
     boolean deleteById(ProductId productId);
     
+    /**
+     * Deletes several products in one pass, with a single durability wait
+     * @param productIds the product IDs
+     * @return the IDs of the products that existed and were deleted
+     */
+    Set<ProductId> deleteAllById(List<ProductId> productIds);
+    
     /**
      * Checks if a product exists by its ID
      * @param productId the product ID
@@ -51,4 +93,41 @@ public interface ProductRepository {
      * @return the total number of products
      */
     long count();
+    
+    /**
+     * Returns the catalog counts kept up to date on every change
+     * @return the total, available and out-of-stock product counts
+     */
+    ProductStatistics statistics();
+
+    /**
+     * Atomically reserves stock of a product
+     * @param productId the product ID
+     * @param amount the amount to reserve
+     * @return Optional containing the updated product if found, empty otherwise
+     * @throws com.turkcell.product_service.domain.exception.InsufficientStockException if stock is not enough
+     */
+    Optional<Product> reserveStock(ProductId productId, Stock amount);
+
+    /**
+     * Atomically releases previously reserved stock back to a product
+     * @param productId the product ID
+     * @param amount the amount to release
+     * @return Optional containing the updated product if found, empty otherwise
+     */
+    Optional<Product> releaseStock(ProductId productId, Stock amount);
+
+    /**
+     * Atomically takes stock of a product for several orders, oldest first;
+     * each order is taken whole, or rejected when the remaining stock cannot
+     * cover it. Orders whose event id was already applied are skipped, and the
+     * ids of the orders taken or rejected are stored in the same atomic step
+     * as the stock change, so a redelivered order is not applied twice, also
+     * after a restart
+     * @param productId the product ID
+     * @param eventIds the event id of each order, null where it has none
+     * @param quantities the ordered quantities, each at least 1
+     * @return Optional containing the outcome if the product was found, empty otherwise
+     */
+    Optional<StockDecrement> decrementStock(ProductId productId, List<String> eventIds, List<Integer> quantities);
 }
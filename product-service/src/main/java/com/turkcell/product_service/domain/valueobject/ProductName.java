@@ -1,11 +1,17 @@
 package com.turkcell.product_service.domain.valueobject;
 
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
 /**
  * ProductName Value Object
  * Represents the name of a product
  * Immutable and self-validating
  */
 public final class ProductName {
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
     private final String value;
 
     private ProductName(String value) {
@@ -26,6 +32,25 @@ public final class ProductName {
         return value;
     }
 
+    /**
+     * Returns the name in the form used for searching
+     */
+    public String getNormalizedValue() {
+        return normalize(value);
+    }
+
+    /**
+     * Normalizes text for case and accent insensitive matching
+     * Diacritics are removed and the text is lower-cased, so "İnce Çay" and
+     * "ince cay" compare equal
+     */
+    public static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text.trim(), Normalizer.Form.NFKD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("")
+                .replace('ı', 'i')
+                .toLowerCase(Locale.ROOT);
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj)
@@ -0,0 +1,116 @@
+package com.turkcell.product_service.domain.valueobject;
+
+import com.turkcell.product_service.domain.entity.Product;
+
+/**
+ * ProductSearchCriteria Value Object
+ * Filters of a catalog search; every filter is optional but at least one is required
+ * A keyword query ranks the results by relevance, the other filters narrow them
+ * Immutable and self-validating
+ */
+public final class ProductSearchCriteria {
+    private final Currency currency;
+    private final Price minPrice;
+    private final Price maxPrice;
+    private final boolean inStockOnly;
+    private final String namePrefix;
+    private final String query;
+    private final int limit;
+
+    private ProductSearchCriteria(Currency currency, Price minPrice, Price maxPrice, boolean inStockOnly,
+            String namePrefix, String query, int limit) {
+        if ((minPrice != null || maxPrice != null) && currency == null) {
+            throw new IllegalArgumentException("Currency is required when filtering by price");
+        }
+        if (minPrice != null && maxPrice != null && minPrice.getValue().compareTo(maxPrice.getValue()) > 0) {
+            throw new IllegalArgumentException("Minimum price cannot exceed maximum price");
+        }
+        String normalizedPrefix = namePrefix == null || namePrefix.isBlank() ? null : ProductName.normalize(namePrefix);
+        String trimmedQuery = query == null || query.isBlank() ? null : query.trim();
+        if (currency == null && !inStockOnly && normalizedPrefix == null && trimmedQuery == null) {
+            throw new IllegalArgumentException("At least one search filter is required");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Search limit must be positive");
+        }
+        this.currency = currency;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.inStockOnly = inStockOnly;
+        this.namePrefix = normalizedPrefix;
+        this.query = trimmedQuery;
+        this.limit = limit;
+    }
+
+    public static ProductSearchCriteria of(Currency currency, Price minPrice, Price maxPrice, boolean inStockOnly,
+            String namePrefix, String query, int limit) {
+        return new ProductSearchCriteria(currency, minPrice, maxPrice, inStockOnly, namePrefix, query, limit);
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    public Price getMinPrice() {
+        return minPrice;
+    }
+
+    public Price getMaxPrice() {
+        return maxPrice;
+    }
+
+    public boolean isInStockOnly() {
+        return inStockOnly;
+    }
+
+    /**
+     * Returns the name prefix in normalized form, null when not filtering by name
+     */
+    public String getNamePrefix() {
+        return namePrefix;
+    }
+
+    /**
+     * Returns the keyword query, null when not searching by keywords
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * Checks whether any filter other than the keyword query is set
+     */
+    public boolean hasAttributeFilters() {
+        return currency != null || inStockOnly || namePrefix != null;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Checks a product against every filter except the keyword query
+     */
+    public boolean matches(Product product) {
+        if (currency != null && !currency.equals(product.getCurrency())) {
+            return false;
+        }
+        if (minPrice != null && product.getPrice().getValue().compareTo(minPrice.getValue()) < 0) {
+            return false;
+        }
+        if (maxPrice != null && product.getPrice().getValue().compareTo(maxPrice.getValue()) > 0) {
+            return false;
+        }
+        if (inStockOnly && !product.isAvailable()) {
+            return false;
+        }
+        return namePrefix == null || product.getName().getNormalizedValue().startsWith(namePrefix);
+    }
+
+    @Override
+    public String toString() {
+        return "ProductSearchCriteria{currency=" + currency + ", minPrice=" + minPrice + ", maxPrice=" + maxPrice
+                + ", inStockOnly=" + inStockOnly + ", namePrefix=" + namePrefix + ", query=" + query + ", limit=" + limit
+                + "}";
+    }
+}
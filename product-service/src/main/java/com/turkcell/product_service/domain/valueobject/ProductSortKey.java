@@ -0,0 +1,83 @@
+package com.turkcell.product_service.domain.valueobject;
+
+import com.turkcell.product_service.domain.entity.Product;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * ProductSortKey Value Object
+ * Position of a product in the catalog listing order (createdAt, then id)
+ * Immutable and self-validating; kept as primitives so ordered indexes stay compact
+ */
+public final class ProductSortKey implements Comparable<ProductSortKey> {
+    private final long createdEpochSecond;
+    private final int createdNano;
+    private final long idMostSignificantBits;
+    private final long idLeastSignificantBits;
+
+    private ProductSortKey(LocalDateTime createdAt, UUID id) {
+        if (createdAt == null) {
+            throw new IllegalArgumentException("Created date cannot be null");
+        }
+        if (id == null) {
+            throw new IllegalArgumentException("Product id cannot be null");
+        }
+        this.createdEpochSecond = createdAt.toEpochSecond(ZoneOffset.UTC);
+        this.createdNano = createdAt.getNano();
+        this.idMostSignificantBits = id.getMostSignificantBits();
+        this.idLeastSignificantBits = id.getLeastSignificantBits();
+    }
+
+    public static ProductSortKey of(LocalDateTime createdAt, UUID id) {
+        return new ProductSortKey(createdAt, id);
+    }
+
+    public static ProductSortKey of(Product product) {
+        return new ProductSortKey(product.getCreatedAt(), product.getId().getValue());
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return LocalDateTime.ofEpochSecond(createdEpochSecond, createdNano, ZoneOffset.UTC);
+    }
+
+    public UUID getId() {
+        return new UUID(idMostSignificantBits, idLeastSignificantBits);
+    }
+
+    @Override
+    public int compareTo(ProductSortKey other) {
+        int result = Long.compare(createdEpochSecond, other.createdEpochSecond);
+        if (result == 0) {
+            result = Integer.compare(createdNano, other.createdNano);
+        }
+        if (result == 0) {
+            result = Long.compare(idMostSignificantBits, other.idMostSignificantBits);
+        }
+        if (result == 0) {
+            result = Long.compare(idLeastSignificantBits, other.idLeastSignificantBits);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null || getClass() != obj.getClass())
+            return false;
+        ProductSortKey that = (ProductSortKey) obj;
+        return compareTo(that) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(idMostSignificantBits ^ idLeastSignificantBits);
+    }
+
+    @Override
+    public String toString() {
+        return getCreatedAt() + "/" + getId();
+    }
+}
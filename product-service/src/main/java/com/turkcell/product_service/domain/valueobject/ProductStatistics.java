@@ -0,0 +1,58 @@
+package com.turkcell.product_service.domain.valueobject;
+
+/**
+ * ProductStatistics Value Object
+ * Product counts of the catalog at one point in time
+ * Immutable and self-validating
+ */
+public final class ProductStatistics {
+    private final int totalCount;
+    private final int availableCount;
+
+    private ProductStatistics(int totalCount, int availableCount) {
+        if (totalCount < 0 || availableCount < 0) {
+            throw new IllegalArgumentException("Product counts cannot be negative");
+        }
+        if (availableCount > totalCount) {
+            throw new IllegalArgumentException("Available count cannot exceed total count");
+        }
+        this.totalCount = totalCount;
+        this.availableCount = availableCount;
+    }
+
+    public static ProductStatistics of(int totalCount, int availableCount) {
+        return new ProductStatistics(totalCount, availableCount);
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    public int getAvailableCount() {
+        return availableCount;
+    }
+
+    public int getOutOfStockCount() {
+        return totalCount - availableCount;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null || getClass() != obj.getClass())
+            return false;
+        ProductStatistics that = (ProductStatistics) obj;
+        return totalCount == that.totalCount && availableCount == that.availableCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * totalCount + availableCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductStatistics{total=" + totalCount + ", available=" + availableCount + "}";
+    }
+}
@@ -0,0 +1,70 @@
+package com.turkcell.product_service.domain.valueobject;
+
+/**
+ * StockDecrement Value Object
+ * Outcome of taking a product's stock for several orders: how many orders
+ * were taken, rejected for insufficient stock or skipped as already applied,
+ * and the stock left afterwards
+ * Immutable and self-validating
+ */
+public final class StockDecrement {
+    private final int appliedCount;
+    private final int rejectedCount;
+    private final int skippedCount;
+    private final Stock remainingStock;
+
+    private StockDecrement(int appliedCount, int rejectedCount, int skippedCount, Stock remainingStock) {
+        if (appliedCount < 0 || rejectedCount < 0 || skippedCount < 0) {
+            throw new IllegalArgumentException("Order counts cannot be negative");
+        }
+        if (remainingStock == null) {
+            throw new IllegalArgumentException("Remaining stock cannot be null");
+        }
+        this.appliedCount = appliedCount;
+        this.rejectedCount = rejectedCount;
+        this.skippedCount = skippedCount;
+        this.remainingStock = remainingStock;
+    }
+
+    public static StockDecrement of(int appliedCount, int rejectedCount, int skippedCount, Stock remainingStock) {
+        return new StockDecrement(appliedCount, rejectedCount, skippedCount, remainingStock);
+    }
+
+    public int getAppliedCount() {
+        return appliedCount;
+    }
+
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public int getSkippedCount() {
+        return skippedCount;
+    }
+
+    public Stock getRemainingStock() {
+        return remainingStock;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null || getClass() != obj.getClass())
+            return false;
+        StockDecrement that = (StockDecrement) obj;
+        return appliedCount == that.appliedCount && rejectedCount == that.rejectedCount
+                && skippedCount == that.skippedCount && remainingStock.equals(that.remainingStock);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * (31 * appliedCount + rejectedCount) + skippedCount) + remainingStock.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "StockDecrement{applied=" + appliedCount + ", rejected=" + rejectedCount + ", skipped="
+                + skippedCount + ", remaining=" + remainingStock + "}";
+    }
+}
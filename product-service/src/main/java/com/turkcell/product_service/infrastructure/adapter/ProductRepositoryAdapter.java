@@ -2,53 +2,106 @@ package com.turkcell.product_service.infrastructure.adapter;
 
 import com.turkcell.product_service.application.port.ProductRepositoryPort;
 import com.turkcell.product_service.domain.entity.Product;
+import com.turkcell.product_service.domain.repository.ProductRepository;
 import com.turkcell.product_service.domain.valueobject.ProductId;
-import com.turkcell.product_service.infrastructure.repository.InMemoryProductRepository;
+import com.turkcell.product_service.domain.valueobject.ProductSearchCriteria;
+import com.turkcell.product_service.domain.valueobject.ProductSortKey;
+import com.turkcell.product_service.domain.valueobject.ProductStatistics;
+import com.turkcell.product_service.domain.valueobject.Stock;
+import com.turkcell.product_service.domain.valueobject.StockDecrement;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Adapter implementation of ProductRepositoryPort
  * Bridges the application layer with the infrastructure layer
+ * Delegates to whichever ProductRepository the active profile provides
  */
 @Component
 public class ProductRepositoryAdapter implements ProductRepositoryPort {
 
-    private final InMemoryProductRepository inMemoryProductRepository;
+    private final ProductRepository productRepository;
 
-    public ProductRepositoryAdapter(InMemoryProductRepository inMemoryProductRepository) {
-        this.inMemoryProductRepository = inMemoryProductRepository;
+    public ProductRepositoryAdapter(ProductRepository productRepository) {
+        this.productRepository = productRepository;
     }
 
     @Override
     public Product save(Product product) {
-        return inMemoryProductRepository.save(product);
+        return productRepository.save(product);
+    }
+
+    @Override
+    public List<Product> saveAll(List<Product> products) {
+        return productRepository.saveAll(products);
     }
 
     @Override
     public Optional<Product> findById(ProductId productId) {
-        return inMemoryProductRepository.findById(productId);
+        return productRepository.findById(productId);
+    }
+
+    @Override
+    public List<Product> findAllById(List<ProductId> productIds) {
+        return productRepository.findAllById(productIds);
     }
 
     @Override
     public List<Product> findAll() {
-        return inMemoryProductRepository.findAll();
+        return productRepository.findAll();
+    }
+
+    @Override
+    public List<Product> findPage(ProductSortKey after, int limit) {
+        return productRepository.findPage(after, limit);
+    }
+
+    @Override
+    public List<Product> findByCriteria(ProductSearchCriteria criteria) {
+        return productRepository.findByCriteria(criteria);
     }
 
     @Override
     public boolean deleteById(ProductId productId) {
-        return inMemoryProductRepository.deleteById(productId);
+        return productRepository.deleteById(productId);
+    }
+
+    @Override
+    public Set<ProductId> deleteAllById(List<ProductId> productIds) {
+        return productRepository.deleteAllById(productIds);
     }
 
     @Override
     public boolean existsById(ProductId productId) {
-        return inMemoryProductRepository.existsById(productId);
+        return productRepository.existsById(productId);
     }
 
     @Override
     public long count() {
-        return inMemoryProductRepository.count();
+        return productRepository.count();
+    }
+
+    @Override
+    public ProductStatistics statistics() {
+        return productRepository.statistics();
+    }
+
+    @Override
+    public Optional<Product> reserveStock(ProductId productId, Stock amount) {
+        return productRepository.reserveStock(productId, amount);
+    }
+
+    @Override
+    public Optional<Product> releaseStock(ProductId productId, Stock amount) {
+        return productRepository.releaseStock(productId, amount);
+    }
+
+    @Override
+    public Optional<StockDecrement> decrementStock(ProductId productId, List<String> eventIds,
+            List<Integer> quantities) {
+        return productRepository.decrementStock(productId, eventIds, quantities);
     }
 }
@@ -0,0 +1,36 @@
+package com.turkcell.product_service.infrastructure.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Connection pool for JdbcProductRepository (profile "jdbc")
+ * The driver prepares a statement on the server from its first execution and
+ * keeps it in a per-connection cache, so the fixed SQL texts of the repository
+ * are parsed and planned once per pooled connection
+ */
+@Configuration
+@Profile("jdbc")
+public class ProductDataSourceConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource productDataSource(
+            @Value("${product.repository.jdbc.url}") String url,
+            @Value("${product.repository.jdbc.username}") String username,
+            @Value("${product.repository.jdbc.password}") String password,
+            @Value("${product.repository.jdbc.maximum-pool-size:16}") int maximumPoolSize) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("product-db");
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.addDataSourceProperty("prepareThreshold", 1);
+        config.addDataSourceProperty("preparedStatementCacheQueries", 256);
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,240 @@
+package com.turkcell.product_service.infrastructure.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
+
+/**
+ * Append-only log with group commit
+ * Writers copy their frames into a shared buffer; a single flusher thread writes
+ * whatever accumulated while the previous fsync was running and fsyncs it once,
+ * so concurrent writers share the cost of each fsync
+ * On close the flusher writes what is pending and completes a requested
+ * rotation before it exits; waiting for anything after that fails instead of
+ * blocking forever
+ */
+final class GroupCommitLog implements AutoCloseable {
+
+    private static final int INITIAL_BUFFER_SIZE = 1 << 20;
+
+    private final LongFunction<Path> segmentPath;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition pendingAvailable = lock.newCondition();
+    private final Condition flushed = lock.newCondition();
+    private final Thread flusher;
+
+    private ByteBuffer pending = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private ByteBuffer writing = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private FileChannel segment;
+    private long segmentNumber;
+    private long appended;
+    private long durable;
+    private boolean rotateRequested;
+    private boolean running = true;
+    private boolean stopped;
+    private IOException failure;
+
+    GroupCommitLog(LongFunction<Path> segmentPath, long firstSegment) {
+        this.segmentPath = segmentPath;
+        this.segmentNumber = firstSegment;
+        this.segment = open(firstSegment);
+        this.flusher = new Thread(this::flushLoop, "product-journal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Buffers a frame for the next group commit
+     *
+     * @return the log position to pass to {@link #awaitDurable}
+     */
+    long append(byte[] frame) {
+        lock.lock();
+        try {
+            if (pending.remaining() < frame.length) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + frame.length));
+                pending.flip();
+                larger.put(pending);
+                pending = larger;
+            }
+            pending.put(frame);
+            appended++;
+            pendingAvailable.signal();
+            return appended;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long lastAppended() {
+        lock.lock();
+        try {
+            return appended;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void awaitDurable(long position) {
+        lock.lock();
+        try {
+            while (durable < position) {
+                checkUsable();
+                flushed.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the product journal", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the current segment after everything appended so far is durable
+     * and continues in a new one; callers must stop appends while rotating
+     *
+     * @return the number of the new segment
+     */
+    long rotate() {
+        lock.lock();
+        try {
+            checkUsable();
+            rotateRequested = true;
+            pendingAvailable.signal();
+            while (rotateRequested) {
+                checkUsable();
+                flushed.await();
+            }
+            return segmentNumber;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rotating the product journal", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            running = false;
+            pendingAvailable.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+            segment.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close product journal", e);
+        }
+    }
+
+    /**
+     * Fails a waiter the flusher will never wake; the lock must be held
+     */
+    private void checkUsable() {
+        if (failure != null) {
+            throw new UncheckedIOException("Product journal write failed", failure);
+        }
+        if (stopped) {
+            throw new IllegalStateException("Product journal is closed");
+        }
+    }
+
+    private void flushLoop() {
+        try {
+            flushUntilClosed();
+        } finally {
+            lock.lock();
+            try {
+                stopped = true;
+                flushed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void flushUntilClosed() {
+        while (true) {
+            long target;
+            boolean rotate;
+            FileChannel channel;
+            lock.lock();
+            try {
+                while (running && pending.position() == 0 && !rotateRequested) {
+                    pendingAvailable.awaitUninterruptibly();
+                }
+                if (!running && pending.position() == 0 && !rotateRequested) {
+                    return;
+                }
+                ByteBuffer swap = writing;
+                writing = pending;
+                pending = swap;
+                target = appended;
+                rotate = rotateRequested;
+                channel = segment;
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                writing.flip();
+                while (writing.hasRemaining()) {
+                    channel.write(writing);
+                }
+                writing.clear();
+                channel.force(false);
+                if (rotate) {
+                    FileChannel next = open(segmentNumber + 1);
+                    channel.close();
+                    lock.lock();
+                    try {
+                        segment = next;
+                        segmentNumber++;
+                        rotateRequested = false;
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+            } catch (IOException | UncheckedIOException e) {
+                lock.lock();
+                try {
+                    failure = e instanceof IOException io ? io : ((UncheckedIOException) e).getCause();
+                    flushed.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            }
+
+            lock.lock();
+            try {
+                durable = target;
+                flushed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private FileChannel open(long number) {
+        try {
+            return FileChannel.open(segmentPath.apply(number), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open product journal segment " + number, e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.turkcell.product_service.infrastructure.journal;
+
+import com.turkcell.product_service.domain.entity.Product;
+import com.turkcell.product_service.domain.valueobject.ProductId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Journal used when durability is disabled; the catalog lives only in memory
+ */
+@Component
+@Profile("!durable")
+public class NoOpProductJournal implements ProductJournal {
+
+    @Override
+    public void recover(Map<UUID, Product> products, Consumer<String> appliedEvents) {
+    }
+
+    @Override
+    public <T> T commit(Supplier<T> mutation) {
+        return mutation.get();
+    }
+
+    @Override
+    public void logSave(Product product) {
+    }
+
+    @Override
+    public void logSave(Product product, Collection<String> appliedEvents) {
+    }
+
+    @Override
+    public void logDelete(ProductId productId) {
+    }
+
+    @Override
+    public void startCheckpoints(Supplier<Collection<Product>> products, Supplier<Collection<String>> appliedEvents) {
+    }
+}
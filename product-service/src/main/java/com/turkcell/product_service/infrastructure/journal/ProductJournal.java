@@ -0,0 +1,66 @@
+package com.turkcell.product_service.infrastructure.journal;
+
+import com.turkcell.product_service.domain.entity.Product;
+import com.turkcell.product_service.domain.valueobject.ProductId;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Durability layer for the in-memory product catalog
+ * Records every state change so that the catalog can be rebuilt after a restart
+ */
+public interface ProductJournal {
+
+    /**
+     * Rebuilds the catalog state from durable storage
+     * 
+     * @param products      the map to load recovered products into
+     * @param appliedEvents receives the recovered applied order event ids, oldest first
+     */
+    void recover(Map<UUID, Product> products, Consumer<String> appliedEvents);
+
+    /**
+     * Runs a mutation of the in-memory catalog and returns once the records
+     * it appended are durable
+     * 
+     * @param mutation the mutation, which calls {@link #logSave} or {@link #logDelete}
+     * @return the result of the mutation
+     */
+    <T> T commit(Supplier<T> mutation);
+
+    /**
+     * Appends the full state of a product; must be called inside {@link #commit}
+     * 
+     * @param product the saved product
+     */
+    void logSave(Product product);
+
+    /**
+     * Appends the full state of a product together with the ids of the order
+     * events applied to it, as one record, so after a crash either both or
+     * neither are recovered; must be called inside {@link #commit}
+     * 
+     * @param product       the saved product
+     * @param appliedEvents the ids of the order events applied to it
+     */
+    void logSave(Product product, Collection<String> appliedEvents);
+
+    /**
+     * Appends a product deletion; must be called inside {@link #commit}
+     * 
+     * @param productId the deleted product ID
+     */
+    void logDelete(ProductId productId);
+
+    /**
+     * Starts periodic snapshots of the catalog
+     * 
+     * @param products      supplier of the current catalog contents
+     * @param appliedEvents supplier of the applied order event ids to keep, oldest first
+     */
+    void startCheckpoints(Supplier<Collection<Product>> products, Supplier<Collection<String>> appliedEvents);
+}
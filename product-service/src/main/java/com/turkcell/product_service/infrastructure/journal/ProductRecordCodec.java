@@ -0,0 +1,202 @@
+package com.turkcell.product_service.infrastructure.journal;
+
+import com.turkcell.product_service.domain.entity.Product;
+import com.turkcell.product_service.domain.valueobject.Currency;
+import com.turkcell.product_service.domain.valueobject.Description;
+import com.turkcell.product_service.domain.valueobject.Price;
+import com.turkcell.product_service.domain.valueobject.ProductId;
+import com.turkcell.product_service.domain.valueobject.ProductName;
+import com.turkcell.product_service.domain.valueobject.Stock;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary encoding of journal records
+ * A frame is [int payload length][int CRC32C][payload]; the payload is a type
+ * byte and the product id, followed by the full product state for saves
+ * A save may end with the order event ids applied with it, as an int count and
+ * [short length][UTF-8] per id, so the stock change and its ids share one
+ * checksummed frame. Snapshots carry the ids still in the window as
+ * applied-events records, which hold only the count and the ids
+ */
+final class ProductRecordCodec {
+
+    static final int FRAME_HEADER_SIZE = 8;
+
+    private static final byte SAVE = 1;
+    private static final byte DELETE = 2;
+    private static final byte APPLIED_EVENTS = 3;
+    private static final int PRICE_SCALE = 2;
+
+    private ProductRecordCodec() {
+    }
+
+    static byte[] encodeSave(Product product) {
+        return encodeSave(product, List.of());
+    }
+
+    static byte[] encodeSave(Product product, Collection<String> appliedEvents) {
+        byte[] name = product.getName().getValue().getBytes(StandardCharsets.UTF_8);
+        byte[] description = product.getDescription().getValue().getBytes(StandardCharsets.UTF_8);
+        byte[] currency = product.getCurrency().getValue().getBytes(StandardCharsets.UTF_8);
+        List<byte[]> eventIds = encodeStrings(appliedEvents);
+        ByteBuffer payload = ByteBuffer.allocate(1 + 16 + 4 + name.length + 4 + description.length
+                + 8 + 1 + currency.length + 4 + 24 + stringsSize(eventIds));
+        payload.put(SAVE);
+        putId(payload, product.getId().getValue());
+        payload.putInt(name.length).put(name);
+        payload.putInt(description.length).put(description);
+        payload.putLong(product.getPrice().getValue().setScale(PRICE_SCALE).unscaledValue().longValueExact());
+        payload.put((byte) currency.length).put(currency);
+        payload.putInt(product.getStock().getValue());
+        putTimestamp(payload, product.getCreatedAt());
+        putTimestamp(payload, product.getUpdatedAt());
+        putStrings(payload, eventIds);
+        return frame(payload.array());
+    }
+
+    static byte[] encodeDelete(UUID id) {
+        ByteBuffer payload = ByteBuffer.allocate(1 + 16);
+        payload.put(DELETE);
+        putId(payload, id);
+        return frame(payload.array());
+    }
+
+    static byte[] encodeAppliedEvents(Collection<String> appliedEvents) {
+        List<byte[]> eventIds = encodeStrings(appliedEvents);
+        ByteBuffer payload = ByteBuffer.allocate(1 + stringsSize(eventIds));
+        payload.put(APPLIED_EVENTS);
+        putStrings(payload, eventIds);
+        return frame(payload.array());
+    }
+
+    /**
+     * Applies every valid frame in the buffer to the map and hands the order
+     * event ids it carries to appliedEvents, in log order
+     *
+     * @return the position just after the last valid frame
+     */
+    static int replay(ByteBuffer frames, Map<UUID, Product> products, Consumer<String> appliedEvents) {
+        CRC32C crc = new CRC32C();
+        while (frames.remaining() >= FRAME_HEADER_SIZE) {
+            int start = frames.position();
+            int length = frames.getInt();
+            int checksum = frames.getInt();
+            if (length <= 0 || length > frames.remaining()) {
+                return start;
+            }
+            ByteBuffer payload = frames.slice(frames.position(), length);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                return start;
+            }
+            apply(payload, products, appliedEvents);
+            frames.position(frames.position() + length);
+        }
+        return frames.position();
+    }
+
+    private static void apply(ByteBuffer payload, Map<UUID, Product> products, Consumer<String> appliedEvents) {
+        byte type = payload.get();
+        if (type == APPLIED_EVENTS) {
+            getStrings(payload, appliedEvents);
+            return;
+        }
+        UUID id = new UUID(payload.getLong(), payload.getLong());
+        if (type == DELETE) {
+            products.remove(id);
+            return;
+        }
+        String name = getString(payload, payload.getInt());
+        String description = getString(payload, payload.getInt());
+        BigDecimal price = BigDecimal.valueOf(payload.getLong(), PRICE_SCALE);
+        String currency = getString(payload, payload.get());
+        int stock = payload.getInt();
+        LocalDateTime createdAt = getTimestamp(payload);
+        LocalDateTime updatedAt = getTimestamp(payload);
+        products.put(id, Product.reconstruct(ProductId.of(id), ProductName.of(name), Description.of(description),
+                Price.of(price), Currency.of(currency), Stock.of(stock), createdAt, updatedAt));
+        // Saves without event ids, including those written before ids were journaled, end here
+        getStrings(payload, appliedEvents);
+    }
+
+    private static byte[] frame(byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        return ByteBuffer.allocate(FRAME_HEADER_SIZE + payload.length)
+                .putInt(payload.length)
+                .putInt((int) crc.getValue())
+                .put(payload)
+                .array();
+    }
+
+    private static void putId(ByteBuffer buffer, UUID id) {
+        buffer.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+    }
+
+    private static void putTimestamp(ByteBuffer buffer, LocalDateTime value) {
+        buffer.putLong(value.toEpochSecond(ZoneOffset.UTC)).putInt(value.getNano());
+    }
+
+    private static LocalDateTime getTimestamp(ByteBuffer buffer) {
+        return LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+    }
+
+    private static String getString(ByteBuffer buffer, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static List<byte[]> encodeStrings(Collection<String> values) {
+        List<byte[]> encoded = new ArrayList<>(values.size());
+        for (String value : values) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("Event id longer than " + Short.MAX_VALUE + " bytes");
+            }
+            encoded.add(bytes);
+        }
+        return encoded;
+    }
+
+    private static int stringsSize(List<byte[]> encoded) {
+        if (encoded.isEmpty()) {
+            return 0;
+        }
+        int size = 4;
+        for (byte[] bytes : encoded) {
+            size += 2 + bytes.length;
+        }
+        return size;
+    }
+
+    private static void putStrings(ByteBuffer buffer, List<byte[]> encoded) {
+        if (encoded.isEmpty()) {
+            return;
+        }
+        buffer.putInt(encoded.size());
+        for (byte[] bytes : encoded) {
+            buffer.putShort((short) bytes.length).put(bytes);
+        }
+    }
+
+    private static void getStrings(ByteBuffer buffer, Consumer<String> values) {
+        int count = buffer.hasRemaining() ? buffer.getInt() : 0;
+        for (int i = 0; i < count; i++) {
+            values.accept(getString(buffer, buffer.getShort()));
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.turkcell.product_service.infrastructure.journal;
+
+import com.turkcell.product_service.domain.entity.Product;
+import com.turkcell.product_service.domain.valueobject.ProductId;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Write-ahead journal for the in-memory catalog (profile "durable")
+ * Every change is appended to the current wal-N.log segment and fsynced in
+ * groups. A checkpoint rotates to a new segment, writes snapshot-N.snap with
+ * the catalog state and the applied order event ids, and deletes older
+ * segments and snapshots. Recovery maps the latest snapshot and replays the
+ * segments written after it.
+ */
+@Component
+@Profile("durable")
+public class WriteAheadProductJournal implements ProductJournal {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteAheadProductJournal.class);
+
+    private static final Pattern SEGMENT = Pattern.compile("wal-(\\d+)\\.log");
+    private static final Pattern SNAPSHOT = Pattern.compile("snapshot-(\\d+)\\.snap");
+    private static final long CHECKPOINT_SHUTDOWN_SECONDS = 30;
+    private static final int EVENTS_PER_SNAPSHOT_RECORD = 1024;
+
+    private final Path directory;
+    private final long snapshotIntervalSeconds;
+    private final ReentrantReadWriteLock checkpointBarrier = new ReentrantReadWriteLock();
+    private final ScheduledExecutorService checkpointExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "product-journal-checkpoint");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private GroupCommitLog log;
+    private long lastCheckpointPosition = -1;
+
+    public WriteAheadProductJournal(
+            @Value("${product.repository.journal.directory:./data/product-journal}") String directory,
+            @Value("${product.repository.journal.snapshot-interval-seconds:300}") long snapshotIntervalSeconds) {
+        this.directory = Path.of(directory);
+        this.snapshotIntervalSeconds = snapshotIntervalSeconds;
+        try {
+            Files.createDirectories(this.directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create product journal directory " + directory, e);
+        }
+    }
+
+    @Override
+    public void recover(Map<UUID, Product> products, Consumer<String> appliedEvents) {
+        long snapshot = latest(SNAPSHOT);
+        if (snapshot > 0) {
+            try (FileChannel channel = FileChannel.open(snapshotPath(snapshot), StandardOpenOption.READ)) {
+                ProductRecordCodec.replay(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), products,
+                        appliedEvents);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read product snapshot " + snapshot, e);
+            }
+        }
+
+        for (long segment : numbers(SEGMENT)) {
+            if (segment >= snapshot) {
+                replaySegment(segment, products, appliedEvents);
+            }
+        }
+
+        // Start a fresh segment so a torn tail is never appended to
+        this.log = new GroupCommitLog(this::segmentPath, Math.max(latest(SEGMENT), snapshot) + 1);
+    }
+
+    @Override
+    public <T> T commit(Supplier<T> mutation) {
+        T result;
+        long position;
+        checkpointBarrier.readLock().lock();
+        try {
+            result = mutation.get();
+            position = log.lastAppended();
+        } finally {
+            checkpointBarrier.readLock().unlock();
+        }
+        log.awaitDurable(position);
+        return result;
+    }
+
+    @Override
+    public void logSave(Product product) {
+        log.append(ProductRecordCodec.encodeSave(product));
+    }
+
+    @Override
+    public void logSave(Product product, Collection<String> appliedEvents) {
+        log.append(ProductRecordCodec.encodeSave(product, appliedEvents));
+    }
+
+    @Override
+    public void logDelete(ProductId productId) {
+        log.append(ProductRecordCodec.encodeDelete(productId.getValue()));
+    }
+
+    @Override
+    public void startCheckpoints(Supplier<Collection<Product>> products, Supplier<Collection<String>> appliedEvents) {
+        checkpointExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                checkpoint(products, appliedEvents);
+            } catch (RuntimeException e) {
+                logger.error("Product journal checkpoint failed, keeping the existing log", e);
+            }
+        }, snapshotIntervalSeconds, snapshotIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Writes a snapshot and truncates the log
+     * Changes made while the snapshot is being written land in the new segment
+     * and are replayed on top of it; records carry full product state, so
+     * replaying a change the snapshot already contains is harmless, and so is
+     * adding an event id the window already holds
+     */
+    void checkpoint(Supplier<Collection<Product>> products, Supplier<Collection<String>> appliedEvents) {
+        long segment;
+        checkpointBarrier.writeLock().lock();
+        try {
+            long position = log.lastAppended();
+            if (position == lastCheckpointPosition) {
+                return;
+            }
+            lastCheckpointPosition = position;
+            segment = log.rotate();
+        } finally {
+            checkpointBarrier.writeLock().unlock();
+        }
+
+        Path temporary = directory.resolve("snapshot.tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16);
+            for (Product product : products.get()) {
+                out.write(ProductRecordCodec.encodeSave(product));
+            }
+            List<String> eventIds = new ArrayList<>(appliedEvents.get());
+            for (int from = 0; from < eventIds.size(); from += EVENTS_PER_SNAPSHOT_RECORD) {
+                out.write(ProductRecordCodec.encodeAppliedEvents(
+                        eventIds.subList(from, Math.min(from + EVENTS_PER_SNAPSHOT_RECORD, eventIds.size()))));
+            }
+            out.flush();
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write product snapshot", e);
+        }
+
+        try {
+            Files.move(temporary, snapshotPath(segment), StandardCopyOption.ATOMIC_MOVE);
+            for (long old : numbers(SNAPSHOT)) {
+                if (old < segment) {
+                    Files.deleteIfExists(snapshotPath(old));
+                }
+            }
+            for (long old : numbers(SEGMENT)) {
+                if (old < segment) {
+                    Files.deleteIfExists(segmentPath(old));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot install product snapshot", e);
+        }
+    }
+
+    /**
+     * Waits for a running checkpoint before closing the log, so the checkpoint
+     * never rotates a log that is gone
+     */
+    @PreDestroy
+    public void close() {
+        checkpointExecutor.shutdown();
+        try {
+            if (!checkpointExecutor.awaitTermination(CHECKPOINT_SHUTDOWN_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("Product journal checkpoint still running after {} s, closing the log under it",
+                        CHECKPOINT_SHUTDOWN_SECONDS);
+                checkpointExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (log != null) {
+            log.close();
+        }
+    }
+
+    private void replaySegment(long segment, Map<UUID, Product> products, Consumer<String> appliedEvents) {
+        // Replay stops at the first torn or corrupt frame, which can only be the
+        // tail written during a crash; later segments were started after recovery
+        try (FileChannel channel = FileChannel.open(segmentPath(segment), StandardOpenOption.READ)) {
+            ProductRecordCodec.replay(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), products,
+                    appliedEvents);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot replay product journal segment " + segment, e);
+        }
+    }
+
+    private long latest(Pattern pattern) {
+        List<Long> numbers = numbers(pattern);
+        return numbers.isEmpty() ? 0 : numbers.get(numbers.size() - 1);
+    }
+
+    private List<Long> numbers(Pattern pattern) {
+        List<Long> numbers = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                Matcher matcher = pattern.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    numbers.add(Long.parseLong(matcher.group(1)));
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list product journal directory " + directory, e);
+        }
+        numbers.sort(null);
+        return numbers;
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(String.format("wal-%020d.log", number));
+    }
+
+    private Path snapshotPath(long number) {
+        return directory.resolve(String.format("snapshot-%020d.snap", number));
+    }
+}
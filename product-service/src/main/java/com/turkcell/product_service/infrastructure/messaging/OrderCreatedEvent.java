@@ -0,0 +1,15 @@
+package com.turkcell.product_service.infrastructure.messaging;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * OrderCreatedEvent as published by order-service on order-topic
+ * Orders carry no quantity yet, so a missing quantity means one unit
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record OrderCreatedEvent(String productId, Integer quantity) {
+
+    public int quantityOrDefault() {
+        return quantity == null ? 1 : quantity;
+    }
+}
@@ -0,0 +1,89 @@
+package com.turkcell.product_service.infrastructure.messaging;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Reads OrderCreatedEvent payloads written by order-service in Avro binary
+ * A payload is a magic byte and the 4-byte registry id of its schema, followed
+ * by the record: orderId and productId as 16-byte fixed values and quantity as
+ * a zig-zag varint (schemas/order-created-v1.avsc)
+ * The ids come from the same schemas/registry.properties order-service writes
+ * with, kept as a copy that OrderCreatedEventAvroDecoderTest compares with
+ * order-service's; a payload with any other id is rejected rather than misread
+ */
+final class OrderCreatedEventAvroDecoder {
+
+    static final String CONTENT_TYPE = "application/vnd.order-created+avro";
+
+    private static final String REGISTRY = "schemas/registry.properties";
+    private static final String SCHEMA_FILE = "order-created-v1.avsc";
+    private static final byte MAGIC = 0;
+
+    private final Set<Integer> schemaIds = new HashSet<>();
+
+    OrderCreatedEventAvroDecoder() {
+        Properties registry = new Properties();
+        try (InputStream in = OrderCreatedEventAvroDecoder.class.getClassLoader().getResourceAsStream(REGISTRY)) {
+            if (in == null) {
+                throw new IOException(REGISTRY + " not found on the classpath");
+            }
+            registry.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read the schema registry", e);
+        }
+        for (String id : registry.stringPropertyNames()) {
+            if (registry.getProperty(id).trim().equals(SCHEMA_FILE)) {
+                schemaIds.add(Integer.valueOf(id.trim()));
+            }
+        }
+        if (schemaIds.isEmpty()) {
+            throw new IllegalStateException("Schema " + SCHEMA_FILE + " is not registered");
+        }
+    }
+
+    /**
+     * Decodes a payload, throwing IllegalArgumentException when it is not an
+     * OrderCreatedEvent of a known schema
+     */
+    OrderCreatedEvent decode(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        try {
+            if (buffer.get() != MAGIC) {
+                throw new IllegalArgumentException("Not a schema-framed Avro payload");
+            }
+            int schemaId = buffer.getInt();
+            if (!schemaIds.contains(schemaId)) {
+                throw new IllegalArgumentException("Unknown schema id " + schemaId);
+            }
+            buffer.position(buffer.position() + 16); // orderId
+            UUID productId = new UUID(buffer.getLong(), buffer.getLong());
+            int quantity = readInt(buffer);
+            if (buffer.hasRemaining()) {
+                throw new IllegalArgumentException("Trailing bytes after the record");
+            }
+            return new OrderCreatedEvent(productId.toString(), quantity);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated Avro payload", e);
+        }
+    }
+
+    private static int readInt(ByteBuffer buffer) {
+        int zigZag = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            zigZag |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return (zigZag >>> 1) ^ -(zigZag & 1);
+            }
+        }
+        throw new IllegalArgumentException("Malformed Avro int");
+    }
+}
@@ -0,0 +1,182 @@
+package com.turkcell.product_service.infrastructure.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.product_service.application.dto.StockDecrementResponse;
+import com.turkcell.product_service.application.usecase.DecrementStockUseCase;
+import com.turkcell.product_service.domain.exception.ProductNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Batch consumer of order-topic (binding orderCreated-in-0) that takes stock
+ * for placed orders
+ * The events of a poll are grouped by product, so each product gets one
+ * aggregated decrement per batch however many of its orders the batch holds.
+ * Each decrement passes the outbox event ids of its orders, and the store
+ * skips ids it has already applied and records the others in the same atomic
+ * step as the stock change. Offsets are acknowledged only after every product
+ * of the batch is updated; a batch redelivered after a failure, a restart or a
+ * rebalance skips the orders whose stock was already taken
+ * Malformed events and unknown products are logged and skipped, since
+ * redelivering them cannot succeed. Any other failure of a decrement, such as
+ * a database or journal error, nacks the whole batch so it is redelivered
+ * after a backoff that doubles up to a cap while the failures last; no order
+ * is dropped, and the products already updated skip their orders by event id
+ * Each record's contentType header tells its payload format: JSON, or the Avro
+ * binary order-service writes with outbox.payload-format=avro
+ */
+@Component("orderCreated")
+public class OrderCreatedEventConsumer implements Consumer<Message<List<byte[]>>> {
+
+    static final String EVENT_ID_HEADER = "eventId";
+    static final String CONTENT_TYPE_HEADER = "contentType";
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderCreatedEventConsumer.class);
+
+    private final DecrementStockUseCase decrementStockUseCase;
+    private final ObjectMapper objectMapper;
+    private final long retryBackoffMillis;
+    private final long maxRetryBackoffMillis;
+    private final OrderCreatedEventAvroDecoder avroDecoder = new OrderCreatedEventAvroDecoder();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    public OrderCreatedEventConsumer(DecrementStockUseCase decrementStockUseCase, ObjectMapper objectMapper,
+            @Value("${product.messaging.order-events.retry-backoff-ms:1000}") long retryBackoffMillis,
+            @Value("${product.messaging.order-events.max-retry-backoff-ms:60000}") long maxRetryBackoffMillis) {
+        if (retryBackoffMillis < 1 || maxRetryBackoffMillis < retryBackoffMillis) {
+            throw new IllegalArgumentException("Retry backoff must be positive and at most the maximum backoff");
+        }
+        this.decrementStockUseCase = decrementStockUseCase;
+        this.objectMapper = objectMapper;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.maxRetryBackoffMillis = maxRetryBackoffMillis;
+    }
+
+    @Override
+    public void accept(Message<List<byte[]>> message) {
+        List<byte[]> payloads = message.getPayload();
+        List<?> recordHeaders = message.getHeaders().get(KafkaHeaders.BATCH_CONVERTED_HEADERS, List.class);
+
+        Map<UUID, ProductOrders> ordersByProduct = new LinkedHashMap<>();
+        Set<String> batchEventIds = new HashSet<>();
+        for (int i = 0; i < payloads.size(); i++) {
+            String eventId = header(recordHeaders, i, EVENT_ID_HEADER);
+            if (eventId != null && !batchEventIds.add(eventId)) {
+                continue;
+            }
+            OrderCreatedEvent event = parse(payloads.get(i), header(recordHeaders, i, CONTENT_TYPE_HEADER));
+            if (event == null) {
+                continue;
+            }
+            ordersByProduct.computeIfAbsent(UUID.fromString(event.productId()), productId -> new ProductOrders())
+                    .add(eventId, event.quantityOrDefault());
+        }
+
+        for (Map.Entry<UUID, ProductOrders> entry : ordersByProduct.entrySet()) {
+            ProductOrders orders = entry.getValue();
+            try {
+                StockDecrementResponse response = decrementStockUseCase.execute(entry.getKey(), orders.eventIds,
+                        orders.quantities);
+                if (response.getRejectedCount() > 0) {
+                    logger.warn("Rejected {} of {} orders of product {} for insufficient stock",
+                            response.getRejectedCount(), orders.quantities.size(), entry.getKey());
+                }
+                if (response.getSkippedCount() > 0) {
+                    logger.info("Skipped {} already applied orders of product {}", response.getSkippedCount(),
+                            entry.getKey());
+                }
+            } catch (ProductNotFoundException | IllegalArgumentException e) {
+                logger.warn("Skipping {} orders of product {}: {}", orders.quantities.size(), entry.getKey(),
+                        e.getMessage());
+            } catch (RuntimeException e) {
+                redeliver(message, entry.getKey(), e);
+                return;
+            }
+        }
+
+        consecutiveFailures.set(0);
+        Acknowledgment acknowledgment = message.getHeaders().get(KafkaHeaders.ACKNOWLEDGMENT, Acknowledgment.class);
+        if (acknowledgment != null) {
+            acknowledgment.acknowledge();
+        }
+    }
+
+    /**
+     * Nacks the batch so the container seeks back to its first record and
+     * polls it again after the backoff; without manual acknowledgement the
+     * failure is left to the binder
+     */
+    private void redeliver(Message<List<byte[]>> message, UUID productId, RuntimeException failure) {
+        Acknowledgment acknowledgment = message.getHeaders().get(KafkaHeaders.ACKNOWLEDGMENT, Acknowledgment.class);
+        if (acknowledgment == null) {
+            throw failure;
+        }
+        int failures = consecutiveFailures.getAndIncrement();
+        long backoff = Math.min(maxRetryBackoffMillis, retryBackoffMillis << Math.min(failures, 20));
+        logger.error("Stock update of product {} failed, redelivering the batch of {} events in {} ms", productId,
+                message.getPayload().size(), backoff, failure);
+        acknowledgment.nack(0, Duration.ofMillis(backoff));
+    }
+
+    private OrderCreatedEvent parse(byte[] payload, String contentType) {
+        if (OrderCreatedEventAvroDecoder.CONTENT_TYPE.equals(contentType)) {
+            try {
+                return avroDecoder.decode(payload);
+            } catch (IllegalArgumentException e) {
+                logger.warn("Skipping malformed Avro order event of {} bytes: {}", payload.length, e.getMessage());
+                return null;
+            }
+        }
+        try {
+            OrderCreatedEvent event = objectMapper.readValue(payload, OrderCreatedEvent.class);
+            if (event != null && event.productId() != null) {
+                UUID.fromString(event.productId());
+                return event;
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // Logged below
+        }
+        logger.warn("Skipping malformed order event: {}", new String(payload, StandardCharsets.UTF_8));
+        return null;
+    }
+
+    private static String header(List<?> recordHeaders, int index, String name) {
+        if (recordHeaders == null || index >= recordHeaders.size()
+                || !(recordHeaders.get(index) instanceof Map<?, ?> headers)) {
+            return null;
+        }
+        Object value = headers.get(name);
+        if (value instanceof byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value == null ? null : value.toString();
+    }
+
+    private static final class ProductOrders {
+        private final List<Integer> quantities = new ArrayList<>();
+        private final List<String> eventIds = new ArrayList<>();
+
+        void add(String eventId, int quantity) {
+            quantities.add(quantity);
+            eventIds.add(eventId);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.turkcell.product_service.infrastructure.repository;
+
+import com.turkcell.product_service.domain.entity.Product;
+import com.turkcell.product_service.domain.valueobject.Stock;
+import com.turkcell.product_service.domain.valueobject.StockDecrement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bounded set of the most recently applied order event ids
+ * Kafka delivers at least once: a batch is redelivered when the consumer
+ * fails before committing its offsets, and the outbox relayer may publish an
+ * event again after a failed status update. Remembering the last ids catches
+ * both within the window; the oldest id is forgotten once the window is full
+ * The stores keep the window next to the stock it guards and persist every id
+ * in the same step as the stock change, so the window outlives a restart
+ */
+final class AppliedEventWindow {
+
+    private final Map<String, Boolean> eventIds;
+
+    AppliedEventWindow(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Window size must be positive");
+        }
+        this.eventIds = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > size;
+            }
+        };
+    }
+
+    synchronized boolean contains(String eventId) {
+        return eventIds.containsKey(eventId);
+    }
+
+    synchronized void add(String eventId) {
+        eventIds.put(eventId, Boolean.TRUE);
+    }
+
+    synchronized void addAll(Collection<String> applied) {
+        for (String eventId : applied) {
+            eventIds.put(eventId, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Takes stock of a product for the orders whose event id is neither in the
+     * window nor repeated, oldest first, rejecting those the remaining stock
+     * cannot cover; the caller holds the product's lock
+     * 
+     * @param recorded receives the event ids of the orders taken or rejected,
+     *                 which the caller persists with the product and then adds
+     */
+    StockDecrement takeOrders(Product product, List<String> eventIds, List<Integer> quantities,
+            Set<String> recorded) {
+        int applied = 0;
+        int rejected = 0;
+        int skipped = 0;
+        for (int i = 0; i < quantities.size(); i++) {
+            String eventId = eventIds.get(i);
+            if (eventId != null && (contains(eventId) || recorded.contains(eventId))) {
+                skipped++;
+                continue;
+            }
+            Stock quantity = Stock.of(quantities.get(i));
+            if (product.getStock().hasEnough(quantity)) {
+                product.reduceStock(quantity);
+                applied++;
+            } else {
+                rejected++;
+            }
+            if (eventId != null) {
+                recorded.add(eventId);
+            }
+        }
+        return StockDecrement.of(applied, rejected, skipped, product.getStock());
+    }
+
+    /**
+     * Returns the ids in the window, oldest first
+     */
+    synchronized List<String> snapshot() {
+        return new ArrayList<>(eventIds.keySet());
+    }
+}
@@ -3,39 +3,161 @@ package com.turkcell.product_service.infrastructure.repository;
 import com.turkcell.product_service.domain.entity.Product;
 import com.turkcell.product_service.domain.repository.ProductRepository;
 import com.turkcell.product_service.domain.valueobject.ProductId;
+import com.turkcell.product_service.domain.valueobject.ProductSearchCriteria;
+import com.turkcell.product_service.domain.valueobject.ProductSortKey;
+import com.turkcell.product_service.domain.valueobject.ProductStatistics;
+import com.turkcell.product_service.domain.valueobject.Stock;
+import com.turkcell.product_service.domain.valueobject.StockDecrement;
+import com.turkcell.product_service.infrastructure.journal.ProductJournal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 /**
  * In-memory implementation of ProductRepository
  * Uses ConcurrentHashMap for thread-safe operations
+ * Changes to a product swap in a modified copy under a striped lock of its id,
+ * so concurrent reservations on the same product never lose an update
+ * Every change is recorded in the ProductJournal while the stripe is locked, so
+ * the journal sees changes to one product in the same order as the map
+ * The stripes are ReentrantLocks rather than the map's own per-key monitors:
+ * journal appends and index updates may block, and blocking inside a monitor
+ * would pin a virtual thread to its carrier
+ * A sorted index on (createdAt, id) serves keyset pages without scanning the map,
+ * and the ProductSearchIndex and ProductTextIndex serve filtered and keyword
+ * queries the same way
+ * Stored products are never handed out: saves store a copy and reads return
+ * copies, so a caller changing a product cannot bypass the stripe lock, and
+ * the statistics counters see every availability transition
+ * Order decrements skip event ids in an AppliedEventWindow and journal the
+ * ids they apply in the same record as the product, so the window is
+ * recovered with the stock it guards
  */
 @Repository
+@Profile("!mmap & !jdbc")
 public class InMemoryProductRepository implements ProductRepository {
     
+    private static final int LOCK_STRIPES = 64;
+    
+    private final ReentrantLock[] stripes = new ReentrantLock[LOCK_STRIPES];
     private final Map<UUID, Product> products = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<ProductSortKey, UUID> listingOrder = new ConcurrentSkipListMap<>();
+    private final ProductStatisticsCounter statistics = new ProductStatisticsCounter();
+    private final ProductSearchIndex searchIndex = new ProductSearchIndex();
+    private final ProductTextIndex textIndex = new ProductTextIndex();
+    private final AppliedEventWindow appliedEvents;
+    private final ProductJournal journal;
+    
+    public InMemoryProductRepository(ProductJournal journal,
+            @Value("${product.repository.applied-events.window:100000}") int appliedEventsWindow) {
+        this.journal = journal;
+        this.appliedEvents = new AppliedEventWindow(appliedEventsWindow);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        journal.recover(products, appliedEvents::add);
+        products.values().forEach(product -> {
+            listingOrder.put(ProductSortKey.of(product), product.getId().getValue());
+            statistics.added(product.isAvailable());
+            searchIndex.index(product);
+            textIndex.index(product);
+        });
+        journal.startCheckpoints(products::values, appliedEvents::snapshot);
+    }
     
     @Override
     public Product save(Product product) {
-        products.put(product.getId().getValue(), product);
+        Product stored = product.copy();
+        journal.commit(() -> store(stored));
         return product;
     }
     
+    @Override
+    public List<Product> saveAll(List<Product> products) {
+        List<Product> stored = new ArrayList<>(products.size());
+        for (Product product : products) {
+            stored.add(product.copy());
+        }
+        journal.commit(() -> {
+            stored.forEach(this::store);
+            return null;
+        });
+        return products;
+    }
+    
     @Override
     public Optional<Product> findById(ProductId productId) {
-        return Optional.ofNullable(products.get(productId.getValue()));
+        return Optional.ofNullable(products.get(productId.getValue())).map(Product::copy);
+    }
+    
+    @Override
+    public List<Product> findAllById(List<ProductId> productIds) {
+        List<Product> result = new ArrayList<>(productIds.size());
+        for (ProductId productId : productIds) {
+            Product product = products.get(productId.getValue());
+            if (product != null) {
+                result.add(product.copy());
+            }
+        }
+        return result;
     }
     
     @Override
     public List<Product> findAll() {
-        return new ArrayList<>(products.values());
+        List<Product> result = new ArrayList<>(products.size());
+        for (Product product : products.values()) {
+            result.add(product.copy());
+        }
+        return result;
+    }
+    
+    @Override
+    public List<Product> findPage(ProductSortKey after, int limit) {
+        Map<ProductSortKey, UUID> remaining = after == null ? listingOrder : listingOrder.tailMap(after, false);
+        List<Product> page = new ArrayList<>(limit);
+        for (UUID id : remaining.values()) {
+            if (page.size() == limit) {
+                break;
+            }
+            Product product = products.get(id);
+            if (product != null) {
+                page.add(product.copy());
+            }
+        }
+        return page;
+    }
+    
+    @Override
+    public List<Product> findByCriteria(ProductSearchCriteria criteria) {
+        List<Product> result = criteria.getQuery() != null
+                ? textIndex.search(criteria, products::get)
+                : searchIndex.search(criteria, products::get);
+        result.replaceAll(Product::copy);
+        return result;
     }
     
     @Override
     public boolean deleteById(ProductId productId) {
-        return products.remove(productId.getValue()) != null;
+        return journal.commit(() -> remove(productId));
+    }
+    
+    @Override
+    public Set<ProductId> deleteAllById(List<ProductId> productIds) {
+        return journal.commit(() -> {
+            Set<ProductId> deleted = new HashSet<>();
+            for (ProductId productId : productIds) {
+                if (remove(productId)) {
+                    deleted.add(productId);
+                }
+            }
+            return deleted;
+        });
     }
     
     @Override
@@ -47,4 +169,131 @@ public class InMemoryProductRepository implements ProductRepository {
     public long count() {
         return products.size();
     }
+    
+    @Override
+    public ProductStatistics statistics() {
+        return statistics.snapshot();
+    }
+    
+    @Override
+    public Optional<Product> reserveStock(ProductId productId, Stock amount) {
+        return journal.commit(() -> changeStock(productId, updated -> updated.reduceStock(amount)));
+    }
+    
+    @Override
+    public Optional<Product> releaseStock(ProductId productId, Stock amount) {
+        return journal.commit(() -> changeStock(productId, updated -> updated.addStock(amount)));
+    }
+    
+    @Override
+    public Optional<StockDecrement> decrementStock(ProductId productId, List<String> eventIds,
+            List<Integer> quantities) {
+        return journal.commit(() -> {
+            UUID id = productId.getValue();
+            ReentrantLock stripe = stripe(id);
+            stripe.lock();
+            try {
+                Product current = products.get(id);
+                if (current == null) {
+                    return Optional.empty();
+                }
+                Product updated = current.copy();
+                Set<String> recorded = new LinkedHashSet<>();
+                StockDecrement decrement = appliedEvents.takeOrders(updated, eventIds, quantities, recorded);
+                if (decrement.getAppliedCount() == 0 && recorded.isEmpty()) {
+                    return Optional.of(decrement);
+                }
+                journal.logSave(updated, recorded);
+                appliedEvents.addAll(recorded);
+                statistics.stockChanged(current.isAvailable(), updated.isAvailable());
+                searchIndex.index(updated);
+                products.put(id, updated);
+                return Optional.of(decrement);
+            } finally {
+                stripe.unlock();
+            }
+        });
+    }
+    
+    /**
+     * Applies a stock change to a copy of a product and swaps it in; must be
+     * called inside journal.commit
+     */
+    private Optional<Product> changeStock(ProductId productId, Consumer<Product> change) {
+        UUID id = productId.getValue();
+        ReentrantLock stripe = stripe(id);
+        stripe.lock();
+        try {
+            Product current = products.get(id);
+            if (current == null) {
+                return Optional.empty();
+            }
+            Product updated = current.copy();
+            change.accept(updated);
+            journal.logSave(updated);
+            statistics.stockChanged(current.isAvailable(), updated.isAvailable());
+            searchIndex.index(updated);
+            products.put(id, updated);
+            return Optional.of(updated.copy());
+        } finally {
+            stripe.unlock();
+        }
+    }
+    
+    /**
+     * Stores a product and updates the indexes; must be called inside journal.commit
+     */
+    private Product store(Product stored) {
+        UUID id = stored.getId().getValue();
+        ReentrantLock stripe = stripe(id);
+        stripe.lock();
+        try {
+            Product current = products.get(id);
+            journal.logSave(stored);
+            ProductSortKey key = ProductSortKey.of(stored);
+            if (current == null) {
+                statistics.added(stored.isAvailable());
+            } else {
+                statistics.stockChanged(current.isAvailable(), stored.isAvailable());
+                if (!ProductSortKey.of(current).equals(key)) {
+                    listingOrder.remove(ProductSortKey.of(current));
+                }
+            }
+            listingOrder.put(key, id);
+            searchIndex.index(stored);
+            textIndex.index(stored);
+            products.put(id, stored);
+            return stored;
+        } finally {
+            stripe.unlock();
+        }
+    }
+    
+    /**
+     * Removes a product and its index entries; must be called inside journal.commit
+     */
+    private boolean remove(ProductId productId) {
+        UUID id = productId.getValue();
+        ReentrantLock stripe = stripe(id);
+        stripe.lock();
+        try {
+            Product current = products.remove(id);
+            if (current == null) {
+                return false;
+            }
+            journal.logDelete(productId);
+            listingOrder.remove(ProductSortKey.of(current));
+            statistics.removed(current.isAvailable());
+            searchIndex.remove(id);
+            textIndex.remove(id);
+            return true;
+        } finally {
+            stripe.unlock();
+        }
+    }
+    
+    private ReentrantLock stripe(UUID id) {
+        int hash = id.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1)];
+    }
 }
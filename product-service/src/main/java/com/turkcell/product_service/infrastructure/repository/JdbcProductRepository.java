@@ -0,0 +1,620 @@
+package com.turkcell.product_service.infrastructure.repository;
+
+import com.turkcell.product_service.domain.entity.Product;
+import com.turkcell.product_service.domain.exception.InsufficientStockException;
+import com.turkcell.product_service.domain.repository.ProductRepository;
+import com.turkcell.product_service.domain.valueobject.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PostgreSQL implementation of ProductRepository (profile "jdbc")
+ * Products live in the products table, so several instances can share the
+ * catalog. Saves are upserts; saveAll sends multi-row upserts of power-of-two
+ * sizes in one transaction, so a batch needs a few round trips and only a
+ * handful of distinct statements, which the driver keeps prepared per
+ * connection. findById reads through a bounded ProductReadCache that writes
+ * invalidate after they commit.
+ * Listing pages use the (created_at, id) index; searches use a price index,
+ * a text_pattern_ops index on the normalized name and a GIN index over a
+ * weighted tsvector of the normalized name and description.
+ * count() and statistics() read the product_stats counters instead of
+ * counting the catalog. A row trigger adjusts them in the transaction of every
+ * insert, delete and stock change that changes the total or the number in
+ * stock. The counters are spread over 16 rows by product id, so
+ * concurrent writers rarely wait on the same counter row. The schema is set up
+ * under an advisory lock, so instances starting together do not race on it.
+ * Order decrements lock the product row, insert the order event ids into
+ * processed_events and change the stock in one transaction; ids already there
+ * are skipped, so a redelivered order is applied once across instances and
+ * restarts. Rows older than the configured retention are purged in batches,
+ * at most once a minute, after a decrement.
+ * Needs PostgreSQL 11 or later.
+ */
+@Repository
+@Profile("jdbc")
+public class JdbcProductRepository implements ProductRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcProductRepository.class);
+
+    private static final int MAX_ROWS_PER_INSERT = 128;
+    private static final String COLUMNS = "id, name, description, price, currency, stock, created_at, updated_at";
+    private static final int STATS_SHARDS = 16;
+    private static final long SCHEMA_LOCK = 0x70726f6475637473L;
+    private static final int PURGE_BATCH_SIZE = 10_000;
+    private static final long PURGE_INTERVAL_NANOS = Duration.ofMinutes(1).toNanos();
+
+    private static final String[] SCHEMA = {
+            "CREATE TABLE IF NOT EXISTS products ("
+                    + "id uuid PRIMARY KEY, "
+                    + "name varchar(255) NOT NULL, "
+                    + "name_normalized varchar(255) NOT NULL, "
+                    + "description varchar(1000) NOT NULL, "
+                    + "price numeric(19, 2) NOT NULL, "
+                    + "currency char(3) NOT NULL, "
+                    + "stock integer NOT NULL, "
+                    + "created_at timestamp NOT NULL, "
+                    + "updated_at timestamp NOT NULL, "
+                    + "search_vector tsvector NOT NULL)",
+            "CREATE INDEX IF NOT EXISTS products_listing_idx ON products (created_at, id)",
+            "CREATE INDEX IF NOT EXISTS products_price_idx ON products (currency, price)",
+            "CREATE INDEX IF NOT EXISTS products_in_stock_idx ON products (created_at, id) WHERE stock > 0",
+            "CREATE INDEX IF NOT EXISTS products_name_idx ON products (name_normalized text_pattern_ops)",
+            "CREATE INDEX IF NOT EXISTS products_search_idx ON products USING gin (search_vector)",
+            "CREATE TABLE IF NOT EXISTS product_stats ("
+                    + "shard smallint PRIMARY KEY, "
+                    + "total bigint NOT NULL, "
+                    + "in_stock bigint NOT NULL)",
+            "CREATE OR REPLACE FUNCTION product_stats_track() RETURNS trigger LANGUAGE plpgsql AS $$\n"
+                    + "DECLARE\n"
+                    + "  total_delta integer := 0;\n"
+                    + "  in_stock_delta integer := 0;\n"
+                    + "  product uuid;\n"
+                    + "BEGIN\n"
+                    + "  IF TG_OP IN ('INSERT', 'UPDATE') THEN\n"
+                    + "    total_delta := 1;\n"
+                    + "    in_stock_delta := CASE WHEN NEW.stock > 0 THEN 1 ELSE 0 END;\n"
+                    + "    product := NEW.id;\n"
+                    + "  END IF;\n"
+                    + "  IF TG_OP IN ('UPDATE', 'DELETE') THEN\n"
+                    + "    total_delta := total_delta - 1;\n"
+                    + "    in_stock_delta := in_stock_delta - CASE WHEN OLD.stock > 0 THEN 1 ELSE 0 END;\n"
+                    + "    product := OLD.id;\n"
+                    + "  END IF;\n"
+                    + "  IF total_delta <> 0 OR in_stock_delta <> 0 THEN\n"
+                    + "    UPDATE product_stats SET total = total + total_delta, in_stock = in_stock + in_stock_delta\n"
+                    + "    WHERE shard = hashtext(product::text) & " + (STATS_SHARDS - 1) + ";\n"
+                    + "  END IF;\n"
+                    + "  RETURN NULL;\n"
+                    + "END $$",
+            // Installed once; the catalog is counted a single time, with writers
+            // held off so no change slips between the count and the trigger
+            "DO $$\n"
+                    + "BEGIN\n"
+                    + "  IF NOT EXISTS (SELECT 1 FROM pg_trigger\n"
+                    + "      WHERE tgname = 'product_stats_track' AND tgrelid = 'products'::regclass) THEN\n"
+                    + "    LOCK TABLE products IN SHARE MODE;\n"
+                    + "    CREATE TRIGGER product_stats_track AFTER INSERT OR DELETE OR UPDATE OF stock ON products\n"
+                    + "        FOR EACH ROW EXECUTE FUNCTION product_stats_track();\n"
+                    + "    DELETE FROM product_stats;\n"
+                    + "    INSERT INTO product_stats (shard, total, in_stock)\n"
+                    + "        SELECT shard, 0, 0 FROM generate_series(0, " + (STATS_SHARDS - 1) + ") shard;\n"
+                    + "    UPDATE product_stats SET total = counted.total, in_stock = counted.in_stock\n"
+                    + "        FROM (SELECT count(*) total, count(*) FILTER (WHERE stock > 0) in_stock FROM products) counted\n"
+                    + "        WHERE shard = 0;\n"
+                    + "  END IF;\n"
+                    + "END $$",
+            "CREATE TABLE IF NOT EXISTS processed_events ("
+                    + "event_id text PRIMARY KEY, "
+                    + "processed_at timestamp NOT NULL)",
+            "CREATE INDEX IF NOT EXISTS processed_events_age_idx ON processed_events (processed_at)"
+    };
+
+    private static final String UPSERT_PREFIX = "INSERT INTO products (" + COLUMNS
+            + ", name_normalized, search_vector) VALUES ";
+    private static final String UPSERT_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, "
+            + "setweight(to_tsvector('simple', ?), 'A') || setweight(to_tsvector('simple', ?), 'B'))";
+    private static final String UPSERT_SUFFIX = " ON CONFLICT (id) DO UPDATE SET "
+            + "name = EXCLUDED.name, description = EXCLUDED.description, price = EXCLUDED.price, "
+            + "currency = EXCLUDED.currency, stock = EXCLUDED.stock, updated_at = EXCLUDED.updated_at, "
+            + "name_normalized = EXCLUDED.name_normalized, search_vector = EXCLUDED.search_vector";
+
+    private static final String SELECT_BY_ID = "SELECT " + COLUMNS + " FROM products WHERE id = ?";
+    private static final String SELECT_BY_IDS = "SELECT " + COLUMNS + " FROM products WHERE id = ANY (?)";
+    private static final String SELECT_ALL = "SELECT " + COLUMNS + " FROM products";
+    private static final String SELECT_FIRST_PAGE = "SELECT " + COLUMNS
+            + " FROM products ORDER BY created_at, id LIMIT ?";
+    private static final String SELECT_NEXT_PAGE = "SELECT " + COLUMNS
+            + " FROM products WHERE (created_at, id) > (?, ?) ORDER BY created_at, id LIMIT ?";
+    private static final String DELETE_BY_ID = "DELETE FROM products WHERE id = ?";
+    private static final String DELETE_BY_IDS = "DELETE FROM products WHERE id = ANY (?) RETURNING id";
+    private static final String COUNT = "SELECT coalesce(sum(total), 0) FROM product_stats";
+    private static final String STATISTICS = "SELECT coalesce(sum(total), 0), coalesce(sum(in_stock), 0) "
+            + "FROM product_stats";
+    private static final String SELECT_STOCK = "SELECT stock FROM products WHERE id = ?";
+    private static final String RESERVE_STOCK = "UPDATE products SET stock = stock - ?, updated_at = ? "
+            + "WHERE id = ? AND stock >= ? RETURNING " + COLUMNS;
+    private static final String RELEASE_STOCK = "UPDATE products SET stock = stock + ?, updated_at = ? "
+            + "WHERE id = ? RETURNING " + COLUMNS;
+    private static final String LOCK_STOCK = "SELECT stock FROM products WHERE id = ? FOR UPDATE";
+    private static final String RECORD_EVENTS = "INSERT INTO processed_events (event_id, processed_at) "
+            + "SELECT unnest(?::text[]), ? ON CONFLICT (event_id) DO NOTHING RETURNING event_id";
+    private static final String SET_STOCK = "UPDATE products SET stock = ?, updated_at = ? WHERE id = ?";
+    private static final String PURGE_EVENTS = "DELETE FROM processed_events WHERE event_id IN "
+            + "(SELECT event_id FROM processed_events WHERE processed_at < ? LIMIT " + PURGE_BATCH_SIZE + ")";
+
+    // Multi-row upserts for 1, 2, 4 ... MAX_ROWS_PER_INSERT rows
+    private static final String[] UPSERTS = new String[Integer.numberOfTrailingZeros(MAX_ROWS_PER_INSERT) + 1];
+
+    static {
+        for (int i = 0; i < UPSERTS.length; i++) {
+            UPSERTS[i] = UPSERT_PREFIX + String.join(", ", Collections.nCopies(1 << i, UPSERT_ROW))
+                    + UPSERT_SUFFIX;
+        }
+    }
+
+    private final DataSource dataSource;
+    private final ProductReadCache cache;
+    private final Duration appliedEventsRetention;
+    private final AtomicLong lastPurge = new AtomicLong(System.nanoTime());
+
+    public JdbcProductRepository(DataSource dataSource,
+            @Value("${product.repository.jdbc.cache.maximum-size:100000}") int cacheSize,
+            @Value("${product.repository.jdbc.cache.time-to-live-seconds:30}") long cacheTimeToLiveSeconds,
+            @Value("${product.repository.jdbc.applied-events-retention-hours:168}") long appliedEventsRetentionHours) {
+        this.dataSource = dataSource;
+        this.cache = new ProductReadCache(cacheSize, Duration.ofSeconds(cacheTimeToLiveSeconds));
+        this.appliedEventsRetention = Duration.ofHours(appliedEventsRetentionHours);
+        inTransaction(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SELECT pg_advisory_xact_lock(" + SCHEMA_LOCK + ")");
+                for (String ddl : SCHEMA) {
+                    statement.execute(ddl);
+                }
+            }
+            return null;
+        }, "Cannot create the products schema");
+    }
+
+    @Override
+    public Product save(Product product) {
+        execute(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(UPSERTS[0])) {
+                bindRow(statement, 0, product);
+                statement.executeUpdate();
+            }
+            return null;
+        }, "Cannot save product " + product.getId());
+        cache.invalidate(product.getId().getValue());
+        return product;
+    }
+
+    @Override
+    public List<Product> saveAll(List<Product> products) {
+        // A multi-row upsert may not touch the same row twice, so the last state wins
+        Map<UUID, Product> unique = new LinkedHashMap<>();
+        for (Product product : products) {
+            unique.put(product.getId().getValue(), product);
+        }
+        List<Product> rows = new ArrayList<>(unique.values());
+
+        inTransaction(connection -> {
+            int from = 0;
+            while (from < rows.size()) {
+                int size = Integer.highestOneBit(Math.min(rows.size() - from, MAX_ROWS_PER_INSERT));
+                try (PreparedStatement statement = connection.prepareStatement(
+                        UPSERTS[Integer.numberOfTrailingZeros(size)])) {
+                    for (int i = 0; i < size; i++) {
+                        bindRow(statement, i, rows.get(from + i));
+                    }
+                    statement.executeUpdate();
+                }
+                from += size;
+            }
+            return null;
+        }, "Cannot save " + rows.size() + " products");
+        unique.keySet().forEach(cache::invalidate);
+        return products;
+    }
+
+    @Override
+    public Optional<Product> findById(ProductId productId) {
+        return cache.get(productId.getValue(), id -> execute(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_BY_ID)) {
+                statement.setObject(1, id);
+                List<Product> found = readProducts(statement);
+                return found.isEmpty() ? Optional.empty() : Optional.of(found.get(0));
+            }
+        }, "Cannot read product " + id));
+    }
+
+    @Override
+    public List<Product> findAllById(List<ProductId> productIds) {
+        return execute(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_BY_IDS)) {
+                statement.setArray(1, uuidArray(connection, productIds));
+                return readProducts(statement);
+            }
+        }, "Cannot read " + productIds.size() + " products");
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return execute(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_ALL)) {
+                return readProducts(statement);
+            }
+        }, "Cannot read products");
+    }
+
+    @Override
+    public List<Product> findPage(ProductSortKey after, int limit) {
+        return execute(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    after == null ? SELECT_FIRST_PAGE : SELECT_NEXT_PAGE)) {
+                int parameter = 1;
+                if (after != null) {
+                    statement.setObject(parameter++, after.getCreatedAt());
+                    statement.setObject(parameter++, after.getId());
+                }
+                statement.setInt(parameter, limit);
+                return readProducts(statement);
+            }
+        }, "Cannot read a page of products");
+    }
+
+    @Override
+    public List<Product> findByCriteria(ProductSearchCriteria criteria) {
+        String textQuery = criteria.getQuery() == null ? null : toTextQuery(criteria.getQuery());
+        if (criteria.getQuery() != null && textQuery == null) {
+            return List.of();
+        }
+        List<Object> parameters = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS).append(" FROM products");
+        if (textQuery != null) {
+            sql.append(", to_tsquery('simple', ?) query");
+            parameters.add(textQuery);
+        }
+        sql.append(" WHERE true");
+        if (textQuery != null) {
+            sql.append(" AND search_vector @@ query");
+        }
+        if (criteria.getCurrency() != null) {
+            sql.append(" AND currency = ?");
+            parameters.add(criteria.getCurrency().getValue());
+        }
+        if (criteria.getMinPrice() != null) {
+            sql.append(" AND price >= ?");
+            parameters.add(criteria.getMinPrice().getValue());
+        }
+        if (criteria.getMaxPrice() != null) {
+            sql.append(" AND price <= ?");
+            parameters.add(criteria.getMaxPrice().getValue());
+        }
+        if (criteria.isInStockOnly()) {
+            sql.append(" AND stock > 0");
+        }
+        if (criteria.getNamePrefix() != null) {
+            sql.append(" AND name_normalized LIKE ? ESCAPE '\\'");
+            parameters.add(escapeLike(criteria.getNamePrefix()) + "%");
+        }
+        sql.append(textQuery != null
+                ? " ORDER BY ts_rank(search_vector, query) DESC, id LIMIT ?"
+                : " ORDER BY created_at, id LIMIT ?");
+        parameters.add(criteria.getLimit());
+
+        return execute(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+                for (int i = 0; i < parameters.size(); i++) {
+                    statement.setObject(i + 1, parameters.get(i));
+                }
+                return readProducts(statement);
+            }
+        }, "Cannot search products");
+    }
+
+    @Override
+    public boolean deleteById(ProductId productId) {
+        boolean deleted = execute(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(DELETE_BY_ID)) {
+                statement.setObject(1, productId.getValue());
+                return statement.executeUpdate() > 0;
+            }
+        }, "Cannot delete product " + productId);
+        cache.invalidate(productId.getValue());
+        return deleted;
+    }
+
+    @Override
+    public Set<ProductId> deleteAllById(List<ProductId> productIds) {
+        Set<ProductId> deleted = execute(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(DELETE_BY_IDS)) {
+                statement.setArray(1, uuidArray(connection, productIds));
+                Set<ProductId> ids = new HashSet<>();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        ids.add(ProductId.of(resultSet.getObject(1, UUID.class)));
+                    }
+                }
+                return ids;
+            }
+        }, "Cannot delete " + productIds.size() + " products");
+        productIds.forEach(productId -> cache.invalidate(productId.getValue()));
+        return deleted;
+    }
+
+    @Override
+    public boolean existsById(ProductId productId) {
+        return findById(productId).isPresent();
+    }
+
+    @Override
+    public long count() {
+        return execute(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(COUNT);
+                    ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }, "Cannot count products");
+    }
+
+    @Override
+    public ProductStatistics statistics() {
+        return execute(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(STATISTICS);
+                    ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return ProductStatistics.of(resultSet.getInt(1), resultSet.getInt(2));
+            }
+        }, "Cannot read product statistics");
+    }
+
+    @Override
+    public Optional<Product> reserveStock(ProductId productId, Stock amount) {
+        // The stock check runs in the UPDATE, so concurrent reservations cannot oversell
+        Optional<Product> updated = changeStock(productId, RESERVE_STOCK, amount, true);
+        if (updated.isEmpty()) {
+            OptionalInt available = currentStock(productId);
+            if (available.isPresent()) {
+                throw new InsufficientStockException(String.format("Insufficient stock. Available: %d, Requested: %d",
+                        available.getAsInt(), amount.getValue()));
+            }
+        }
+        return updated;
+    }
+
+    @Override
+    public Optional<Product> releaseStock(ProductId productId, Stock amount) {
+        return changeStock(productId, RELEASE_STOCK, amount, false);
+    }
+
+    @Override
+    public Optional<StockDecrement> decrementStock(ProductId productId, List<String> eventIds,
+            List<Integer> quantities) {
+        Optional<StockDecrement> decrement = inTransaction(connection -> {
+            int stock;
+            try (PreparedStatement statement = connection.prepareStatement(LOCK_STOCK)) {
+                statement.setObject(1, productId.getValue());
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (!resultSet.next()) {
+                        return Optional.<StockDecrement>empty();
+                    }
+                    stock = resultSet.getInt(1);
+                }
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            Set<String> fresh = recordEvents(connection, eventIds, now);
+            int applied = 0;
+            int rejected = 0;
+            int skipped = 0;
+            for (int i = 0; i < quantities.size(); i++) {
+                String eventId = eventIds.get(i);
+                // Each id is fresh once, so a repeat within the batch is skipped too
+                if (eventId != null && !fresh.remove(eventId)) {
+                    skipped++;
+                } else if (stock >= quantities.get(i)) {
+                    stock -= quantities.get(i);
+                    applied++;
+                } else {
+                    rejected++;
+                }
+            }
+
+            if (applied > 0) {
+                try (PreparedStatement statement = connection.prepareStatement(SET_STOCK)) {
+                    statement.setInt(1, stock);
+                    statement.setObject(2, now);
+                    statement.setObject(3, productId.getValue());
+                    statement.executeUpdate();
+                }
+            }
+            return Optional.of(StockDecrement.of(applied, rejected, skipped, Stock.of(stock)));
+        }, "Cannot decrement the stock of product " + productId);
+        cache.invalidate(productId.getValue());
+        purgeAppliedEventsIfDue();
+        return decrement;
+    }
+
+    /**
+     * Inserts the event ids and returns those that were not there yet
+     */
+    private static Set<String> recordEvents(Connection connection, List<String> eventIds, LocalDateTime now)
+            throws SQLException {
+        Set<String> fresh = new HashSet<>();
+        Object[] ids = eventIds.stream().filter(Objects::nonNull).distinct().toArray();
+        if (ids.length == 0) {
+            return fresh;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(RECORD_EVENTS)) {
+            statement.setArray(1, connection.createArrayOf("text", ids));
+            statement.setObject(2, now);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    fresh.add(resultSet.getString(1));
+                }
+            }
+        }
+        return fresh;
+    }
+
+    private void purgeAppliedEventsIfDue() {
+        long last = lastPurge.get();
+        long now = System.nanoTime();
+        if (now - last < PURGE_INTERVAL_NANOS || !lastPurge.compareAndSet(last, now)) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(appliedEventsRetention);
+        try {
+            execute(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(PURGE_EVENTS)) {
+                    statement.setObject(1, cutoff);
+                    while (statement.executeUpdate() == PURGE_BATCH_SIZE) {
+                        // Keep deleting until a batch comes back short
+                    }
+                }
+                return null;
+            }, "Cannot purge processed events");
+        } catch (IllegalStateException e) {
+            // The decrement is committed; the next purge picks up the old rows
+            logger.warn("Purging processed events failed", e);
+        }
+    }
+
+    private Optional<Product> changeStock(ProductId productId, String sql, Stock amount, boolean checkStock) {
+        Optional<Product> updated = execute(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setInt(1, amount.getValue());
+                statement.setObject(2, LocalDateTime.now());
+                statement.setObject(3, productId.getValue());
+                if (checkStock) {
+                    statement.setInt(4, amount.getValue());
+                }
+                List<Product> found = readProducts(statement);
+                return found.isEmpty() ? Optional.<Product>empty() : Optional.of(found.get(0));
+            }
+        }, "Cannot change the stock of product " + productId);
+        cache.invalidate(productId.getValue());
+        return updated;
+    }
+
+    private OptionalInt currentStock(ProductId productId) {
+        return execute(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_STOCK)) {
+                statement.setObject(1, productId.getValue());
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next() ? OptionalInt.of(resultSet.getInt(1)) : OptionalInt.empty();
+                }
+            }
+        }, "Cannot read the stock of product " + productId);
+    }
+
+    private static void bindRow(PreparedStatement statement, int row, Product product) throws SQLException {
+        int parameter = row * 11;
+        statement.setObject(++parameter, product.getId().getValue());
+        statement.setString(++parameter, product.getName().getValue());
+        statement.setString(++parameter, product.getDescription().getValue());
+        statement.setBigDecimal(++parameter, product.getPrice().getValue());
+        statement.setString(++parameter, product.getCurrency().getValue());
+        statement.setInt(++parameter, product.getStock().getValue());
+        statement.setObject(++parameter, product.getCreatedAt());
+        statement.setObject(++parameter, product.getUpdatedAt());
+        statement.setString(++parameter, product.getName().getNormalizedValue());
+        statement.setString(++parameter, product.getName().getNormalizedValue());
+        statement.setString(++parameter, ProductName.normalize(product.getDescription().getValue()));
+    }
+
+    private static List<Product> readProducts(PreparedStatement statement) throws SQLException {
+        List<Product> products = new ArrayList<>();
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                products.add(Product.reconstruct(
+                        ProductId.of(resultSet.getObject("id", UUID.class)),
+                        ProductName.of(resultSet.getString("name")),
+                        Description.of(resultSet.getString("description")),
+                        Price.of(resultSet.getBigDecimal("price")),
+                        Currency.of(resultSet.getString("currency")),
+                        Stock.of(resultSet.getInt("stock")),
+                        resultSet.getObject("created_at", LocalDateTime.class),
+                        resultSet.getObject("updated_at", LocalDateTime.class)));
+            }
+        }
+        return products;
+    }
+
+    private static Array uuidArray(Connection connection, List<ProductId> productIds) throws SQLException {
+        return connection.createArrayOf("uuid", productIds.stream().map(ProductId::getValue).toArray());
+    }
+
+    /**
+     * Builds a tsquery matching every token, the last one as a prefix, like
+     * ProductTextIndex; tokens are letters and digits only, so they need no quoting
+     */
+    private static String toTextQuery(String query) {
+        List<String> tokens = new ArrayList<>(ProductTextIndex.tokenize(query));
+        if (tokens.isEmpty()) {
+            return null;
+        }
+        return String.join(" & ", tokens) + ":*";
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private <T> T execute(SqlWork<T> work, String failure) {
+        try (Connection connection = dataSource.getConnection()) {
+            return work.apply(connection);
+        } catch (SQLException e) {
+            throw new IllegalStateException(failure, e);
+        }
+    }
+
+    private <T> T inTransaction(SqlWork<T> work, String failure) {
+        return execute(connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                T result = work.apply(connection);
+                connection.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }, failure);
+    }
+
+    @FunctionalInterface
+    private interface SqlWork<T> {
+        T apply(Connection connection) throws SQLException;
+    }
+}
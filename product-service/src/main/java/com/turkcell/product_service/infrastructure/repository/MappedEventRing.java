@@ -0,0 +1,114 @@
+package com.turkcell.product_service.infrastructure.repository;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Applied order event ids of the memory-mapped store, kept in applied-events.dat
+ * A ring of fixed 64-byte slots, each a short length and the UTF-8 id, after
+ * a header holding the ring capacity and the number of ids ever written; the
+ * newest capacity ids survive a restart. An id longer than a slot is stored as
+ * the name-based UUID of its bytes
+ * Like the rest of the store, writes reach the file through the page cache, so
+ * they outlive a crash of the process but not of the machine
+ */
+final class MappedEventRing implements AutoCloseable {
+
+    private static final int MAGIC = 0x45564E54;
+
+    private static final int HEADER_SIZE = 16;
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_CAPACITY = 4;
+    private static final int HEADER_WRITTEN = 8;
+
+    private static final int SLOT_SIZE = 64;
+    private static final int MAX_ID_LENGTH = SLOT_SIZE - 2;
+
+    private final MappedFile file;
+    private final int capacity;
+
+    /**
+     * Opens the ring, carrying over the newest ids of a ring written with
+     * another capacity
+     */
+    MappedEventRing(Path path, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Ring capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.file = new MappedFile(path, HEADER_SIZE + (long) capacity * SLOT_SIZE);
+        ByteBuffer header = file.buffer();
+        if (header.getInt(HEADER_MAGIC) != MAGIC) {
+            header.putInt(HEADER_CAPACITY, capacity);
+            header.putLong(HEADER_WRITTEN, 0);
+            header.putInt(HEADER_MAGIC, MAGIC);
+        } else if (header.getInt(HEADER_CAPACITY) != capacity) {
+            List<String> kept = load();
+            header.putLong(HEADER_WRITTEN, 0);
+            header.putInt(HEADER_CAPACITY, capacity);
+            append(kept.subList(Math.max(0, kept.size() - capacity), kept.size()));
+        }
+    }
+
+    /**
+     * Returns the ids in the ring, oldest first
+     */
+    synchronized List<String> load() {
+        ByteBuffer buffer = file.buffer();
+        int ringCapacity = buffer.getInt(HEADER_CAPACITY);
+        long written = buffer.getLong(HEADER_WRITTEN);
+        List<String> eventIds = new ArrayList<>((int) Math.min(written, ringCapacity));
+        for (long i = Math.max(0, written - ringCapacity); i < written; i++) {
+            int offset = slotOffset(i, ringCapacity);
+            byte[] bytes = new byte[buffer.getShort(offset)];
+            buffer.get(offset + 2, bytes);
+            eventIds.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return eventIds;
+    }
+
+    /**
+     * Writes the ids to the next slots, then publishes them by advancing the
+     * written count
+     */
+    synchronized void append(Collection<String> eventIds) {
+        ByteBuffer buffer = file.buffer();
+        long written = buffer.getLong(HEADER_WRITTEN);
+        for (String eventId : eventIds) {
+            byte[] bytes = slotBytes(eventId);
+            int offset = slotOffset(written++, capacity);
+            buffer.putShort(offset, (short) bytes.length);
+            buffer.put(offset + 2, bytes);
+        }
+        buffer.putLong(HEADER_WRITTEN, written);
+    }
+
+    /**
+     * Returns the id as the window keeps it, which is how it is stored
+     */
+    static String key(String eventId) {
+        return new String(slotBytes(eventId), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() {
+        file.close();
+    }
+
+    private static byte[] slotBytes(String eventId) {
+        byte[] bytes = eventId.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_ID_LENGTH) {
+            return UUID.nameUUIDFromBytes(bytes).toString().getBytes(StandardCharsets.UTF_8);
+        }
+        return bytes;
+    }
+
+    private static int slotOffset(long sequence, int ringCapacity) {
+        return HEADER_SIZE + (int) (sequence % ringCapacity) * SLOT_SIZE;
+    }
+}
@@ -0,0 +1,82 @@
+package com.turkcell.product_service.infrastructure.repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Growable memory-mapped file
+ * The file only ever grows, so a buffer obtained before a remap stays valid
+ * for every position it covered and shares its pages with the new mapping
+ */
+final class MappedFile implements AutoCloseable {
+
+    private static final long MAX_SIZE = Integer.MAX_VALUE;
+
+    private final FileChannel channel;
+    private final ReentrantLock growLock = new ReentrantLock();
+    private volatile MappedByteBuffer buffer;
+
+    MappedFile(Path path, long initialSize) {
+        try {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            this.buffer = map(Math.max(channel.size(), initialSize));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open mapped file " + path, e);
+        }
+    }
+
+    MappedByteBuffer buffer() {
+        return buffer;
+    }
+
+    /**
+     * Grows the mapping (doubling) until it covers the required size
+     */
+    void ensureCapacity(long requiredSize) {
+        if (requiredSize <= buffer.capacity()) {
+            return;
+        }
+        if (requiredSize > MAX_SIZE) {
+            throw new IllegalStateException("Mapped file cannot exceed " + MAX_SIZE + " bytes");
+        }
+        growLock.lock();
+        try {
+            long size = buffer.capacity();
+            if (requiredSize <= size) {
+                return;
+            }
+            while (size < requiredSize) {
+                size = Math.min(size * 2, MAX_SIZE);
+            }
+            buffer = map(size);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot grow mapped file", e);
+        } finally {
+            growLock.unlock();
+        }
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() {
+        try {
+            force();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close mapped file", e);
+        }
+    }
+
+    private MappedByteBuffer map(long size) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+}
@@ -0,0 +1,831 @@
+package com.turkcell.product_service.infrastructure.repository;
+
+import com.turkcell.product_service.domain.entity.Product;
+import com.turkcell.product_service.domain.repository.ProductRepository;
+import com.turkcell.product_service.domain.valueobject.*;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Memory-mapped implementation of ProductRepository (profile "mmap")
+ * Fixed-width product fields live in products.dat, names and descriptions in
+ * the strings.dat region, so no Product objects are kept on the heap.
+ * A changed string is rewritten in place when it fits in the old one and
+ * appended otherwise; once the bytes no record points to exceed both the live
+ * string bytes and 1 MiB, strings.dat is compacted under the structure write
+ * lock; the file keeps its size and is refilled from the start. String
+ * offsets are ints, so live names and descriptions are limited to
+ * 2 GiB in total; writes past that fail with an IllegalStateException.
+ * The UUID to slot index lives off-heap and is rebuilt from products.dat on startup,
+ * together with a compact (createdAt, id) listing index that serves keyset pages.
+ * Inserts and deletes take the structure write lock; reads and in-place updates
+ * share the read lock and serialize per record on a lock stripe.
+ * Catalog statistics are adjusted under the same locks as the record they follow.
+ * The listing index costs about 90 bytes of heap per product. The search and
+ * text indexes of the other stores would add about 740 more for a product with
+ * a 12-word description, so they are off unless
+ * product.repository.mmap.search-indexes is set: without
+ * them searches scan products.dat, which keeps no heap per product but reads
+ * the whole catalog; keyword matches are ranked by ProductTextIndex.scanScore
+ * rather than BM25. With them
+ * they are adjusted under the same locks as the record they follow.
+ * Order decrements skip event ids in an AppliedEventWindow and append the ids
+ * they apply to the applied-events.dat ring right after the stock, under the
+ * record's stripe lock. Both writes outlive a crash of the process; one that
+ * lands between them can make a redelivered order take stock twice, which
+ * errs on the side of not selling stock that is not there.
+ */
+@Repository
+@Profile("mmap")
+public class MappedProductRepository implements ProductRepository {
+
+    private static final int DATA_MAGIC = 0x50524F44;
+    private static final int STRINGS_MAGIC = 0x53545253;
+
+    // products.dat header
+    private static final int HEADER_SIZE = 64;
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_SLOTS = 4;
+    private static final int HEADER_LIVE = 8;
+    private static final int HEADER_FREE_HEAD = 12;
+
+    // strings.dat header
+    private static final int STRINGS_HEADER_SIZE = 16;
+    private static final int STRINGS_WRITE_POSITION = 8;
+
+    // products.dat record layout
+    private static final int RECORD_SIZE = 72;
+    private static final int STATUS = 0;
+    private static final int CURRENCY = 1;
+    private static final int STOCK = 4;
+    private static final int NEXT_FREE = 4;
+    private static final int ID_MSB = 8;
+    private static final int ID_LSB = 16;
+    private static final int PRICE = 24;
+    private static final int CREATED_SECONDS = 32;
+    private static final int UPDATED_SECONDS = 40;
+    private static final int CREATED_NANOS = 48;
+    private static final int UPDATED_NANOS = 52;
+    private static final int NAME_OFFSET = 56;
+    private static final int NAME_LENGTH = 60;
+    private static final int DESCRIPTION_OFFSET = 64;
+    private static final int DESCRIPTION_LENGTH = 68;
+
+    private static final byte FREE = 0;
+    private static final byte LIVE = 1;
+    private static final int PRICE_SCALE = 2;
+    private static final int LOCK_STRIPES = 64;
+    private static final long MIN_COMPACTION_GARBAGE = 1 << 20;
+    private static final long MAX_STRINGS_SIZE = Integer.MAX_VALUE;
+
+    private final MappedFile data;
+    private final MappedFile strings;
+    private final OffHeapUuidIndex index;
+    private final ConcurrentSkipListMap<ProductSortKey, Integer> listingOrder = new ConcurrentSkipListMap<>();
+    private final ProductStatisticsCounter statistics = new ProductStatisticsCounter();
+    private final ProductSearchIndex searchIndex;
+    private final ProductTextIndex textIndex;
+    private final ReentrantReadWriteLock structureLock = new ReentrantReadWriteLock();
+    private final ReentrantLock stringsLock = new ReentrantLock();
+    private final ReentrantLock[] stripes = new ReentrantLock[LOCK_STRIPES];
+    private final AtomicLong liveStringBytes = new AtomicLong();
+    private final MappedEventRing appliedEventLog;
+    private final AppliedEventWindow appliedEvents;
+
+    public MappedProductRepository(
+            @Value("${product.repository.mmap.directory:./data/product-store}") String directory,
+            @Value("${product.repository.mmap.initial-capacity:65536}") int initialCapacity,
+            @Value("${product.repository.mmap.search-indexes:false}") boolean searchIndexes,
+            @Value("${product.repository.applied-events.window:100000}") int appliedEventsWindow) {
+        Path root = Path.of(directory);
+        try {
+            Files.createDirectories(root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create product store directory " + root, e);
+        }
+        this.data = new MappedFile(root.resolve("products.dat"), HEADER_SIZE + (long) initialCapacity * RECORD_SIZE);
+        this.strings = new MappedFile(root.resolve("strings.dat"), STRINGS_HEADER_SIZE + (long) initialCapacity * 256);
+        this.appliedEventLog = new MappedEventRing(root.resolve("applied-events.dat"), appliedEventsWindow);
+        this.appliedEvents = new AppliedEventWindow(appliedEventsWindow);
+        appliedEvents.addAll(appliedEventLog.load());
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.searchIndex = searchIndexes ? new ProductSearchIndex() : null;
+        this.textIndex = searchIndexes ? new ProductTextIndex() : null;
+        initializeHeaders();
+        this.index = new OffHeapUuidIndex(Math.max(initialCapacity, header().getInt(HEADER_LIVE)));
+        rebuildIndex();
+        compactStringsIfWasteful();
+    }
+
+    @Override
+    public Product save(Product product) {
+        UUID id = product.getId().getValue();
+        boolean updated = false;
+        structureLock.readLock().lock();
+        try {
+            int slot = index.get(id);
+            if (slot >= 0) {
+                writeRecord(slot, product);
+                updated = true;
+            }
+        } finally {
+            structureLock.readLock().unlock();
+        }
+
+        if (!updated) {
+            structureLock.writeLock().lock();
+            try {
+                store(product);
+            } finally {
+                structureLock.writeLock().unlock();
+            }
+        }
+        compactStringsIfWasteful();
+        return product;
+    }
+
+    @Override
+    public List<Product> saveAll(List<Product> products) {
+        // Reject the batch before anything is written rather than stop halfway
+        for (Product product : products) {
+            requireAsciiCurrency(product);
+        }
+        structureLock.writeLock().lock();
+        try {
+            for (Product product : products) {
+                store(product);
+            }
+        } finally {
+            structureLock.writeLock().unlock();
+        }
+        compactStringsIfWasteful();
+        return products;
+    }
+
+    @Override
+    public Optional<Product> findById(ProductId productId) {
+        structureLock.readLock().lock();
+        try {
+            int slot = index.get(productId.getValue());
+            if (slot < 0) {
+                return Optional.empty();
+            }
+            ReentrantLock stripe = stripe(slot);
+            stripe.lock();
+            try {
+                return Optional.of(readRecord(slot));
+            } finally {
+                stripe.unlock();
+            }
+        } finally {
+            structureLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Product> findAllById(List<ProductId> productIds) {
+        structureLock.readLock().lock();
+        try {
+            List<Product> result = new ArrayList<>(productIds.size());
+            for (ProductId productId : productIds) {
+                int slot = index.get(productId.getValue());
+                if (slot < 0) {
+                    continue;
+                }
+                ReentrantLock stripe = stripe(slot);
+                stripe.lock();
+                try {
+                    result.add(readRecord(slot));
+                } finally {
+                    stripe.unlock();
+                }
+            }
+            return result;
+        } finally {
+            structureLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Product> findAll() {
+        structureLock.readLock().lock();
+        try {
+            int slots = header().getInt(HEADER_SLOTS);
+            List<Product> result = new ArrayList<>(index.size());
+            for (int slot = 0; slot < slots; slot++) {
+                ReentrantLock stripe = stripe(slot);
+                stripe.lock();
+                try {
+                    if (data.buffer().get(recordOffset(slot) + STATUS) == LIVE) {
+                        result.add(readRecord(slot));
+                    }
+                } finally {
+                    stripe.unlock();
+                }
+            }
+            return result;
+        } finally {
+            structureLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Product> findPage(ProductSortKey after, int limit) {
+        structureLock.readLock().lock();
+        try {
+            Map<ProductSortKey, Integer> remaining = after == null ? listingOrder : listingOrder.tailMap(after, false);
+            List<Product> page = new ArrayList<>(limit);
+            for (int slot : remaining.values()) {
+                if (page.size() == limit) {
+                    break;
+                }
+                ReentrantLock stripe = stripe(slot);
+                stripe.lock();
+                try {
+                    page.add(readRecord(slot));
+                } finally {
+                    stripe.unlock();
+                }
+            }
+            return page;
+        } finally {
+            structureLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Product> findByCriteria(ProductSearchCriteria criteria) {
+        if (searchIndex == null) {
+            return scan(criteria);
+        }
+        Function<UUID, Product> loader = id -> findById(ProductId.of(id)).orElse(null);
+        return criteria.getQuery() != null
+                ? textIndex.search(criteria, loader)
+                : searchIndex.search(criteria, loader);
+    }
+
+    /**
+     * Attribute search without the on-heap indexes: reads records in slot order
+     * until the limit is reached
+     */
+    private List<Product> scan(ProductSearchCriteria criteria) {
+        if (criteria.getQuery() != null) {
+            return scanKeywords(criteria);
+        }
+        structureLock.readLock().lock();
+        try {
+            int slots = header().getInt(HEADER_SLOTS);
+            List<Product> result = new ArrayList<>(Math.min(criteria.getLimit(), 64));
+            for (int slot = 0; slot < slots && result.size() < criteria.getLimit(); slot++) {
+                ReentrantLock stripe = stripe(slot);
+                stripe.lock();
+                try {
+                    if (data.buffer().get(recordOffset(slot) + STATUS) == LIVE) {
+                        Product product = readRecord(slot);
+                        if (criteria.matches(product)) {
+                            result.add(product);
+                        }
+                    }
+                } finally {
+                    stripe.unlock();
+                }
+            }
+            return result;
+        } finally {
+            structureLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Keyword search without the on-heap indexes: reads every record and keeps
+     * the best scored matches in a bounded heap, earlier slots first on ties
+     */
+    private List<Product> scanKeywords(ProductSearchCriteria criteria) {
+        List<String> tokens = new ArrayList<>(ProductTextIndex.tokenize(criteria.getQuery()));
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        int limit = criteria.getLimit();
+        PriorityQueue<ScoredProduct> best = new PriorityQueue<>(Math.min(limit, 64) + 1, ScoredProduct.WORST_FIRST);
+        structureLock.readLock().lock();
+        try {
+            int slots = header().getInt(HEADER_SLOTS);
+            for (int slot = 0; slot < slots; slot++) {
+                Product product;
+                ReentrantLock stripe = stripe(slot);
+                stripe.lock();
+                try {
+                    if (data.buffer().get(recordOffset(slot) + STATUS) != LIVE) {
+                        continue;
+                    }
+                    product = readRecord(slot);
+                } finally {
+                    stripe.unlock();
+                }
+                if (!criteria.matches(product)) {
+                    continue;
+                }
+                float score = ProductTextIndex.scanScore(tokens, product);
+                if (score > 0) {
+                    best.offer(new ScoredProduct(product, score, slot));
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+            }
+        } finally {
+            structureLock.readLock().unlock();
+        }
+        List<ScoredProduct> ranked = new ArrayList<>(best);
+        ranked.sort(ScoredProduct.WORST_FIRST.reversed());
+        List<Product> result = new ArrayList<>(ranked.size());
+        for (ScoredProduct scored : ranked) {
+            result.add(scored.product());
+        }
+        return result;
+    }
+
+    private record ScoredProduct(Product product, float score, int slot) {
+        static final Comparator<ScoredProduct> WORST_FIRST = Comparator.comparingDouble(ScoredProduct::score)
+                .thenComparing(Comparator.comparingInt(ScoredProduct::slot).reversed());
+    }
+
+    @Override
+    public boolean deleteById(ProductId productId) {
+        boolean deleted;
+        structureLock.writeLock().lock();
+        try {
+            deleted = remove(productId);
+        } finally {
+            structureLock.writeLock().unlock();
+        }
+        compactStringsIfWasteful();
+        return deleted;
+    }
+
+    @Override
+    public Set<ProductId> deleteAllById(List<ProductId> productIds) {
+        Set<ProductId> deleted = new HashSet<>();
+        structureLock.writeLock().lock();
+        try {
+            for (ProductId productId : productIds) {
+                if (remove(productId)) {
+                    deleted.add(productId);
+                }
+            }
+        } finally {
+            structureLock.writeLock().unlock();
+        }
+        compactStringsIfWasteful();
+        return deleted;
+    }
+
+    @Override
+    public boolean existsById(ProductId productId) {
+        structureLock.readLock().lock();
+        try {
+            return index.get(productId.getValue()) >= 0;
+        } finally {
+            structureLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long count() {
+        structureLock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            structureLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public ProductStatistics statistics() {
+        return statistics.snapshot();
+    }
+
+    @Override
+    public Optional<Product> reserveStock(ProductId productId, Stock amount) {
+        return updateStock(productId, product -> product.reduceStock(amount));
+    }
+
+    @Override
+    public Optional<Product> releaseStock(ProductId productId, Stock amount) {
+        return updateStock(productId, product -> product.addStock(amount));
+    }
+
+    @Override
+    public Optional<StockDecrement> decrementStock(ProductId productId, List<String> eventIds,
+            List<Integer> quantities) {
+        List<String> keys = eventIds.stream().map(eventId -> eventId == null ? null : MappedEventRing.key(eventId))
+                .toList();
+        structureLock.readLock().lock();
+        try {
+            int slot = index.get(productId.getValue());
+            if (slot < 0) {
+                return Optional.empty();
+            }
+            ReentrantLock stripe = stripe(slot);
+            stripe.lock();
+            try {
+                Product product = readRecord(slot);
+                boolean wasAvailable = product.isAvailable();
+                Set<String> recorded = new LinkedHashSet<>();
+                StockDecrement decrement = appliedEvents.takeOrders(product, keys, quantities, recorded);
+                if (decrement.getAppliedCount() > 0) {
+                    statistics.stockChanged(wasAvailable, product.isAvailable());
+                    if (searchIndex != null) {
+                        searchIndex.index(product);
+                    }
+                    ByteBuffer buffer = data.buffer();
+                    int offset = recordOffset(slot);
+                    buffer.putInt(offset + STOCK, product.getStock().getValue());
+                    putTimestamp(buffer, offset + UPDATED_SECONDS, offset + UPDATED_NANOS, product.getUpdatedAt());
+                }
+                appliedEventLog.append(recorded);
+                appliedEvents.addAll(recorded);
+                return Optional.of(decrement);
+            } finally {
+                stripe.unlock();
+            }
+        } finally {
+            structureLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Flushes the mapped regions to disk
+     */
+    @PreDestroy
+    public void close() {
+        structureLock.writeLock().lock();
+        try {
+            data.close();
+            strings.close();
+            appliedEventLog.close();
+        } finally {
+            structureLock.writeLock().unlock();
+        }
+    }
+
+    private Optional<Product> updateStock(ProductId productId, Consumer<Product> change) {
+        structureLock.readLock().lock();
+        try {
+            int slot = index.get(productId.getValue());
+            if (slot < 0) {
+                return Optional.empty();
+            }
+            ReentrantLock stripe = stripe(slot);
+            stripe.lock();
+            try {
+                Product product = readRecord(slot);
+                boolean wasAvailable = product.isAvailable();
+                change.accept(product);
+                statistics.stockChanged(wasAvailable, product.isAvailable());
+                if (searchIndex != null) {
+                    searchIndex.index(product);
+                }
+                ByteBuffer buffer = data.buffer();
+                int offset = recordOffset(slot);
+                buffer.putInt(offset + STOCK, product.getStock().getValue());
+                putTimestamp(buffer, offset + UPDATED_SECONDS, offset + UPDATED_NANOS, product.getUpdatedAt());
+                return Optional.of(product);
+            } finally {
+                stripe.unlock();
+            }
+        } finally {
+            structureLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Inserts or overwrites a record; the structure write lock must be held
+     */
+    private void store(Product product) {
+        UUID id = product.getId().getValue();
+        int slot = index.get(id);
+        if (slot < 0) {
+            slot = allocateSlot();
+            writeRecord(slot, product);
+            index.put(id, slot);
+            listingOrder.put(ProductSortKey.of(product), slot);
+            header().putInt(HEADER_LIVE, header().getInt(HEADER_LIVE) + 1);
+        } else {
+            writeRecord(slot, product);
+        }
+    }
+
+    /**
+     * Frees the record of a product; the structure write lock must be held
+     */
+    private boolean remove(ProductId productId) {
+        int slot = index.remove(productId.getValue());
+        if (slot < 0) {
+            return false;
+        }
+        ByteBuffer buffer = data.buffer();
+        int offset = recordOffset(slot);
+        listingOrder.remove(ProductSortKey.of(getTimestamp(buffer, offset + CREATED_SECONDS, offset + CREATED_NANOS),
+                productId.getValue()));
+        statistics.removed(buffer.getInt(offset + STOCK) > 0);
+        liveStringBytes.addAndGet(-(long) buffer.getInt(offset + NAME_LENGTH) - buffer.getInt(offset + DESCRIPTION_LENGTH));
+        if (searchIndex != null) {
+            searchIndex.remove(productId.getValue());
+            textIndex.remove(productId.getValue());
+        }
+        buffer.put(offset + STATUS, FREE);
+        buffer.putInt(offset + NEXT_FREE, header().getInt(HEADER_FREE_HEAD));
+        header().putInt(HEADER_FREE_HEAD, slot);
+        header().putInt(HEADER_LIVE, header().getInt(HEADER_LIVE) - 1);
+        return true;
+    }
+
+    private void initializeHeaders() {
+        ByteBuffer header = header();
+        if (header.getInt(HEADER_MAGIC) != DATA_MAGIC) {
+            header.putInt(HEADER_SLOTS, 0);
+            header.putInt(HEADER_LIVE, 0);
+            header.putInt(HEADER_FREE_HEAD, -1);
+            header.putInt(HEADER_MAGIC, DATA_MAGIC);
+        }
+        ByteBuffer stringsHeader = strings.buffer();
+        if (stringsHeader.getInt(0) != STRINGS_MAGIC) {
+            stringsHeader.putLong(STRINGS_WRITE_POSITION, STRINGS_HEADER_SIZE);
+            stringsHeader.putInt(0, STRINGS_MAGIC);
+        }
+    }
+
+    private void rebuildIndex() {
+        ByteBuffer buffer = data.buffer();
+        int slots = header().getInt(HEADER_SLOTS);
+        for (int slot = 0; slot < slots; slot++) {
+            int offset = recordOffset(slot);
+            if (buffer.get(offset + STATUS) == LIVE) {
+                UUID id = new UUID(buffer.getLong(offset + ID_MSB), buffer.getLong(offset + ID_LSB));
+                index.put(id, slot);
+                listingOrder.put(ProductSortKey.of(getTimestamp(buffer, offset + CREATED_SECONDS, offset + CREATED_NANOS), id),
+                        slot);
+                statistics.added(buffer.getInt(offset + STOCK) > 0);
+                liveStringBytes.addAndGet((long) buffer.getInt(offset + NAME_LENGTH) + buffer.getInt(offset + DESCRIPTION_LENGTH));
+                if (searchIndex != null) {
+                    Product product = readRecord(slot);
+                    searchIndex.index(product);
+                    textIndex.index(product);
+                }
+            }
+        }
+    }
+
+    private int allocateSlot() {
+        ByteBuffer header = header();
+        int free = header.getInt(HEADER_FREE_HEAD);
+        if (free >= 0) {
+            header.putInt(HEADER_FREE_HEAD, data.buffer().getInt(recordOffset(free) + NEXT_FREE));
+            return free;
+        }
+        int slot = header.getInt(HEADER_SLOTS);
+        data.ensureCapacity(HEADER_SIZE + (long) (slot + 1) * RECORD_SIZE);
+        header().putInt(HEADER_SLOTS, slot + 1);
+        return slot;
+    }
+
+    private static void requireAsciiCurrency(Product product) {
+        if (!StandardCharsets.US_ASCII.newEncoder().canEncode(product.getCurrency().getValue())) {
+            throw new IllegalArgumentException("Currency must be a 3-letter ASCII code");
+        }
+    }
+
+    private void writeRecord(int slot, Product product) {
+        requireAsciiCurrency(product);
+        byte[] currency = product.getCurrency().getValue().getBytes(StandardCharsets.US_ASCII);
+        long price = product.getPrice().getValue().setScale(PRICE_SCALE).unscaledValue().longValueExact();
+        byte[] name = product.getName().getValue().getBytes(StandardCharsets.UTF_8);
+        byte[] description = product.getDescription().getValue().getBytes(StandardCharsets.UTF_8);
+
+        ReentrantLock stripe = stripe(slot);
+        stripe.lock();
+        try {
+            int offset = recordOffset(slot);
+            boolean live = data.buffer().get(offset + STATUS) == LIVE;
+            int nameOffset = writeString(live, offset + NAME_OFFSET, offset + NAME_LENGTH, name);
+            int descriptionOffset = writeString(live, offset + DESCRIPTION_OFFSET, offset + DESCRIPTION_LENGTH,
+                    description);
+
+            ByteBuffer buffer = data.buffer();
+            if (live) {
+                statistics.stockChanged(buffer.getInt(offset + STOCK) > 0, product.isAvailable());
+            } else {
+                statistics.added(product.isAvailable());
+            }
+            buffer.put(offset + CURRENCY, currency[0]);
+            buffer.put(offset + CURRENCY + 1, currency[1]);
+            buffer.put(offset + CURRENCY + 2, currency[2]);
+            buffer.putInt(offset + STOCK, product.getStock().getValue());
+            buffer.putLong(offset + ID_MSB, product.getId().getValue().getMostSignificantBits());
+            buffer.putLong(offset + ID_LSB, product.getId().getValue().getLeastSignificantBits());
+            buffer.putLong(offset + PRICE, price);
+            putTimestamp(buffer, offset + CREATED_SECONDS, offset + CREATED_NANOS, product.getCreatedAt());
+            putTimestamp(buffer, offset + UPDATED_SECONDS, offset + UPDATED_NANOS, product.getUpdatedAt());
+            buffer.putInt(offset + NAME_OFFSET, nameOffset);
+            buffer.putInt(offset + NAME_LENGTH, name.length);
+            buffer.putInt(offset + DESCRIPTION_OFFSET, descriptionOffset);
+            buffer.putInt(offset + DESCRIPTION_LENGTH, description.length);
+            buffer.put(offset + STATUS, LIVE);
+            if (searchIndex != null) {
+                searchIndex.index(product);
+                textIndex.index(product);
+            }
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    private Product readRecord(int slot) {
+        ByteBuffer buffer = data.buffer();
+        int offset = recordOffset(slot);
+        byte[] currency = new byte[3];
+        buffer.get(offset + CURRENCY, currency);
+        return Product.reconstruct(
+                ProductId.of(new UUID(buffer.getLong(offset + ID_MSB), buffer.getLong(offset + ID_LSB))),
+                ProductName.of(readString(buffer.getInt(offset + NAME_OFFSET), buffer.getInt(offset + NAME_LENGTH))),
+                Description.of(readString(buffer.getInt(offset + DESCRIPTION_OFFSET),
+                        buffer.getInt(offset + DESCRIPTION_LENGTH))),
+                Price.of(BigDecimal.valueOf(buffer.getLong(offset + PRICE), PRICE_SCALE)),
+                Currency.of(new String(currency, StandardCharsets.US_ASCII)),
+                Stock.of(buffer.getInt(offset + STOCK)),
+                getTimestamp(buffer, offset + CREATED_SECONDS, offset + CREATED_NANOS),
+                getTimestamp(buffer, offset + UPDATED_SECONDS, offset + UPDATED_NANOS));
+    }
+
+    /**
+     * Stores a string of a record and returns its offset: the record's current
+     * string when unchanged, rewritten in place when the new one fits, else a
+     * new copy; the record's stripe must be held
+     */
+    private int writeString(boolean live, int offsetField, int lengthField, byte[] bytes) {
+        ByteBuffer buffer = data.buffer();
+        if (!live) {
+            liveStringBytes.addAndGet(bytes.length);
+            return appendString(bytes);
+        }
+        int offset = buffer.getInt(offsetField);
+        int length = buffer.getInt(lengthField);
+        if (sameString(offsetField, lengthField, bytes)) {
+            return offset;
+        }
+        liveStringBytes.addAndGet(bytes.length - length);
+        if (bytes.length <= length) {
+            strings.buffer().put(offset, bytes);
+            return offset;
+        }
+        return appendString(bytes);
+    }
+
+    private int appendString(byte[] bytes) {
+        stringsLock.lock();
+        try {
+            long position = strings.buffer().getLong(STRINGS_WRITE_POSITION);
+            if (position + bytes.length > MAX_STRINGS_SIZE) {
+                throw new IllegalStateException("strings.dat is full: product names and descriptions are limited to "
+                        + MAX_STRINGS_SIZE + " bytes in total");
+            }
+            strings.ensureCapacity(position + bytes.length);
+            ByteBuffer buffer = strings.buffer();
+            buffer.put((int) position, bytes);
+            buffer.putLong(STRINGS_WRITE_POSITION, position + bytes.length);
+            return (int) position;
+        } finally {
+            stringsLock.unlock();
+        }
+    }
+
+    /**
+     * Compacts strings.dat when the bytes no record points to, left behind by
+     * updates and deletes, exceed both the live bytes and MIN_COMPACTION_GARBAGE;
+     * must not be called while holding the structure read lock
+     */
+    private void compactStringsIfWasteful() {
+        if (garbageStringBytes() < Math.max(liveStringBytes.get(), MIN_COMPACTION_GARBAGE)) {
+            return;
+        }
+        structureLock.writeLock().lock();
+        try {
+            if (garbageStringBytes() >= Math.max(liveStringBytes.get(), MIN_COMPACTION_GARBAGE)) {
+                compactStrings();
+            }
+        } finally {
+            structureLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Slides every live string down to the start of strings.dat in offset
+     * order, so a string is only ever copied over bytes already moved or
+     * unused; the structure write lock must be held
+     */
+    private void compactStrings() {
+        ByteBuffer buffer = data.buffer();
+        int slots = header().getInt(HEADER_SLOTS);
+        // (string offset, record field) pairs packed into longs to sort by offset
+        long[] references = new long[2 * index.size()];
+        int count = 0;
+        for (int slot = 0; slot < slots; slot++) {
+            int offset = recordOffset(slot);
+            if (buffer.get(offset + STATUS) == LIVE) {
+                references[count++] = (long) buffer.getInt(offset + NAME_OFFSET) << 32 | (offset + NAME_OFFSET);
+                references[count++] = (long) buffer.getInt(offset + DESCRIPTION_OFFSET) << 32
+                        | (offset + DESCRIPTION_OFFSET);
+            }
+        }
+        Arrays.sort(references, 0, count);
+
+        ByteBuffer stringBuffer = strings.buffer();
+        int writePosition = STRINGS_HEADER_SIZE;
+        for (int i = 0; i < count; i++) {
+            int from = (int) (references[i] >>> 32);
+            int offsetField = (int) references[i];
+            // The length field directly follows the offset field
+            int length = buffer.getInt(offsetField + 4);
+            if (from != writePosition) {
+                byte[] bytes = new byte[length];
+                stringBuffer.get(from, bytes);
+                stringBuffer.put(writePosition, bytes);
+                buffer.putInt(offsetField, writePosition);
+            }
+            writePosition += length;
+        }
+        stringBuffer.putLong(STRINGS_WRITE_POSITION, writePosition);
+        liveStringBytes.set(writePosition - STRINGS_HEADER_SIZE);
+    }
+
+    long garbageStringBytes() {
+        return strings.buffer().getLong(STRINGS_WRITE_POSITION) - STRINGS_HEADER_SIZE - liveStringBytes.get();
+    }
+
+    private String readString(int offset, int length) {
+        byte[] bytes = new byte[length];
+        strings.buffer().get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private boolean sameString(int offsetField, int lengthField, byte[] candidate) {
+        ByteBuffer buffer = data.buffer();
+        if (buffer.getInt(lengthField) != candidate.length) {
+            return false;
+        }
+        return strings.buffer().slice(buffer.getInt(offsetField), candidate.length).equals(ByteBuffer.wrap(candidate));
+    }
+
+    private static void putTimestamp(ByteBuffer buffer, int secondsOffset, int nanosOffset, LocalDateTime value) {
+        buffer.putLong(secondsOffset, value.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(nanosOffset, value.getNano());
+    }
+
+    private static LocalDateTime getTimestamp(ByteBuffer buffer, int secondsOffset, int nanosOffset) {
+        return LocalDateTime.ofEpochSecond(buffer.getLong(secondsOffset), buffer.getInt(nanosOffset), ZoneOffset.UTC);
+    }
+
+    private ByteBuffer header() {
+        return data.buffer();
+    }
+
+    private ReentrantLock stripe(int slot) {
+        return stripes[slot & (LOCK_STRIPES - 1)];
+    }
+
+    private static int recordOffset(int slot) {
+        return HEADER_SIZE + slot * RECORD_SIZE;
+    }
+}
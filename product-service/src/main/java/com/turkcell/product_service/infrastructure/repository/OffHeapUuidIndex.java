@@ -0,0 +1,134 @@
+package com.turkcell.product_service.infrastructure.repository;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Open-addressing UUID to slot hash index stored in a direct (off-heap) buffer
+ * Not thread-safe: callers must hold a read lock for lookups and an exclusive
+ * lock for put/remove
+ */
+final class OffHeapUuidIndex {
+
+    private static final int ENTRY_SIZE = 24;
+    private static final int STATE_OFFSET = 0;
+    private static final int SLOT_OFFSET = 4;
+    private static final int MSB_OFFSET = 8;
+    private static final int LSB_OFFSET = 16;
+
+    private static final int EMPTY = 0;
+    private static final int USED = 1;
+    private static final int DELETED = 2;
+
+    private static final double MAX_LOAD_FACTOR = 0.7;
+
+    private ByteBuffer entries;
+    private int capacity;
+    private int size;
+    private int deleted;
+
+    OffHeapUuidIndex(int expectedSize) {
+        int initialCapacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / MAX_LOAD_FACTOR)) - 1) << 1;
+        allocate(initialCapacity);
+    }
+
+    /**
+     * @return the slot mapped to the id, or -1 if absent
+     */
+    int get(UUID id) {
+        int position = find(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        return position < 0 ? -1 : entries.getInt(position + SLOT_OFFSET);
+    }
+
+    /**
+     * Maps an id that is not yet present to a slot
+     */
+    void put(UUID id, int slot) {
+        if (size + deleted + 1 > capacity * MAX_LOAD_FACTOR) {
+            rehash(size + 1 > capacity * MAX_LOAD_FACTOR / 2 ? capacity << 1 : capacity);
+        }
+        insert(id.getMostSignificantBits(), id.getLeastSignificantBits(), slot);
+        size++;
+    }
+
+    /**
+     * @return the slot the id was mapped to, or -1 if absent
+     */
+    int remove(UUID id) {
+        int position = find(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        if (position < 0) {
+            return -1;
+        }
+        entries.putInt(position + STATE_OFFSET, DELETED);
+        size--;
+        deleted++;
+        return entries.getInt(position + SLOT_OFFSET);
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int find(long msb, long lsb) {
+        int mask = capacity - 1;
+        for (int i = hash(msb, lsb) & mask;; i = (i + 1) & mask) {
+            int position = i * ENTRY_SIZE;
+            int state = entries.getInt(position + STATE_OFFSET);
+            if (state == EMPTY) {
+                return -1;
+            }
+            if (state == USED && entries.getLong(position + MSB_OFFSET) == msb
+                    && entries.getLong(position + LSB_OFFSET) == lsb) {
+                return position;
+            }
+        }
+    }
+
+    private void insert(long msb, long lsb, int slot) {
+        int mask = capacity - 1;
+        for (int i = hash(msb, lsb) & mask;; i = (i + 1) & mask) {
+            int position = i * ENTRY_SIZE;
+            int state = entries.getInt(position + STATE_OFFSET);
+            if (state != USED) {
+                if (state == DELETED) {
+                    deleted--;
+                }
+                entries.putLong(position + MSB_OFFSET, msb);
+                entries.putLong(position + LSB_OFFSET, lsb);
+                entries.putInt(position + SLOT_OFFSET, slot);
+                entries.putInt(position + STATE_OFFSET, USED);
+                return;
+            }
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        ByteBuffer old = entries;
+        int oldCapacity = capacity;
+        allocate(newCapacity);
+        for (int i = 0; i < oldCapacity; i++) {
+            int position = i * ENTRY_SIZE;
+            if (old.getInt(position + STATE_OFFSET) == USED) {
+                insert(old.getLong(position + MSB_OFFSET), old.getLong(position + LSB_OFFSET),
+                        old.getInt(position + SLOT_OFFSET));
+            }
+        }
+    }
+
+    private void allocate(int newCapacity) {
+        if ((long) newCapacity * ENTRY_SIZE > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Index capacity exceeded: " + newCapacity);
+        }
+        this.entries = ByteBuffer.allocateDirect(newCapacity * ENTRY_SIZE);
+        this.capacity = newCapacity;
+        this.deleted = 0;
+    }
+
+    private static int hash(long msb, long lsb) {
+        long h = msb ^ lsb;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
@@ -0,0 +1,106 @@
+package com.turkcell.product_service.infrastructure.repository;
+
+import com.turkcell.product_service.domain.entity.Product;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of products by id
+ * Split into segments, each an access-ordered map behind its own lock that
+ * evicts its least recently used entry when full. Entries expire after a time
+ * to live, so changes written by other instances show up eventually, and local
+ * writes invalidate their entry. A load that started before an invalidation of
+ * its segment is returned but not cached, so a slow read can never put back a
+ * value older than a committed write.
+ * Products are mutable, so the cache stores and hands out copies.
+ */
+final class ProductReadCache {
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final long timeToLiveNanos;
+
+    ProductReadCache(int maximumSize, Duration timeToLive) {
+        if (maximumSize < SEGMENTS) {
+            throw new IllegalArgumentException("Cache size must be at least " + SEGMENTS);
+        }
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(maximumSize / SEGMENTS);
+        }
+        this.timeToLiveNanos = timeToLive.toNanos();
+    }
+
+    Optional<Product> get(UUID id, Function<UUID, Optional<Product>> loader) {
+        Segment segment = segment(id);
+        long now = System.nanoTime();
+        long invalidations;
+        segment.lock.lock();
+        try {
+            Entry entry = segment.entries.get(id);
+            if (entry != null && now - entry.loadedAt() < timeToLiveNanos) {
+                return Optional.of(entry.product().copy());
+            }
+            invalidations = segment.invalidations;
+        } finally {
+            segment.lock.unlock();
+        }
+
+        Optional<Product> loaded = loader.apply(id);
+        if (loaded.isPresent()) {
+            Product copy = loaded.get().copy();
+            segment.lock.lock();
+            try {
+                if (segment.invalidations == invalidations) {
+                    segment.entries.put(id, new Entry(copy, now));
+                }
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Drops the entry of a product; call after its change is committed
+     */
+    void invalidate(UUID id) {
+        Segment segment = segment(id);
+        segment.lock.lock();
+        try {
+            segment.entries.remove(id);
+            segment.invalidations++;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    private Segment segment(UUID id) {
+        int hash = id.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    private record Entry(Product product, long loadedAt) {
+    }
+
+    private static final class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<UUID, Entry> entries;
+        private long invalidations;
+
+        Segment(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+    }
+}
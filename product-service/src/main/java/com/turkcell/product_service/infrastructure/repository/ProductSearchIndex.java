@@ -0,0 +1,183 @@
+package com.turkcell.product_service.infrastructure.repository;
+
+import com.turkcell.product_service.domain.entity.Product;
+import com.turkcell.product_service.domain.valueobject.ProductSearchCriteria;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+/**
+ * Secondary indexes over the catalog
+ * Keeps a price index per currency sorted by (price, id), the set of products
+ * in stock and a sorted index of normalized names for prefix lookups
+ * Callers report a product's changes while holding that product's lock, so
+ * the updates of one product are applied in order; concurrent searches may
+ * briefly miss a product that is being re-indexed
+ */
+final class ProductSearchIndex {
+
+    private static final int PRICE_SCALE = 2;
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, ConcurrentSkipListMap<PriceKey, UUID>> prices = new ConcurrentHashMap<>();
+    private final Set<UUID> available = ConcurrentHashMap.newKeySet();
+    private final ConcurrentSkipListMap<String, UUID> names = new ConcurrentSkipListMap<>();
+
+    void index(Product product) {
+        UUID id = product.getId().getValue();
+        Entry next = new Entry(product.getCurrency().getValue(),
+                product.getPrice().getValue().setScale(PRICE_SCALE).unscaledValue().longValueExact(),
+                product.getName().getNormalizedValue() + '\u0000' + id,
+                product.isAvailable());
+        Entry previous = entries.put(id, next);
+
+        if (previous == null || !previous.currency().equals(next.currency()) || previous.price() != next.price()) {
+            if (previous != null) {
+                prices.get(previous.currency()).remove(new PriceKey(previous.price(), id));
+            }
+            prices.computeIfAbsent(next.currency(), currency -> new ConcurrentSkipListMap<>())
+                    .put(new PriceKey(next.price(), id), id);
+        }
+        if (previous == null || !previous.nameKey().equals(next.nameKey())) {
+            if (previous != null) {
+                names.remove(previous.nameKey());
+            }
+            names.put(next.nameKey(), id);
+        }
+        if (next.available()) {
+            available.add(id);
+        } else {
+            available.remove(id);
+        }
+    }
+
+    void remove(UUID id) {
+        Entry previous = entries.remove(id);
+        if (previous != null) {
+            prices.get(previous.currency()).remove(new PriceKey(previous.price(), id));
+            names.remove(previous.nameKey());
+            available.remove(id);
+        }
+    }
+
+    /**
+     * Walks the smallest index range that applies to the criteria and
+     * re-checks every candidate against the current product, so the cost
+     * follows the size of that range rather than the catalog
+     *
+     * @param loader resolves an id to the current product, null if it was deleted
+     */
+    List<Product> search(ProductSearchCriteria criteria, Function<UUID, Product> loader) {
+        List<Product> result = new ArrayList<>(Math.min(criteria.getLimit(), 64));
+        for (UUID id : candidates(criteria)) {
+            if (result.size() == criteria.getLimit()) {
+                break;
+            }
+            Product product = loader.apply(id);
+            if (product != null && criteria.matches(product)) {
+                result.add(product);
+            }
+        }
+        return result;
+    }
+
+    private Iterable<UUID> candidates(ProductSearchCriteria criteria) {
+        List<Collection<UUID>> ranges = new ArrayList<>(3);
+        if (criteria.getNamePrefix() != null) {
+            ranges.add(names.subMap(criteria.getNamePrefix(), criteria.getNamePrefix() + Character.MAX_VALUE).values());
+        }
+        if (criteria.getCurrency() != null) {
+            ranges.add(priceRange(criteria));
+        }
+        if (criteria.isInStockOnly() || ranges.isEmpty()) {
+            ranges.add(available);
+        }
+        return smallest(ranges);
+    }
+
+    /**
+     * Steps through all ranges together and returns the first one to run out,
+     * which costs the size of the smallest range times the number of ranges
+     * instead of counting every range in full
+     */
+    private static Collection<UUID> smallest(List<Collection<UUID>> ranges) {
+        if (ranges.size() == 1) {
+            return ranges.get(0);
+        }
+        List<Iterator<UUID>> walks = new ArrayList<>(ranges.size());
+        for (Collection<UUID> range : ranges) {
+            walks.add(range.iterator());
+        }
+        while (true) {
+            for (int i = 0; i < walks.size(); i++) {
+                Iterator<UUID> walk = walks.get(i);
+                if (!walk.hasNext()) {
+                    return ranges.get(i);
+                }
+                walk.next();
+            }
+        }
+    }
+
+    private Collection<UUID> priceRange(ProductSearchCriteria criteria) {
+        ConcurrentSkipListMap<PriceKey, UUID> byPrice = prices.get(criteria.getCurrency().getValue());
+        if (byPrice == null) {
+            return Collections.emptyList();
+        }
+        PriceKey from = criteria.getMinPrice() == null
+                ? PriceKey.MIN
+                : PriceKey.lowest(cents(criteria.getMinPrice().getValue()));
+        PriceKey to = criteria.getMaxPrice() == null
+                ? PriceKey.MAX
+                : PriceKey.highest(cents(criteria.getMaxPrice().getValue()));
+        return byPrice.subMap(from, true, to, true).values();
+    }
+
+    private static long cents(BigDecimal price) {
+        return price.setScale(PRICE_SCALE).unscaledValue().longValueExact();
+    }
+
+    private record Entry(String currency, long price, String nameKey, boolean available) {
+    }
+
+    private record PriceKey(long price, long idMostSignificantBits, long idLeastSignificantBits)
+            implements Comparable<PriceKey> {
+
+        static final PriceKey MIN = lowest(Long.MIN_VALUE);
+        static final PriceKey MAX = highest(Long.MAX_VALUE);
+
+        PriceKey(long price, UUID id) {
+            this(price, id.getMostSignificantBits(), id.getLeastSignificantBits());
+        }
+
+        static PriceKey lowest(long price) {
+            return new PriceKey(price, Long.MIN_VALUE, Long.MIN_VALUE);
+        }
+
+        static PriceKey highest(long price) {
+            return new PriceKey(price, Long.MAX_VALUE, Long.MAX_VALUE);
+        }
+
+        @Override
+        public int compareTo(PriceKey other) {
+            int result = Long.compare(price, other.price);
+            if (result == 0) {
+                result = Long.compare(idMostSignificantBits, other.idMostSignificantBits);
+            }
+            if (result == 0) {
+                result = Long.compare(idLeastSignificantBits, other.idLeastSignificantBits);
+            }
+            return result;
+        }
+    }
+}
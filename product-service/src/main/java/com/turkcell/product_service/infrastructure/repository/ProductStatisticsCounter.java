@@ -0,0 +1,41 @@
+package com.turkcell.product_service.infrastructure.repository;
+
+import com.turkcell.product_service.domain.valueobject.ProductStatistics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Catalog counters maintained on the write path
+ * Total and available counts share one AtomicLong (total in the high 32 bits,
+ * available in the low 32 bits), so each change is a single atomic add and a
+ * read always sees both counts from the same moment
+ * Callers report a product's transitions while holding that product's lock,
+ * so the changes of one product are applied in order and neither count can
+ * go negative
+ */
+final class ProductStatisticsCounter {
+
+    private static final long TOTAL = 1L << 32;
+    private static final long AVAILABLE = 1L;
+
+    private final AtomicLong counts = new AtomicLong();
+
+    void added(boolean available) {
+        counts.addAndGet(TOTAL + (available ? AVAILABLE : 0));
+    }
+
+    void removed(boolean available) {
+        counts.addAndGet(-TOTAL - (available ? AVAILABLE : 0));
+    }
+
+    void stockChanged(boolean wasAvailable, boolean available) {
+        if (wasAvailable != available) {
+            counts.addAndGet(available ? AVAILABLE : -AVAILABLE);
+        }
+    }
+
+    ProductStatistics snapshot() {
+        long value = counts.get();
+        return ProductStatistics.of((int) (value >>> 32), (int) value);
+    }
+}
@@ -0,0 +1,597 @@
+package com.turkcell.product_service.infrastructure.repository;
+
+import com.turkcell.product_service.domain.entity.Product;
+import com.turkcell.product_service.domain.valueobject.ProductName;
+import com.turkcell.product_service.domain.valueobject.ProductSearchCriteria;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Inverted index over product names and descriptions
+ * Text is normalized like ProductName (lower-cased, accents removed) and split
+ * on anything that is not a letter or digit. Every product gets a reusable int
+ * ordinal and each term keeps a sorted array of (ordinal, frequency) postings;
+ * name terms count NAME_WEIGHT times. Queries match products containing every
+ * query term, the last one as a prefix, and rank them with BM25.
+ * Writers hold the write lock only while patching the postings of terms that
+ * changed; the lock is released before products are loaded for a result, so
+ * callers may report changes while holding their own per-product locks.
+ */
+final class ProductTextIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int NAME_WEIGHT = 3;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int[] NO_TERMS = new int[0];
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final OffHeapUuidIndex ordinals = new OffHeapUuidIndex(INITIAL_CAPACITY);
+    private final TreeMap<String, Integer> dictionary = new TreeMap<>();
+    private final IntStack freeTermIds = new IntStack();
+    private final IntStack freeOrdinals = new IntStack();
+
+    private Postings[] postings = new Postings[INITIAL_CAPACITY];
+    private int nextTermId;
+
+    // Per ordinal: product id, weighted length and (termId, frequency) pairs sorted by termId
+    private long[] idMostSignificantBits = new long[INITIAL_CAPACITY];
+    private long[] idLeastSignificantBits = new long[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private int[][] documentTerms = new int[INITIAL_CAPACITY][];
+    private int nextOrdinal;
+    private long totalLength;
+
+    void index(Product product) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = addTokens(product.getName().getValue(), NAME_WEIGHT, frequencies)
+                + addTokens(product.getDescription().getValue(), 1, frequencies);
+        UUID id = product.getId().getValue();
+
+        lock.writeLock().lock();
+        try {
+            int[] terms = toTermPairs(frequencies);
+            int ordinal = ordinals.get(id);
+            int[] previous = NO_TERMS;
+            if (ordinal < 0) {
+                ordinal = allocateOrdinal(id);
+            } else {
+                previous = documentTerms[ordinal];
+                if (Arrays.equals(previous, terms)) {
+                    return;
+                }
+            }
+            applyDifference(ordinal, previous, terms);
+            totalLength += length - lengths[ordinal];
+            lengths[ordinal] = length;
+            documentTerms[ordinal] = terms;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            int ordinal = ordinals.remove(id);
+            if (ordinal < 0) {
+                return;
+            }
+            applyDifference(ordinal, documentTerms[ordinal], NO_TERMS);
+            totalLength -= lengths[ordinal];
+            lengths[ordinal] = 0;
+            documentTerms[ordinal] = null;
+            freeOrdinals.push(ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the best ranked products matching the query that also pass the
+     * other filters of the criteria, highest score first
+     *
+     * @param loader resolves an id to the current product, null if it was deleted
+     */
+    List<Product> search(ProductSearchCriteria criteria, Function<UUID, Product> loader) {
+        List<String> tokens = new ArrayList<>(tokenize(criteria.getQuery()));
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        int limit = criteria.getLimit();
+        // Filters drop some of the ranked ids, so rank more and widen if needed
+        int candidates = criteria.hasAttributeFilters() ? limit * 4 : limit;
+        while (true) {
+            Ranking ranking = rank(tokens, candidates);
+            List<Product> result = new ArrayList<>(Math.min(limit, ranking.ids().size()));
+            for (UUID id : ranking.ids()) {
+                Product product = loader.apply(id);
+                if (product != null && criteria.matches(product)) {
+                    result.add(product);
+                    if (result.size() == limit) {
+                        return result;
+                    }
+                }
+            }
+            if (ranking.ids().size() >= ranking.matches()) {
+                return result;
+            }
+            candidates = (int) Math.min(Integer.MAX_VALUE, candidates * 4L);
+        }
+    }
+
+    /**
+     * Scores a product against query tokens without the index, for stores that
+     * scan instead: zero unless its name or description holds every token, the
+     * last one as a prefix, otherwise the weighted occurrences of the tokens
+     * per weighted length; a scan keeps no collection statistics for BM25
+     */
+    static float scanScore(List<String> tokens, Product product) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = addTokens(product.getName().getValue(), NAME_WEIGHT, frequencies)
+                + addTokens(product.getDescription().getValue(), 1, frequencies);
+        int occurrences = 0;
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            int frequency = 0;
+            if (i == tokens.size() - 1) {
+                for (Map.Entry<String, Integer> term : frequencies.entrySet()) {
+                    if (term.getKey().startsWith(token)) {
+                        frequency += term.getValue();
+                    }
+                }
+            } else {
+                frequency = frequencies.getOrDefault(token, 0);
+            }
+            if (frequency == 0) {
+                return 0;
+            }
+            occurrences += frequency;
+        }
+        return (float) occurrences / length;
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        forEachToken(text, tokens::add);
+        return tokens;
+    }
+
+    private Ranking rank(List<String> tokens, int candidates) {
+        lock.readLock().lock();
+        try {
+            int documents = ordinals.size();
+            if (documents == 0) {
+                return Ranking.EMPTY;
+            }
+            // BM25 length normalization is K1 * (1 - B + B * length / averageLength)
+            float lengthFactor = K1 * B * documents / Math.max(totalLength, 1);
+
+            // Resolve each token to its terms; the last token also matches as a prefix
+            int[][] tokenTerms = new int[tokens.size()][];
+            long[] tokenPostings = new long[tokens.size()];
+            for (int i = 0; i < tokens.size(); i++) {
+                tokenTerms[i] = i == tokens.size() - 1 ? expand(tokens.get(i)) : exact(tokens.get(i));
+                if (tokenTerms[i].length == 0) {
+                    return Ranking.EMPTY;
+                }
+                for (int term : tokenTerms[i]) {
+                    tokenPostings[i] += postings[term].size;
+                }
+            }
+
+            // Start from the rarest token and intersect the others into it
+            Integer[] order = new Integer[tokens.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Long.compare(tokenPostings[a], tokenPostings[b]));
+
+            if (order.length == 1 && tokenTerms[0].length == 1) {
+                // A single term needs no merging, score its postings straight into the heap
+                Postings list = postings[tokenTerms[0][0]];
+                TopHits top = new TopHits(Math.min(candidates, list.size));
+                float idf = idf(list.size, documents);
+                for (int i = 0; i < list.size; i++) {
+                    top.offer(list.documents[i], score(idf, list.frequencies[i], list.documents[i], lengthFactor));
+                }
+                return new Ranking(top.ids(), list.size);
+            }
+            Hits hits = union(tokenTerms[order[0]], 0, tokenTerms[order[0]].length, documents, lengthFactor);
+            for (int i = 1; i < order.length && hits.size > 0; i++) {
+                hits = intersect(hits, tokenTerms[order[i]], documents, lengthFactor);
+            }
+            TopHits top = new TopHits(Math.min(candidates, hits.size));
+            for (int i = 0; i < hits.size; i++) {
+                top.offer(hits.documents[i], hits.scores[i]);
+            }
+            return new Ranking(top.ids(), hits.size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] exact(String token) {
+        Integer term = dictionary.get(token);
+        return term == null ? NO_TERMS : new int[] { term };
+    }
+
+    private int[] expand(String prefix) {
+        NavigableMap<String, Integer> matching = dictionary.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        int[] terms = new int[Math.min(matching.size(), MAX_PREFIX_EXPANSIONS)];
+        int count = 0;
+        for (int term : matching.values()) {
+            if (count == terms.length) {
+                break;
+            }
+            terms[count++] = term;
+        }
+        return terms;
+    }
+
+    /**
+     * Merges the scored postings of terms[from, to) into one hit list,
+     * splitting in halves so k terms cost O(n log k)
+     */
+    private Hits union(int[] terms, int from, int to, int documents, float lengthFactor) {
+        if (to - from == 1) {
+            Postings list = postings[terms[from]];
+            float idf = idf(list.size, documents);
+            Hits hits = new Hits(list.size);
+            for (int i = 0; i < list.size; i++) {
+                hits.add(list.documents[i], score(idf, list.frequencies[i], list.documents[i], lengthFactor));
+            }
+            return hits;
+        }
+        int middle = (from + to) >>> 1;
+        Hits left = union(terms, from, middle, documents, lengthFactor);
+        Hits right = union(terms, middle, to, documents, lengthFactor);
+        Hits merged = new Hits(left.size + right.size);
+        int i = 0;
+        int j = 0;
+        while (i < left.size || j < right.size) {
+            if (j == right.size || (i < left.size && left.documents[i] < right.documents[j])) {
+                merged.add(left.documents[i], left.scores[i++]);
+            } else if (i == left.size || right.documents[j] < left.documents[i]) {
+                merged.add(right.documents[j], right.scores[j++]);
+            } else {
+                merged.add(left.documents[i], left.scores[i++] + right.scores[j++]);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Keeps the hits that contain at least one of the terms, adding their scores
+     */
+    private Hits intersect(Hits hits, int[] terms, int documents, float lengthFactor) {
+        float[] added = new float[hits.size];
+        boolean[] matched = new boolean[hits.size];
+        for (int term : terms) {
+            Postings list = postings[term];
+            float idf = idf(list.size, documents);
+            int j = 0;
+            for (int i = 0; i < hits.size && j < list.size; i++) {
+                int document = hits.documents[i];
+                j = advance(list, j, document);
+                if (j < list.size && list.documents[j] == document) {
+                    added[i] += score(idf, list.frequencies[j], document, lengthFactor);
+                    matched[i] = true;
+                    j++;
+                }
+            }
+        }
+        Hits result = new Hits(hits.size);
+        for (int i = 0; i < hits.size; i++) {
+            if (matched[i]) {
+                result.add(hits.documents[i], hits.scores[i] + added[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the first position at or after from whose ordinal is not below
+     * document, galloping so a short hit list skips through long postings
+     */
+    private static int advance(Postings list, int from, int document) {
+        int step = 1;
+        int low = from;
+        int high = from;
+        while (high < list.size && list.documents[high] < document) {
+            low = high + 1;
+            high += step;
+            step <<= 1;
+        }
+        int index = Arrays.binarySearch(list.documents, low, Math.min(high, list.size), document);
+        return index >= 0 ? index : -(index + 1);
+    }
+
+    /**
+     * BM25 term score; idf already carries the (K1 + 1) factor
+     */
+    private float score(float idf, int frequency, int document, float lengthFactor) {
+        return idf * frequency / (frequency + K1 * (1 - B) + lengthFactor * lengths[document]);
+    }
+
+    private static float idf(int documentFrequency, int documents) {
+        return (K1 + 1) * (float) Math.log(1 + (documents - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private int[] toTermPairs(Map<String, Integer> frequencies) {
+        long[] packed = new long[frequencies.size()];
+        int count = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            int frequency = Math.min(entry.getValue(), Short.MAX_VALUE);
+            packed[count++] = ((long) termId(entry.getKey()) << 32) | frequency;
+        }
+        Arrays.sort(packed);
+        int[] pairs = new int[packed.length * 2];
+        for (int i = 0; i < packed.length; i++) {
+            pairs[2 * i] = (int) (packed[i] >>> 32);
+            pairs[2 * i + 1] = (int) packed[i];
+        }
+        return pairs;
+    }
+
+    /**
+     * Patches postings from the previous to the next (termId, frequency) pairs
+     * of a document, touching only the terms that changed
+     */
+    private void applyDifference(int ordinal, int[] previous, int[] next) {
+        int i = 0;
+        int j = 0;
+        while (i < previous.length || j < next.length) {
+            if (j == next.length || (i < previous.length && previous[i] < next[j])) {
+                int term = previous[i];
+                postings[term].remove(ordinal);
+                if (postings[term].size == 0) {
+                    releaseTerm(term);
+                }
+                i += 2;
+            } else if (i == previous.length || next[j] < previous[i]) {
+                postings[next[j]].put(ordinal, (short) next[j + 1]);
+                j += 2;
+            } else {
+                if (previous[i + 1] != next[j + 1]) {
+                    postings[next[j]].put(ordinal, (short) next[j + 1]);
+                }
+                i += 2;
+                j += 2;
+            }
+        }
+    }
+
+    private int termId(String term) {
+        Integer existing = dictionary.get(term);
+        if (existing != null) {
+            return existing;
+        }
+        int id = freeTermIds.isEmpty() ? nextTermId++ : freeTermIds.pop();
+        if (id == postings.length) {
+            postings = Arrays.copyOf(postings, postings.length * 2);
+        }
+        postings[id] = new Postings(term);
+        dictionary.put(term, id);
+        return id;
+    }
+
+    private void releaseTerm(int term) {
+        dictionary.remove(postings[term].term);
+        postings[term] = null;
+        freeTermIds.push(term);
+    }
+
+    private int allocateOrdinal(UUID id) {
+        int ordinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.pop();
+        if (ordinal == lengths.length) {
+            int capacity = lengths.length * 2;
+            idMostSignificantBits = Arrays.copyOf(idMostSignificantBits, capacity);
+            idLeastSignificantBits = Arrays.copyOf(idLeastSignificantBits, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            documentTerms = Arrays.copyOf(documentTerms, capacity);
+        }
+        idMostSignificantBits[ordinal] = id.getMostSignificantBits();
+        idLeastSignificantBits[ordinal] = id.getLeastSignificantBits();
+        ordinals.put(id, ordinal);
+        return ordinal;
+    }
+
+    private static int addTokens(String text, int weight, Map<String, Integer> frequencies) {
+        int[] length = new int[1];
+        forEachToken(text, token -> {
+            frequencies.merge(token, weight, Integer::sum);
+            length[0] += weight;
+        });
+        return length[0];
+    }
+
+    private static void forEachToken(String text, Consumer<String> consumer) {
+        if (text == null) {
+            return;
+        }
+        String normalized = ProductName.normalize(text);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordCharacter = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordCharacter && start < 0) {
+                start = i;
+            } else if (!wordCharacter && start >= 0) {
+                consumer.accept(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+    }
+
+    /**
+     * Selects the best scored ordinals with a bounded min-heap of (score, ordinal)
+     * packed into longs; scores are positive, so their float bits order like
+     * the floats
+     */
+    private final class TopHits {
+        private final long[] heap;
+        private int size;
+
+        TopHits(int capacity) {
+            this.heap = new long[capacity];
+        }
+
+        void offer(int document, float score) {
+            long entry = ((long) Float.floatToIntBits(score) << 32) | document;
+            if (size < heap.length) {
+                heap[size] = entry;
+                siftUp(heap, size++);
+            } else if (entry > heap[0]) {
+                heap[0] = entry;
+                siftDown(heap, 0, size);
+            }
+        }
+
+        List<UUID> ids() {
+            UUID[] ids = new UUID[size];
+            for (int i = size - 1; i >= 0; i--) {
+                int document = (int) heap[0];
+                ids[i] = new UUID(idMostSignificantBits[document], idLeastSignificantBits[document]);
+                heap[0] = heap[i];
+                siftDown(heap, 0, i);
+            }
+            return Arrays.asList(ids);
+        }
+    }
+
+    private static void siftUp(long[] heap, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= heap[index]) {
+                return;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(long[] heap, int index, int size) {
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            if (left < size && heap[left] < heap[smallest]) {
+                smallest = left;
+            }
+            if (left + 1 < size && heap[left + 1] < heap[smallest]) {
+                smallest = left + 1;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(heap, index, smallest);
+            index = smallest;
+        }
+    }
+
+    private static void swap(long[] heap, int a, int b) {
+        long value = heap[a];
+        heap[a] = heap[b];
+        heap[b] = value;
+    }
+
+    private record Ranking(List<UUID> ids, int matches) {
+        static final Ranking EMPTY = new Ranking(List.of(), 0);
+    }
+
+    /**
+     * Sorted (ordinal, frequency) postings of one term
+     */
+    private static final class Postings {
+        private final String term;
+        private int[] documents = new int[4];
+        private short[] frequencies = new short[4];
+        private int size;
+
+        Postings(String term) {
+            this.term = term;
+        }
+
+        void put(int document, short frequency) {
+            // Fresh products usually get the highest ordinal, so appends are the common case
+            int index = size > 0 && documents[size - 1] < document
+                    ? -(size + 1)
+                    : Arrays.binarySearch(documents, 0, size, document);
+            if (index >= 0) {
+                frequencies[index] = frequency;
+                return;
+            }
+            index = -(index + 1);
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            System.arraycopy(documents, index, documents, index + 1, size - index);
+            System.arraycopy(frequencies, index, frequencies, index + 1, size - index);
+            documents[index] = document;
+            frequencies[index] = frequency;
+            size++;
+        }
+
+        void remove(int document) {
+            int index = Arrays.binarySearch(documents, 0, size, document);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(documents, index + 1, documents, index, size - index - 1);
+            System.arraycopy(frequencies, index + 1, frequencies, index, size - index - 1);
+            size--;
+        }
+    }
+
+    /**
+     * Scored ordinals in ascending ordinal order
+     */
+    private static final class Hits {
+        private final int[] documents;
+        private final float[] scores;
+        private int size;
+
+        Hits(int capacity) {
+            this.documents = new int[capacity];
+            this.scores = new float[capacity];
+        }
+
+        void add(int document, float score) {
+            documents[size] = document;
+            scores[size++] = score;
+        }
+    }
+
+    private static final class IntStack {
+        private int[] values = new int[16];
+        private int size;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void push(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int pop() {
+            return values[--size];
+        }
+    }
+}
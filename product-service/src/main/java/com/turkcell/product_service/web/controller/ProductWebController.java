@@ -1,21 +1,43 @@
 package com.turkcell.product_service.web.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.product_service.application.dto.BatchUpdateProductRequest;
 import com.turkcell.product_service.application.dto.CreateProductRequest;
+import com.turkcell.product_service.application.dto.ProductBatchResponse;
 import com.turkcell.product_service.application.dto.ProductListResponse;
+import com.turkcell.product_service.application.dto.ProductPageResponse;
 import com.turkcell.product_service.application.dto.ProductResponse;
+import com.turkcell.product_service.application.dto.ProductSearchRequest;
+import com.turkcell.product_service.application.dto.ProductSearchResponse;
+import com.turkcell.product_service.application.dto.ProductStatisticsResponse;
+import com.turkcell.product_service.application.dto.StockReservationRequest;
 import com.turkcell.product_service.application.dto.UpdateProductRequest;
 import com.turkcell.product_service.application.usecase.*;
+import com.turkcell.product_service.web.dto.BatchUpdateProductWebRequest;
 import com.turkcell.product_service.web.dto.CreateProductWebRequest;
+import com.turkcell.product_service.web.dto.ProductBatchWebResponse;
 import com.turkcell.product_service.web.dto.ProductListWebResponse;
+import com.turkcell.product_service.web.dto.ProductPageWebResponse;
+import com.turkcell.product_service.web.dto.ProductSearchWebResponse;
+import com.turkcell.product_service.web.dto.ProductStatisticsWebResponse;
 import com.turkcell.product_service.web.dto.ProductWebResponse;
+import com.turkcell.product_service.web.dto.StockReservationWebRequest;
 import com.turkcell.product_service.web.dto.UpdateProductWebRequest;
 import com.turkcell.product_service.web.mapper.ProductWebMapper;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Web Controller for Product CRUD operations
@@ -27,23 +49,44 @@ public class ProductWebController {
 
     private final CreateProductUseCase createProductUseCase;
     private final GetAllProductsUseCase getAllProductsUseCase;
+    private final GetProductPageUseCase getProductPageUseCase;
+    private final GetProductStatisticsUseCase getProductStatisticsUseCase;
+    private final SearchProductsUseCase searchProductsUseCase;
+    private final ExportProductsUseCase exportProductsUseCase;
     private final GetProductByIdUseCase getProductByIdUseCase;
     private final UpdateProductUseCase updateProductUseCase;
     private final DeleteProductUseCase deleteProductUseCase;
+    private final ReserveStockUseCase reserveStockUseCase;
+    private final ReleaseStockUseCase releaseStockUseCase;
     private final ProductWebMapper productWebMapper;
+    private final ObjectMapper objectMapper;
 
     public ProductWebController(CreateProductUseCase createProductUseCase,
             GetAllProductsUseCase getAllProductsUseCase,
+            GetProductPageUseCase getProductPageUseCase,
+            GetProductStatisticsUseCase getProductStatisticsUseCase,
+            SearchProductsUseCase searchProductsUseCase,
+            ExportProductsUseCase exportProductsUseCase,
             GetProductByIdUseCase getProductByIdUseCase,
             UpdateProductUseCase updateProductUseCase,
             DeleteProductUseCase deleteProductUseCase,
-            ProductWebMapper productWebMapper) {
+            ReserveStockUseCase reserveStockUseCase,
+            ReleaseStockUseCase releaseStockUseCase,
+            ProductWebMapper productWebMapper,
+            ObjectMapper objectMapper) {
         this.createProductUseCase = createProductUseCase;
         this.getAllProductsUseCase = getAllProductsUseCase;
+        this.getProductPageUseCase = getProductPageUseCase;
+        this.getProductStatisticsUseCase = getProductStatisticsUseCase;
+        this.searchProductsUseCase = searchProductsUseCase;
+        this.exportProductsUseCase = exportProductsUseCase;
         this.getProductByIdUseCase = getProductByIdUseCase;
         this.updateProductUseCase = updateProductUseCase;
         this.deleteProductUseCase = deleteProductUseCase;
+        this.reserveStockUseCase = reserveStockUseCase;
+        this.releaseStockUseCase = releaseStockUseCase;
         this.productWebMapper = productWebMapper;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -58,6 +101,89 @@ public class ProductWebController {
         return ResponseEntity.ok(webResponse);
     }
 
+    /**
+     * GET /api/v1/products?limit=&cursor= - Get a keyset page of products
+     * 
+     * @param limit  the maximum number of products on the page
+     * @param cursor the nextCursor of the previous page, omitted for the first page
+     * @return the page of products with the cursor of the next page
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<ProductPageWebResponse> getProductPage(@RequestParam int limit,
+            @RequestParam(required = false) String cursor) {
+        ProductPageResponse applicationResponse = getProductPageUseCase.execute(limit, cursor);
+        ProductPageWebResponse webResponse = productWebMapper.toWebResponse(applicationResponse);
+        return ResponseEntity.ok(webResponse);
+    }
+
+    /**
+     * GET /api/v1/products/stats - Get catalog statistics
+     * 
+     * @return the total, available and out-of-stock product counts
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ProductStatisticsWebResponse> getProductStatistics() {
+        ProductStatisticsResponse applicationResponse = getProductStatisticsUseCase.execute();
+        ProductStatisticsWebResponse webResponse = productWebMapper.toWebResponse(applicationResponse);
+        return ResponseEntity.ok(webResponse);
+    }
+
+    /**
+     * GET /api/v1/products/search - Search products using secondary indexes
+     * With q the results are ranked by keyword relevance over name and
+     * description; the other parameters narrow them
+     * 
+     * @param q        the keywords, the last one also matched as a prefix
+     * @param currency the currency code, required with a price range
+     * @param minPrice the lowest price, inclusive
+     * @param maxPrice the highest price, inclusive
+     * @param inStock  only products with stock when true
+     * @param name     the name prefix, matched ignoring case and accents
+     * @param limit    the maximum number of results
+     * @return the matching products
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ProductSearchWebResponse> searchProducts(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String currency,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "false") boolean inStock,
+            @RequestParam(required = false) String name,
+            @RequestParam(defaultValue = "50") int limit) {
+        ProductSearchRequest applicationRequest = new ProductSearchRequest(currency, minPrice, maxPrice, inStock,
+                name, q, limit);
+        ProductSearchResponse applicationResponse = searchProductsUseCase.execute(applicationRequest);
+        ProductSearchWebResponse webResponse = productWebMapper.toWebResponse(applicationResponse);
+        return ResponseEntity.ok(webResponse);
+    }
+
+    /**
+     * GET /api/v1/products/export - Stream all products as NDJSON
+     * Each product is written to the response as soon as it is read, one JSON
+     * object per line, so memory use does not grow with the catalog
+     * 
+     * @return the streaming response body
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportProducts() {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                exportProductsUseCase.execute(product -> {
+                    try {
+                        generator.writeObject(productWebMapper.toWebResponse(product));
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     /**
      * GET /api/v1/products/{id} - Get product by ID
      * 
@@ -85,6 +211,55 @@ public class ProductWebController {
         return ResponseEntity.status(HttpStatus.CREATED).body(webResponse);
     }
 
+    /**
+     * POST /api/v1/products/batch - Create several products
+     * Items are validated one by one; the valid ones are saved together and
+     * every item gets its own status
+     * 
+     * @param webRequests the create product web requests
+     * @return the outcome of every item, in request order
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ProductBatchWebResponse> createProducts(
+            @RequestBody List<CreateProductWebRequest> webRequests) {
+        List<CreateProductRequest> applicationRequests = webRequests.stream()
+                .map(webRequest -> webRequest == null ? null : productWebMapper.toApplicationRequest(webRequest))
+                .collect(Collectors.toList());
+        ProductBatchResponse applicationResponse = createProductUseCase.executeBatch(applicationRequests);
+        ProductBatchWebResponse webResponse = productWebMapper.toWebResponse(applicationResponse);
+        return ResponseEntity.ok(webResponse);
+    }
+
+    /**
+     * PUT /api/v1/products/batch - Update several products
+     * 
+     * @param webRequests the batch update web requests
+     * @return the outcome of every item, in request order
+     */
+    @PutMapping("/batch")
+    public ResponseEntity<ProductBatchWebResponse> updateProducts(
+            @RequestBody List<BatchUpdateProductWebRequest> webRequests) {
+        List<BatchUpdateProductRequest> applicationRequests = webRequests.stream()
+                .map(webRequest -> webRequest == null ? null : productWebMapper.toApplicationRequest(webRequest))
+                .collect(Collectors.toList());
+        ProductBatchResponse applicationResponse = updateProductUseCase.executeBatch(applicationRequests);
+        ProductBatchWebResponse webResponse = productWebMapper.toWebResponse(applicationResponse);
+        return ResponseEntity.ok(webResponse);
+    }
+
+    /**
+     * DELETE /api/v1/products/batch - Delete several products
+     * 
+     * @param ids the product IDs
+     * @return the outcome of every item, in request order
+     */
+    @DeleteMapping("/batch")
+    public ResponseEntity<ProductBatchWebResponse> deleteProducts(@RequestBody List<UUID> ids) {
+        ProductBatchResponse applicationResponse = deleteProductUseCase.executeBatch(ids);
+        ProductBatchWebResponse webResponse = productWebMapper.toWebResponse(applicationResponse);
+        return ResponseEntity.ok(webResponse);
+    }
+
     /**
      * PUT /api/v1/products/{id} - Update a product
      * 
@@ -112,4 +287,36 @@ public class ProductWebController {
         deleteProductUseCase.execute(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * POST /api/v1/products/{id}/stock/reserve - Reserve product stock atomically
+     * 
+     * @param id         the product ID
+     * @param webRequest the stock reservation web request
+     * @return the product with its remaining stock
+     */
+    @PostMapping("/{id}/stock/reserve")
+    public ResponseEntity<ProductWebResponse> reserveStock(@PathVariable UUID id,
+            @Valid @RequestBody StockReservationWebRequest webRequest) {
+        StockReservationRequest applicationRequest = productWebMapper.toApplicationRequest(webRequest);
+        ProductResponse applicationResponse = reserveStockUseCase.execute(id, applicationRequest);
+        ProductWebResponse webResponse = productWebMapper.toWebResponse(applicationResponse);
+        return ResponseEntity.ok(webResponse);
+    }
+
+    /**
+     * POST /api/v1/products/{id}/stock/release - Release reserved product stock
+     * 
+     * @param id         the product ID
+     * @param webRequest the stock reservation web request
+     * @return the product with its remaining stock
+     */
+    @PostMapping("/{id}/stock/release")
+    public ResponseEntity<ProductWebResponse> releaseStock(@PathVariable UUID id,
+            @Valid @RequestBody StockReservationWebRequest webRequest) {
+        StockReservationRequest applicationRequest = productWebMapper.toApplicationRequest(webRequest);
+        ProductResponse applicationResponse = releaseStockUseCase.execute(id, applicationRequest);
+        ProductWebResponse webResponse = productWebMapper.toWebResponse(applicationResponse);
+        return ResponseEntity.ok(webResponse);
+    }
 }
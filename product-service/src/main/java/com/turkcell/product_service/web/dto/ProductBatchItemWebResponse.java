@@ -0,0 +1,80 @@
+package com.turkcell.product_service.web.dto;
+
+import java.util.UUID;
+
+/**
+ * Web DTO for the outcome of one item of a batch operation
+ */
+public class ProductBatchItemWebResponse {
+
+    private int index;
+    private UUID id;
+    private String status;
+    private ProductWebResponse product;
+    private String error;
+
+    // Default constructor
+    public ProductBatchItemWebResponse() {
+    }
+
+    // Constructor with all fields
+    public ProductBatchItemWebResponse(int index, UUID id, String status, ProductWebResponse product, String error) {
+        this.index = index;
+        this.id = id;
+        this.status = status;
+        this.product = product;
+        this.error = error;
+    }
+
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public ProductWebResponse getProduct() {
+        return product;
+    }
+
+    public void setProduct(ProductWebResponse product) {
+        this.product = product;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductBatchItemWebResponse{" +
+                "index=" + index +
+                ", id=" + id +
+                ", status='" + status + '\'' +
+                ", product=" + product +
+                ", error='" + error + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,58 @@
+package com.turkcell.product_service.web.dto;
+
+import java.util.List;
+
+/**
+ * Web DTO for the per-item results of a batch operation
+ */
+public class ProductBatchWebResponse {
+
+    private List<ProductBatchItemWebResponse> items;
+    private int succeededCount;
+    private int failedCount;
+
+    // Default constructor
+    public ProductBatchWebResponse() {
+    }
+
+    // Constructor with all fields
+    public ProductBatchWebResponse(List<ProductBatchItemWebResponse> items, int succeededCount, int failedCount) {
+        this.items = items;
+        this.succeededCount = succeededCount;
+        this.failedCount = failedCount;
+    }
+
+    // Getters and Setters
+    public List<ProductBatchItemWebResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ProductBatchItemWebResponse> items) {
+        this.items = items;
+    }
+
+    public int getSucceededCount() {
+        return succeededCount;
+    }
+
+    public void setSucceededCount(int succeededCount) {
+        this.succeededCount = succeededCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(int failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductBatchWebResponse{" +
+                "items=" + items +
+                ", succeededCount=" + succeededCount +
+                ", failedCount=" + failedCount +
+                '}';
+    }
+}
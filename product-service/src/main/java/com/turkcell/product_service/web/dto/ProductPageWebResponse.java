@@ -0,0 +1,59 @@
+package com.turkcell.product_service.web.dto;
+
+import java.util.List;
+
+/**
+ * Web DTO for a keyset page of products
+ * nextCursor is null on the last page
+ */
+public class ProductPageWebResponse {
+
+    private List<ProductWebResponse> products;
+    private int count;
+    private String nextCursor;
+
+    // Default constructor
+    public ProductPageWebResponse() {
+    }
+
+    // Constructor with all fields
+    public ProductPageWebResponse(List<ProductWebResponse> products, int count, String nextCursor) {
+        this.products = products;
+        this.count = count;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<ProductWebResponse> getProducts() {
+        return products;
+    }
+
+    public void setProducts(List<ProductWebResponse> products) {
+        this.products = products;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductPageWebResponse{" +
+                "products=" + products +
+                ", count=" + count +
+                ", nextCursor='" + nextCursor + '\'' +
+                '}';
+    }
+}
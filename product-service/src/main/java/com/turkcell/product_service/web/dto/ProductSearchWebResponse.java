@@ -0,0 +1,47 @@
+package com.turkcell.product_service.web.dto;
+
+import java.util.List;
+
+/**
+ * Web DTO for product search results
+ */
+public class ProductSearchWebResponse {
+
+    private List<ProductWebResponse> products;
+    private int count;
+
+    // Default constructor
+    public ProductSearchWebResponse() {
+    }
+
+    // Constructor with all fields
+    public ProductSearchWebResponse(List<ProductWebResponse> products, int count) {
+        this.products = products;
+        this.count = count;
+    }
+
+    // Getters and Setters
+    public List<ProductWebResponse> getProducts() {
+        return products;
+    }
+
+    public void setProducts(List<ProductWebResponse> products) {
+        this.products = products;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductSearchWebResponse{" +
+                "products=" + products +
+                ", count=" + count +
+                '}';
+    }
+}
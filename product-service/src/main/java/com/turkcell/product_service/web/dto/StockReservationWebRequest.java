@@ -0,0 +1,40 @@
+package com.turkcell.product_service.web.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Web DTO for reserving or releasing product stock
+ * Contains validation annotations for web layer
+ */
+public class StockReservationWebRequest {
+
+    @NotNull(message = "Quantity is required")
+    @Min(value = 1, message = "Quantity must be at least 1")
+    private Integer quantity;
+
+    // Default constructor
+    public StockReservationWebRequest() {
+    }
+
+    // Constructor with all fields
+    public StockReservationWebRequest(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    // Getters and Setters
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    @Override
+    public String toString() {
+        return "StockReservationWebRequest{" +
+                "quantity=" + quantity +
+                '}';
+    }
+}
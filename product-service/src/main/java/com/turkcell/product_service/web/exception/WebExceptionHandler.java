@@ -1,5 +1,6 @@
 package com.turkcell.product_service.web.exception;
 
+import com.turkcell.product_service.domain.exception.InsufficientStockException;
 import com.turkcell.product_service.domain.exception.ProductDomainException;
 import com.turkcell.product_service.domain.exception.ProductNotFoundException;
 import org.springframework.http.HttpStatus;
@@ -58,6 +59,21 @@ public class WebExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * Handles insufficient stock exceptions
+     */
+    @ExceptionHandler(InsufficientStockException.class)
+    public ResponseEntity<ErrorResponse> handleInsufficientStockException(InsufficientStockException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                "Insufficient Stock",
+                ex.getMessage(),
+                null);
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     /**
      * Handles domain exceptions
      */
@@ -1,12 +1,25 @@
 package com.turkcell.product_service.web.mapper;
 
+import com.turkcell.product_service.application.dto.BatchUpdateProductRequest;
 import com.turkcell.product_service.application.dto.CreateProductRequest;
+import com.turkcell.product_service.application.dto.ProductBatchResponse;
 import com.turkcell.product_service.application.dto.ProductListResponse;
+import com.turkcell.product_service.application.dto.ProductPageResponse;
 import com.turkcell.product_service.application.dto.ProductResponse;
+import com.turkcell.product_service.application.dto.ProductSearchResponse;
+import com.turkcell.product_service.application.dto.ProductStatisticsResponse;
+import com.turkcell.product_service.application.dto.StockReservationRequest;
 import com.turkcell.product_service.application.dto.UpdateProductRequest;
+import com.turkcell.product_service.web.dto.BatchUpdateProductWebRequest;
 import com.turkcell.product_service.web.dto.CreateProductWebRequest;
+import com.turkcell.product_service.web.dto.ProductBatchItemWebResponse;
+import com.turkcell.product_service.web.dto.ProductBatchWebResponse;
 import com.turkcell.product_service.web.dto.ProductListWebResponse;
+import com.turkcell.product_service.web.dto.ProductPageWebResponse;
+import com.turkcell.product_service.web.dto.ProductSearchWebResponse;
+import com.turkcell.product_service.web.dto.ProductStatisticsWebResponse;
 import com.turkcell.product_service.web.dto.ProductWebResponse;
+import com.turkcell.product_service.web.dto.StockReservationWebRequest;
 import com.turkcell.product_service.web.dto.UpdateProductWebRequest;
 import org.springframework.stereotype.Component;
 
@@ -50,6 +63,32 @@ public class ProductWebMapper {
                 webRequest.getStock());
     }
 
+    /**
+     * Converts BatchUpdateProductWebRequest to BatchUpdateProductRequest
+     * 
+     * @param webRequest the web request DTO
+     * @return the application request DTO
+     */
+    public BatchUpdateProductRequest toApplicationRequest(BatchUpdateProductWebRequest webRequest) {
+        return new BatchUpdateProductRequest(
+                webRequest.getId(),
+                webRequest.getName(),
+                webRequest.getDescription(),
+                webRequest.getPrice(),
+                webRequest.getCurrency(),
+                webRequest.getStock());
+    }
+
+    /**
+     * Converts StockReservationWebRequest to StockReservationRequest
+     * 
+     * @param webRequest the web request DTO
+     * @return the application request DTO
+     */
+    public StockReservationRequest toApplicationRequest(StockReservationWebRequest webRequest) {
+        return new StockReservationRequest(webRequest.getQuantity());
+    }
+
     /**
      * Converts ProductResponse to ProductWebResponse
      * 
@@ -95,4 +134,65 @@ public class ProductWebMapper {
                 applicationResponse.getOutOfStockCount(),
                 message);
     }
+
+    /**
+     * Converts ProductPageResponse to ProductPageWebResponse
+     * 
+     * @param applicationResponse the application page response DTO
+     * @return the web page response DTO
+     */
+    public ProductPageWebResponse toWebResponse(ProductPageResponse applicationResponse) {
+        List<ProductWebResponse> webProducts = applicationResponse.getProducts().stream()
+                .map(this::toWebResponse)
+                .collect(Collectors.toList());
+
+        return new ProductPageWebResponse(webProducts, webProducts.size(), applicationResponse.getNextCursor());
+    }
+
+    /**
+     * Converts ProductSearchResponse to ProductSearchWebResponse
+     * 
+     * @param applicationResponse the application search response DTO
+     * @return the web search response DTO
+     */
+    public ProductSearchWebResponse toWebResponse(ProductSearchResponse applicationResponse) {
+        List<ProductWebResponse> webProducts = applicationResponse.getProducts().stream()
+                .map(this::toWebResponse)
+                .collect(Collectors.toList());
+
+        return new ProductSearchWebResponse(webProducts, webProducts.size());
+    }
+
+    /**
+     * Converts ProductBatchResponse to ProductBatchWebResponse
+     * 
+     * @param applicationResponse the application batch response DTO
+     * @return the web batch response DTO
+     */
+    public ProductBatchWebResponse toWebResponse(ProductBatchResponse applicationResponse) {
+        List<ProductBatchItemWebResponse> webItems = applicationResponse.getItems().stream()
+                .map(item -> new ProductBatchItemWebResponse(
+                        item.getIndex(),
+                        item.getId(),
+                        item.getStatus().name(),
+                        item.getProduct() == null ? null : toWebResponse(item.getProduct()),
+                        item.getError()))
+                .collect(Collectors.toList());
+
+        return new ProductBatchWebResponse(webItems, applicationResponse.getSucceededCount(),
+                applicationResponse.getFailedCount());
+    }
+
+    /**
+     * Converts ProductStatisticsResponse to ProductStatisticsWebResponse
+     * 
+     * @param applicationResponse the application statistics response DTO
+     * @return the web statistics response DTO
+     */
+    public ProductStatisticsWebResponse toWebResponse(ProductStatisticsResponse applicationResponse) {
+        return new ProductStatisticsWebResponse(
+                applicationResponse.getTotalCount(),
+                applicationResponse.getAvailableCount(),
+                applicationResponse.getOutOfStockCount());
+    }
 }
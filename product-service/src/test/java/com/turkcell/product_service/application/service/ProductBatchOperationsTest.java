@@ -0,0 +1,105 @@
+package com.turkcell.product_service.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.turkcell.product_service.application.dto.BatchItemStatus;
+import com.turkcell.product_service.application.dto.BatchUpdateProductRequest;
+import com.turkcell.product_service.application.dto.CreateProductRequest;
+import com.turkcell.product_service.application.dto.ProductBatchItemResponse;
+import com.turkcell.product_service.application.dto.ProductBatchResponse;
+import com.turkcell.product_service.domain.repository.ProductRepository;
+import com.turkcell.product_service.domain.valueobject.ProductStatistics;
+import com.turkcell.product_service.infrastructure.adapter.ProductRepositoryAdapter;
+import com.turkcell.product_service.infrastructure.journal.NoOpProductJournal;
+import com.turkcell.product_service.infrastructure.repository.InMemoryProductRepository;
+import com.turkcell.product_service.infrastructure.repository.MappedProductRepository;
+
+class ProductBatchOperationsTest {
+
+	@Test
+	void inMemoryBatchReportsEveryItem() {
+		assertBatchReportsEveryItem(new InMemoryProductRepository(new NoOpProductJournal(), 1_000));
+	}
+
+	@Test
+	void mappedBatchReportsEveryItem() throws Exception {
+		MappedProductRepository repository = new MappedProductRepository(
+				Files.createTempDirectory("product-store").toString(), 16, false, 1_000);
+		assertBatchReportsEveryItem(repository);
+		repository.close();
+	}
+
+	@Test
+	void rejectsEmptyAndOversizedBatches() {
+		ProductServiceAdapter service = new ProductServiceAdapter(
+				new ProductRepositoryAdapter(new InMemoryProductRepository(new NoOpProductJournal(), 1_000)));
+
+		assertThrows(IllegalArgumentException.class, () -> service.createProducts(List.of()));
+		assertThrows(IllegalArgumentException.class,
+				() -> service.deleteProducts(Collections.nCopies(1_001, UUID.randomUUID())));
+	}
+
+	private static void assertBatchReportsEveryItem(ProductRepository repository) {
+		ProductServiceAdapter service = new ProductServiceAdapter(new ProductRepositoryAdapter(repository));
+
+		List<CreateProductRequest> creates = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			creates.add(new CreateProductRequest("Ürün " + i, "toplu", BigDecimal.valueOf(10 + i), "TRY", i % 2));
+		}
+		creates.set(3, new CreateProductRequest(" ", "toplu", BigDecimal.TEN, "TRY", 1));
+		creates.set(7, new CreateProductRequest("Eksik stok", "toplu", BigDecimal.TEN, "TRY", null));
+		creates.set(11, null);
+
+		ProductBatchResponse created = service.createProducts(creates);
+		assertEquals(197, created.getSucceededCount());
+		assertEquals(3, created.getFailedCount());
+		for (int i = 0; i < creates.size(); i++) {
+			ProductBatchItemResponse item = created.getItems().get(i);
+			assertEquals(i, item.getIndex());
+			if (i == 3 || i == 7 || i == 11) {
+				assertEquals(BatchItemStatus.INVALID, item.getStatus());
+				assertNotNull(item.getError());
+				assertNull(item.getProduct());
+			} else {
+				assertEquals(BatchItemStatus.CREATED, item.getStatus());
+				assertEquals(item.getId(), service.getProductById(item.getId()).getId());
+			}
+		}
+		assertEquals(ProductStatistics.of(197, 97), repository.statistics());
+
+		UUID first = created.getItems().get(0).getId();
+		UUID second = created.getItems().get(1).getId();
+		UUID unknown = UUID.randomUUID();
+		ProductBatchResponse updated = service.updateProducts(Arrays.asList(
+				new BatchUpdateProductRequest(first, "Yeni ad", "güncel", BigDecimal.ONE, "USD", 5),
+				new BatchUpdateProductRequest(unknown, "Yok", "güncel", BigDecimal.ONE, "USD", 5),
+				new BatchUpdateProductRequest(first, "Tekrar", "güncel", BigDecimal.ONE, "USD", 5),
+				new BatchUpdateProductRequest(second, "Negatif", "güncel", BigDecimal.ONE, "USD", -1)));
+		assertEquals(List.of(BatchItemStatus.UPDATED, BatchItemStatus.NOT_FOUND, BatchItemStatus.INVALID,
+				BatchItemStatus.INVALID), updated.getItems().stream().map(ProductBatchItemResponse::getStatus).toList());
+		assertEquals("Yeni ad", service.getProductById(first).getName());
+		assertEquals(Integer.valueOf(5), service.getProductById(first).getStock());
+		assertEquals(ProductStatistics.of(197, 98), repository.statistics());
+
+		ProductBatchResponse deleted = service.deleteProducts(Arrays.asList(first, unknown, null, first, second));
+		assertEquals(List.of(BatchItemStatus.DELETED, BatchItemStatus.NOT_FOUND, BatchItemStatus.INVALID,
+				BatchItemStatus.INVALID, BatchItemStatus.DELETED),
+				deleted.getItems().stream().map(ProductBatchItemResponse::getStatus).toList());
+		assertEquals(2, deleted.getSucceededCount());
+		assertEquals(ProductStatistics.of(195, 96), repository.statistics());
+		assertEquals(195, repository.findAll().size());
+	}
+}
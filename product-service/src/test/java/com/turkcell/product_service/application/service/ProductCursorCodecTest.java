@@ -0,0 +1,37 @@
+package com.turkcell.product_service.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.turkcell.product_service.domain.valueobject.ProductSortKey;
+
+class ProductCursorCodecTest {
+
+	@Test
+	void cursorRoundTripsItsPosition() {
+		ProductSortKey key = ProductSortKey.of(LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_789), UUID.randomUUID());
+
+		assertEquals(key, ProductCursorCodec.decode(ProductCursorCodec.encode(key)));
+	}
+
+	@Test
+	void tamperedCursorsAreInvalidArguments() {
+		assertThrows(IllegalArgumentException.class, () -> ProductCursorCodec.decode("not base64!"));
+		assertThrows(IllegalArgumentException.class, () -> ProductCursorCodec.decode("AAAA"));
+		assertThrows(IllegalArgumentException.class, () -> ProductCursorCodec.decode(cursor(0, -1)));
+		assertThrows(IllegalArgumentException.class, () -> ProductCursorCodec.decode(cursor(Long.MAX_VALUE, 0)));
+		assertThrows(IllegalArgumentException.class, () -> ProductCursorCodec.decode(cursor(Long.MIN_VALUE, 0)));
+	}
+
+	private static String cursor(long seconds, int nanos) {
+		ByteBuffer buffer = ByteBuffer.allocate(28).putLong(seconds).putInt(nanos).putLong(1).putLong(2);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+	}
+}
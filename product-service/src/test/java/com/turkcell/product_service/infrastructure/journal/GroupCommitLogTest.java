@@ -0,0 +1,56 @@
+package com.turkcell.product_service.infrastructure.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class GroupCommitLogTest {
+
+	@Test
+	void rotationRacingCloseFinishesOrFailsButNeverHangs() throws Exception {
+		Path directory = Files.createTempDirectory("product-journal");
+		for (int i = 0; i < 50; i++) {
+			GroupCommitLog log = new GroupCommitLog(number -> directory.resolve("wal-" + number + ".log"), 1);
+			log.append(new byte[] { 1, 2, 3 });
+			AtomicReference<Object> outcome = new AtomicReference<>();
+			Thread checkpoint = new Thread(() -> {
+				try {
+					outcome.set(log.rotate());
+				} catch (IllegalStateException e) {
+					outcome.set(e);
+				}
+			});
+			checkpoint.start();
+			log.close();
+			checkpoint.join(5_000);
+
+			assertFalse(checkpoint.isAlive(), "rotate is still waiting after close");
+			assertTrue(outcome.get().equals(2L) || outcome.get() instanceof IllegalStateException,
+					String.valueOf(outcome.get()));
+			try (Stream<Path> segments = Files.list(directory)) {
+				segments.forEach(segment -> segment.toFile().delete());
+			}
+		}
+	}
+
+	@Test
+	void waitingOnAClosedLogFails() throws Exception {
+		Path directory = Files.createTempDirectory("product-journal");
+		GroupCommitLog log = new GroupCommitLog(number -> directory.resolve("wal-" + number + ".log"), 1);
+		log.awaitDurable(log.append(new byte[] { 1, 2, 3 }));
+		log.close();
+
+		assertEquals(3, Files.size(directory.resolve("wal-1.log")));
+		assertThrows(IllegalStateException.class, log::rotate);
+		long position = log.append(new byte[] { 4 });
+		assertThrows(IllegalStateException.class, () -> log.awaitDurable(position));
+	}
+}
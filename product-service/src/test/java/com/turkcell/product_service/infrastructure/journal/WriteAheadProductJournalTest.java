@@ -0,0 +1,93 @@
+package com.turkcell.product_service.infrastructure.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.turkcell.product_service.domain.entity.Product;
+import com.turkcell.product_service.domain.valueobject.Currency;
+import com.turkcell.product_service.domain.valueobject.Description;
+import com.turkcell.product_service.domain.valueobject.Price;
+import com.turkcell.product_service.domain.valueobject.ProductName;
+import com.turkcell.product_service.domain.valueobject.Stock;
+import com.turkcell.product_service.domain.valueobject.StockDecrement;
+import com.turkcell.product_service.infrastructure.repository.InMemoryProductRepository;
+
+class WriteAheadProductJournalTest {
+
+	@Test
+	void catalogIsRecoveredFromSnapshotAndLogTail() throws Exception {
+		Path directory = Files.createTempDirectory("product-journal");
+		WriteAheadProductJournal journal = new WriteAheadProductJournal(directory.toString(), 3600);
+		InMemoryProductRepository repository = new InMemoryProductRepository(journal, 1_000);
+
+		Product beforeSnapshot = repository.save(product("Before snapshot", 10));
+		Product deleted = repository.save(product("Deleted", 1));
+		journal.checkpoint(() -> List.copyOf(repository.findAll()), List::of);
+
+		Product afterSnapshot = repository.save(product("After snapshot", 3));
+		repository.reserveStock(beforeSnapshot.getId(), Stock.of(4));
+		assertTrue(repository.deleteById(deleted.getId()));
+		journal.close();
+
+		// Simulate a crash in the middle of a write
+		try (Stream<Path> files = Files.list(directory)) {
+			Path lastSegment = files.filter(file -> file.getFileName().toString().startsWith("wal-")).sorted()
+					.reduce((first, second) -> second).orElseThrow();
+			Files.write(lastSegment, new byte[] { 0, 0, 0, 42, 1, 2, 3 }, StandardOpenOption.APPEND);
+		}
+
+		WriteAheadProductJournal reopenedJournal = new WriteAheadProductJournal(directory.toString(), 3600);
+		InMemoryProductRepository reopened = new InMemoryProductRepository(reopenedJournal, 1_000);
+		assertEquals(2, reopened.count());
+		assertEquals(6, reopened.findById(beforeSnapshot.getId()).orElseThrow().getStock().getValue());
+		assertEquals("After snapshot", reopened.findById(afterSnapshot.getId()).orElseThrow().getName().getValue());
+		assertFalse(reopened.existsById(deleted.getId()));
+
+		// Appends after recovery go to a fresh segment and survive the next restart
+		reopened.save(product("After recovery", 5));
+		reopenedJournal.close();
+		WriteAheadProductJournal thirdJournal = new WriteAheadProductJournal(directory.toString(), 3600);
+		assertEquals(3, new InMemoryProductRepository(thirdJournal, 1_000).count());
+		thirdJournal.close();
+	}
+
+	@Test
+	void appliedOrderEventsAreRecoveredWithTheStock() throws Exception {
+		Path directory = Files.createTempDirectory("product-journal");
+		WriteAheadProductJournal journal = new WriteAheadProductJournal(directory.toString(), 3600);
+		InMemoryProductRepository repository = new InMemoryProductRepository(journal, 1_000);
+		Product product = repository.save(product("Ordered", 10));
+
+		StockDecrement first = repository.decrementStock(product.getId(), List.of("e1", "e2"), List.of(3, 8))
+				.orElseThrow();
+		assertEquals(StockDecrement.of(1, 1, 0, Stock.of(7)), first);
+		journal.checkpoint(() -> List.copyOf(repository.findAll()), () -> List.of("e1", "e2"));
+		repository.decrementStock(product.getId(), Arrays.asList("e3", null), List.of(2, 1));
+		journal.close();
+
+		// The redelivered batch after a restart only takes the order it has not seen
+		WriteAheadProductJournal reopenedJournal = new WriteAheadProductJournal(directory.toString(), 3600);
+		InMemoryProductRepository reopened = new InMemoryProductRepository(reopenedJournal, 1_000);
+		StockDecrement redelivered = reopened
+				.decrementStock(product.getId(), List.of("e1", "e2", "e3", "e4"), List.of(3, 8, 2, 1)).orElseThrow();
+		assertEquals(StockDecrement.of(1, 0, 3, Stock.of(3)), redelivered);
+		assertEquals(3, reopened.findById(product.getId()).orElseThrow().getStock().getValue());
+		reopenedJournal.close();
+	}
+
+	private static Product product(String name, int stock) {
+		return Product.create(ProductName.of(name), Description.of(name + " description"), Price.of(25L),
+				Currency.EUR(), Stock.of(stock));
+	}
+
+}
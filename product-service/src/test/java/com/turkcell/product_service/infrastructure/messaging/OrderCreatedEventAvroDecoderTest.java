@@ -0,0 +1,71 @@
+package com.turkcell.product_service.infrastructure.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class OrderCreatedEventAvroDecoderTest {
+
+	/**
+	 * The payload order-service writes for order 00112233-4455-6677-8899-aabbccddeeff,
+	 * product ffeeddcc-bbaa-9988-7766-554433221100 and quantity 3, as pinned by
+	 * its OrderEventSerializerTest
+	 */
+	private static final String ORDER_SERVICE_PAYLOAD = "0000000001"
+			+ "00112233445566778899aabbccddeeff" + "ffeeddccbbaa99887766554433221100" + "06";
+
+	private static final Path SCHEMAS = Path.of("src", "main", "resources", "schemas");
+	private static final Path ORDER_SERVICE_SCHEMAS = Path.of("..", "order-service").resolve(SCHEMAS);
+
+	private final OrderCreatedEventAvroDecoder decoder = new OrderCreatedEventAvroDecoder();
+
+	@Test
+	void schemasMatchTheCopiesOrderServiceWritesWith() throws IOException {
+		List<String> files = fileNames(SCHEMAS);
+		assertTrue(Files.isDirectory(ORDER_SERVICE_SCHEMAS), "order-service schemas not found next to this module");
+		assertEquals(fileNames(ORDER_SERVICE_SCHEMAS), files);
+		for (String file : files) {
+			assertArrayEquals(Files.readAllBytes(ORDER_SERVICE_SCHEMAS.resolve(file)),
+					Files.readAllBytes(SCHEMAS.resolve(file)), file + " differs from the order-service copy");
+		}
+	}
+
+	@Test
+	void decodesThePayloadOrderServiceWrites() {
+		OrderCreatedEvent event = decoder.decode(HexFormat.of().parseHex(ORDER_SERVICE_PAYLOAD));
+
+		assertEquals(new OrderCreatedEvent("ffeeddcc-bbaa-9988-7766-554433221100", 3), event);
+	}
+
+	@Test
+	void readsMultiByteQuantities() {
+		String payload = ORDER_SERVICE_PAYLOAD.substring(0, ORDER_SERVICE_PAYLOAD.length() - 2) + "80897a";
+
+		assertEquals(Integer.valueOf(1_000_000), decoder.decode(HexFormat.of().parseHex(payload)).quantity());
+	}
+
+	@Test
+	void rejectsUnknownSchemaIdsAndTruncatedPayloads() {
+		String unknownSchema = "0000000063" + ORDER_SERVICE_PAYLOAD.substring(10);
+		String truncated = ORDER_SERVICE_PAYLOAD.substring(0, ORDER_SERVICE_PAYLOAD.length() - 2);
+
+		assertThrows(IllegalArgumentException.class, () -> decoder.decode(HexFormat.of().parseHex(unknownSchema)));
+		assertThrows(IllegalArgumentException.class, () -> decoder.decode(HexFormat.of().parseHex(truncated)));
+	}
+
+	private static List<String> fileNames(Path directory) throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.map(file -> file.getFileName().toString()).sorted().toList();
+		}
+	}
+}
@@ -0,0 +1,192 @@
+package com.turkcell.product_service.infrastructure.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.mockito.stubbing.Answer;
+import org.springframework.messaging.support.GenericMessage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turkcell.product_service.application.dto.CreateProductRequest;
+import com.turkcell.product_service.application.dto.StockDecrementResponse;
+import com.turkcell.product_service.application.port.ProductServicePort;
+import com.turkcell.product_service.application.service.ProductServiceAdapter;
+import com.turkcell.product_service.application.usecase.DecrementStockUseCase;
+import com.turkcell.product_service.infrastructure.adapter.ProductRepositoryAdapter;
+import com.turkcell.product_service.infrastructure.journal.NoOpProductJournal;
+import com.turkcell.product_service.infrastructure.repository.InMemoryProductRepository;
+
+class OrderCreatedEventConsumerTest {
+
+	private final ProductServiceAdapter service = new ProductServiceAdapter(
+			new ProductRepositoryAdapter(new InMemoryProductRepository(new NoOpProductJournal(), 1_000)));
+	private final OrderCreatedEventConsumer consumer = new OrderCreatedEventConsumer(
+			new DecrementStockUseCase(service), new ObjectMapper(), 100, 150);
+	private final AtomicInteger acknowledgements = new AtomicInteger();
+	private final List<Duration> nacks = new ArrayList<>();
+	private final Acknowledgment acknowledgment = new Acknowledgment() {
+		@Override
+		public void acknowledge() {
+			acknowledgements.incrementAndGet();
+		}
+
+		@Override
+		public void nack(int index, Duration sleep) {
+			assertEquals(0, index);
+			nacks.add(sleep);
+		}
+	};
+
+	@Test
+	void appliesEachEventOnceAndAcknowledgesTheBatch() {
+		UUID first = product(10);
+		UUID second = product(10);
+
+		Batch batch = new Batch();
+		batch.add("e1", first, 2);
+		batch.add("e2", second, null);
+		batch.add("e3", first, 3);
+		batch.add("e1", first, 2);
+		consumer.accept(batch.message());
+
+		Batch redelivered = new Batch();
+		redelivered.add("e3", first, 3);
+		redelivered.add("e4", second, 4);
+		consumer.accept(redelivered.message());
+
+		assertEquals(5, stock(first));
+		assertEquals(5, stock(second));
+		assertEquals(2, acknowledgements.get());
+	}
+
+	@Test
+	void takesOrdersOneAtATimeWhenTheTotalDoesNotFit() {
+		UUID productId = product(5);
+
+		Batch batch = new Batch();
+		batch.add("e1", productId, 3);
+		batch.add("e2", productId, 3);
+		batch.add("e3", productId, 2);
+		consumer.accept(batch.message());
+
+		assertEquals(0, stock(productId));
+		assertEquals(1, acknowledgements.get());
+	}
+
+	@Test
+	void skipsMalformedEventsAndUnknownProducts() {
+		UUID productId = product(5);
+
+		Batch batch = new Batch();
+		batch.addRaw("e1", "{\"productId\":\"not-a-uuid\"}");
+		batch.addRaw("e2", "{broken");
+		batch.add("e3", UUID.randomUUID(), 1);
+		batch.add("e4", productId, 1);
+		consumer.accept(batch.message());
+
+		assertEquals(4, stock(productId));
+		assertEquals(1, acknowledgements.get());
+	}
+
+	@Test
+	void readsAvroEventsNextToJsonEvents() {
+		UUID productId = product(10);
+
+		Batch batch = new Batch();
+		batch.addAvro("e1", 1, productId, 4);
+		batch.add("e2", productId, 1);
+		batch.addAvro("e3", 99, productId, 2);
+		batch.addAvro("e1", 1, productId, 4);
+		consumer.accept(batch.message());
+
+		assertEquals(5, stock(productId));
+		assertEquals(1, acknowledgements.get());
+	}
+
+	@Test
+	void redeliversTheBatchWhileTheStoreFailsWithoutLosingOrders() {
+		UUID first = product(10);
+		UUID second = product(10);
+		ProductServicePort port = mock(ProductServicePort.class);
+		Answer<StockDecrementResponse> store = invocation -> service.decrementStock(invocation.getArgument(0),
+				invocation.getArgument(1), invocation.getArgument(2));
+		when(port.decrementStock(any(), anyList(), anyList())).thenAnswer(store);
+		IllegalStateException failure = new IllegalStateException("Cannot update the stock");
+		doThrow(failure, failure).doAnswer(store).when(port).decrementStock(eq(second), anyList(), anyList());
+		OrderCreatedEventConsumer failingConsumer = new OrderCreatedEventConsumer(new DecrementStockUseCase(port),
+				new ObjectMapper(), 100, 150);
+
+		Batch batch = new Batch();
+		batch.add("e1", first, 2);
+		batch.add("e2", second, 3);
+		for (int delivery = 0; delivery < 3; delivery++) {
+			failingConsumer.accept(batch.message());
+		}
+
+		assertEquals(List.of(Duration.ofMillis(100), Duration.ofMillis(150)), nacks);
+		assertEquals(1, acknowledgements.get());
+		assertEquals(8, stock(first));
+		assertEquals(7, stock(second));
+	}
+
+	private UUID product(int stock) {
+		return service.createProduct(new CreateProductRequest("Ürün", "sipariş", BigDecimal.TEN, "TRY", stock)).getId();
+	}
+
+	private int stock(UUID productId) {
+		return service.getProductById(productId).getStock();
+	}
+
+	private final class Batch {
+		private final List<byte[]> payloads = new ArrayList<>();
+		private final List<Map<String, Object>> headers = new ArrayList<>();
+
+		void add(String eventId, UUID productId, Integer quantity) {
+			addRaw(eventId, "{\"productId\":\"" + productId + "\""
+					+ (quantity == null ? "" : ",\"quantity\":" + quantity) + "}");
+		}
+
+		void addRaw(String eventId, String json) {
+			payloads.add(json.getBytes(StandardCharsets.UTF_8));
+			headers.add(Map.of(OrderCreatedEventConsumer.EVENT_ID_HEADER, eventId.getBytes(StandardCharsets.UTF_8)));
+		}
+
+		void addAvro(String eventId, int schemaId, UUID productId, int quantity) {
+			ByteBuffer payload = ByteBuffer.allocate(38);
+			payload.put((byte) 0).putInt(schemaId);
+			payload.putLong(0).putLong(0);
+			payload.putLong(productId.getMostSignificantBits()).putLong(productId.getLeastSignificantBits());
+			payload.put((byte) (quantity << 1));
+			payloads.add(payload.array());
+			headers.add(Map.of(OrderCreatedEventConsumer.EVENT_ID_HEADER, eventId.getBytes(StandardCharsets.UTF_8),
+					OrderCreatedEventConsumer.CONTENT_TYPE_HEADER,
+					OrderCreatedEventAvroDecoder.CONTENT_TYPE.getBytes(StandardCharsets.UTF_8)));
+		}
+
+		GenericMessage<List<byte[]>> message() {
+			Map<String, Object> batchHeaders = new HashMap<>();
+			batchHeaders.put(KafkaHeaders.BATCH_CONVERTED_HEADERS, headers);
+			batchHeaders.put(KafkaHeaders.ACKNOWLEDGMENT, acknowledgment);
+			return new GenericMessage<>(payloads, batchHeaders);
+		}
+	}
+}
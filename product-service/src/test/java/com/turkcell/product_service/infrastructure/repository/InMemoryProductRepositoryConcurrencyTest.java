@@ -0,0 +1,95 @@
+package com.turkcell.product_service.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.turkcell.product_service.domain.entity.Product;
+import com.turkcell.product_service.domain.exception.InsufficientStockException;
+import com.turkcell.product_service.domain.valueobject.Currency;
+import com.turkcell.product_service.domain.valueobject.Description;
+import com.turkcell.product_service.domain.valueobject.Price;
+import com.turkcell.product_service.domain.valueobject.ProductName;
+import com.turkcell.product_service.domain.valueobject.Stock;
+import com.turkcell.product_service.infrastructure.journal.NoOpProductJournal;
+
+class InMemoryProductRepositoryConcurrencyTest {
+
+	private static final int THREADS = 32;
+	private static final int ATTEMPTS_PER_THREAD = 20_000;
+	private static final int INITIAL_STOCK = 100_000;
+
+	@Test
+	void concurrentReservationsOnHotProductNeverOversell() throws Exception {
+		InMemoryProductRepository repository = new InMemoryProductRepository(new NoOpProductJournal(), 1_000);
+		Product product = repository.save(Product.create(ProductName.of("Hot SKU"), Description.of("stress"),
+				Price.of(10L), Currency.USD(), Stock.of(INITIAL_STOCK)));
+
+		AtomicInteger reserved = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			futures.add(executor.submit(() -> {
+				start.await();
+				for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+					try {
+						repository.reserveStock(product.getId(), Stock.of(1));
+						reserved.incrementAndGet();
+					} catch (InsufficientStockException e) {
+						rejected.incrementAndGet();
+					}
+				}
+				return null;
+			}));
+		}
+
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		executor.shutdown();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+
+		int attempts = THREADS * ATTEMPTS_PER_THREAD;
+		assertEquals(INITIAL_STOCK, reserved.get());
+		assertEquals(attempts - INITIAL_STOCK, rejected.get());
+		assertEquals(0, repository.findById(product.getId()).orElseThrow().getStock().getValue());
+	}
+
+	@Test
+	void reserveAndReleaseInterleavedKeepStockConsistent() throws Exception {
+		InMemoryProductRepository repository = new InMemoryProductRepository(new NoOpProductJournal(), 1_000);
+		Product product = repository.save(Product.create(ProductName.of("Hot SKU"), Description.of("stress"),
+				Price.of(10L), Currency.USD(), Stock.of(THREADS)));
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			futures.add(executor.submit(() -> {
+				for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+					repository.reserveStock(product.getId(), Stock.of(1));
+					repository.releaseStock(product.getId(), Stock.of(1));
+				}
+				return null;
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		executor.shutdown();
+
+		assertEquals(THREADS, repository.findById(product.getId()).orElseThrow().getStock().getValue());
+	}
+
+}
@@ -0,0 +1,108 @@
+package com.turkcell.product_service.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.turkcell.product_service.domain.entity.Product;
+import com.turkcell.product_service.domain.valueobject.Currency;
+import com.turkcell.product_service.domain.valueobject.Description;
+import com.turkcell.product_service.domain.valueobject.Price;
+import com.turkcell.product_service.domain.valueobject.ProductId;
+import com.turkcell.product_service.domain.valueobject.ProductName;
+import com.turkcell.product_service.domain.valueobject.Stock;
+import com.turkcell.product_service.domain.valueobject.StockDecrement;
+
+class MappedProductRepositoryTest {
+
+	@Test
+	void productsSurviveReopeningTheStore() throws Exception {
+		Path directory = Files.createTempDirectory("product-store");
+		MappedProductRepository repository = new MappedProductRepository(directory.toString(), 4, false, 1_000);
+
+		Product kept = repository.save(Product.create(ProductName.of("Çay Bardağı"), Description.of("İnce belli"),
+				Price.of(new BigDecimal("12.50")), Currency.TRY(), Stock.of(7)));
+		Product removed = repository.save(Product.create(ProductName.of("Removed"), Description.of("gone"),
+				Price.of(1L), Currency.USD(), Stock.of(1)));
+		for (int i = 0; i < 100; i++) {
+			repository.save(Product.create(ProductName.of("Bulk " + i), Description.of("grows the files"),
+					Price.of(i + 1L), Currency.EUR(), Stock.of(i)));
+		}
+		repository.reserveStock(kept.getId(), Stock.of(2));
+		assertTrue(repository.deleteById(removed.getId()));
+		repository.close();
+
+		MappedProductRepository reopened = new MappedProductRepository(directory.toString(), 4, false, 1_000);
+		Product loaded = reopened.findById(kept.getId()).orElseThrow();
+		assertEquals("Çay Bardağı", loaded.getName().getValue());
+		assertEquals("İnce belli", loaded.getDescription().getValue());
+		assertEquals(new BigDecimal("12.50"), loaded.getPrice().getValue());
+		assertEquals(Currency.TRY(), loaded.getCurrency());
+		assertEquals(5, loaded.getStock().getValue());
+		assertEquals(kept.getCreatedAt(), loaded.getCreatedAt());
+		assertFalse(reopened.existsById(removed.getId()));
+		assertFalse(reopened.existsById(ProductId.generate()));
+		assertEquals(101, reopened.count());
+		assertEquals(101, reopened.findAll().size());
+		reopened.close();
+	}
+
+	@Test
+	void appliedOrderEventsSurviveReopeningTheStore() throws Exception {
+		Path directory = Files.createTempDirectory("product-store");
+		MappedProductRepository repository = new MappedProductRepository(directory.toString(), 4, false, 1_000);
+		Product product = repository.save(Product.create(ProductName.of("Ordered"), Description.of("stok"),
+				Price.of(1L), Currency.TRY(), Stock.of(10)));
+		String longId = "order-event-" + "x".repeat(100);
+		assertEquals(StockDecrement.of(2, 0, 1, Stock.of(6)), repository
+				.decrementStock(product.getId(), List.of("e1", longId, "e1"), List.of(3, 1, 3)).orElseThrow());
+		repository.close();
+
+		// A smaller window keeps the newest ids only
+		MappedProductRepository reopened = new MappedProductRepository(directory.toString(), 4, false, 1);
+		assertEquals(StockDecrement.of(1, 0, 1, Stock.of(3)), reopened
+				.decrementStock(product.getId(), List.of("e1", longId), List.of(3, 1)).orElseThrow());
+		assertEquals(3, reopened.findById(product.getId()).orElseThrow().getStock().getValue());
+		reopened.close();
+	}
+
+	@Test
+	void rewrittenStringsReuseTheirBytesOrAreCompactedAway() throws Exception {
+		Path directory = Files.createTempDirectory("product-store");
+		MappedProductRepository repository = new MappedProductRepository(directory.toString(), 4, false, 1_000);
+		Product neighbour = repository.save(Product.create(ProductName.of("Komşu"), Description.of("yerinde kalır"),
+				Price.of(1L), Currency.TRY(), Stock.of(1)));
+		Product product = repository.save(Product.create(ProductName.of("Changing"), Description.of("x".repeat(1000)),
+				Price.of(1L), Currency.USD(), Stock.of(1)));
+
+		assertEquals(0, repository.garbageStringBytes());
+		repository.save(renamed(product, "Changed", "y".repeat(600)));
+		assertEquals(1 + 400, repository.garbageStringBytes(), "shorter strings are rewritten in place");
+
+		for (int i = 0; i < 2000; i++) {
+			repository.save(renamed(product, "Changed " + i, i + "z".repeat(900)));
+		}
+		assertTrue(repository.garbageStringBytes() < 1 << 20, "strings.dat is compacted");
+		repository.close();
+
+		MappedProductRepository reopened = new MappedProductRepository(directory.toString(), 4, false, 1_000);
+		Product loaded = reopened.findById(product.getId()).orElseThrow();
+		assertEquals("Changed 1999", loaded.getName().getValue());
+		assertEquals(1999 + "z".repeat(900), loaded.getDescription().getValue());
+		assertEquals("yerinde kalır", reopened.findById(neighbour.getId()).orElseThrow().getDescription().getValue());
+		reopened.close();
+	}
+
+	private static Product renamed(Product product, String name, String description) {
+		Product renamed = product.copy();
+		renamed.updateInfo(ProductName.of(name), Description.of(description), renamed.getPrice(), renamed.getCurrency());
+		return renamed;
+	}
+}
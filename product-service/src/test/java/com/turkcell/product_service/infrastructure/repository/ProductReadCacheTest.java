@@ -0,0 +1,94 @@
+package com.turkcell.product_service.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.turkcell.product_service.domain.entity.Product;
+import com.turkcell.product_service.domain.valueobject.Currency;
+import com.turkcell.product_service.domain.valueobject.Description;
+import com.turkcell.product_service.domain.valueobject.Price;
+import com.turkcell.product_service.domain.valueobject.ProductName;
+import com.turkcell.product_service.domain.valueobject.Stock;
+
+class ProductReadCacheTest {
+
+	@Test
+	void servesRepeatedReadsWithoutLoadingAndHandsOutCopies() {
+		ProductReadCache cache = new ProductReadCache(64, Duration.ofMinutes(1));
+		Product product = product(3);
+		AtomicInteger loads = new AtomicInteger();
+
+		Product first = cache.get(product.getId().getValue(), id -> {
+			loads.incrementAndGet();
+			return Optional.of(product);
+		}).orElseThrow();
+		first.updateStock(Stock.of(99));
+		Product second = cache.get(product.getId().getValue(), id -> {
+			loads.incrementAndGet();
+			return Optional.of(product);
+		}).orElseThrow();
+
+		assertEquals(1, loads.get());
+		assertEquals(3, second.getStock().getValue());
+		assertNotSame(first, second);
+	}
+
+	@Test
+	void loadOverlappingAnInvalidationIsNotCached() {
+		ProductReadCache cache = new ProductReadCache(64, Duration.ofMinutes(1));
+		Product stale = product(1);
+		UUID id = stale.getId().getValue();
+
+		// A write commits and invalidates while the read is still loading the old row
+		cache.get(id, ignored -> {
+			cache.invalidate(id);
+			return Optional.of(stale);
+		});
+		Product fresh = stale.copy();
+		fresh.updateStock(Stock.of(0));
+
+		assertEquals(0, cache.get(id, ignored -> Optional.of(fresh)).orElseThrow().getStock().getValue());
+	}
+
+	@Test
+	void evictsBeyondCapacityAndExpiresEntries() {
+		ProductReadCache bounded = new ProductReadCache(16, Duration.ofMinutes(1));
+		AtomicInteger loads = new AtomicInteger();
+		Product[] products = new Product[1_000];
+		for (int i = 0; i < products.length; i++) {
+			products[i] = product(i);
+			Product product = products[i];
+			bounded.get(product.getId().getValue(), id -> Optional.of(product));
+		}
+		for (Product product : products) {
+			bounded.get(product.getId().getValue(), id -> {
+				loads.incrementAndGet();
+				return Optional.of(product);
+			});
+		}
+		assertTrue(loads.get() >= products.length - 16);
+
+		ProductReadCache expiring = new ProductReadCache(16, Duration.ZERO);
+		loads.set(0);
+		for (int i = 0; i < 2; i++) {
+			expiring.get(products[0].getId().getValue(), id -> {
+				loads.incrementAndGet();
+				return Optional.of(products[0]);
+			});
+		}
+		assertEquals(2, loads.get());
+	}
+
+	private static Product product(int stock) {
+		return Product.create(ProductName.of("Önbellek"), Description.of("cache"), Price.of(5L), Currency.TRY(),
+				Stock.of(stock));
+	}
+}
@@ -0,0 +1,173 @@
+package com.turkcell.product_service.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.turkcell.product_service.domain.entity.Product;
+import com.turkcell.product_service.domain.repository.ProductRepository;
+import com.turkcell.product_service.domain.valueobject.Currency;
+import com.turkcell.product_service.domain.valueobject.Description;
+import com.turkcell.product_service.domain.valueobject.Price;
+import com.turkcell.product_service.domain.valueobject.ProductName;
+import com.turkcell.product_service.domain.valueobject.ProductSearchCriteria;
+import com.turkcell.product_service.domain.valueobject.Stock;
+import com.turkcell.product_service.infrastructure.journal.NoOpProductJournal;
+
+class ProductSearchIndexTest {
+
+	private static final String[] NAMES = { "Çay Bardağı", "Cam Sürahi", "Kahve Fincanı", "Kalem", "ıhlamur", "İnce Belli" };
+	private static final Currency[] CURRENCIES = { Currency.TRY(), Currency.USD(), Currency.EUR() };
+
+	@Test
+	void inMemoryQueriesMatchFullScan() {
+		assertQueriesMatchFullScan(new InMemoryProductRepository(new NoOpProductJournal(), 1_000));
+	}
+
+	@Test
+	void mappedQueriesMatchFullScan() throws Exception {
+		MappedProductRepository repository = new MappedProductRepository(
+				Files.createTempDirectory("product-store").toString(), 16, true, 1_000);
+		assertQueriesMatchFullScan(repository);
+		repository.close();
+	}
+
+	@Test
+	void mappedQueriesWithoutIndexesScanTheStore() throws Exception {
+		MappedProductRepository repository = new MappedProductRepository(
+				Files.createTempDirectory("product-store").toString(), 16, false, 1_000);
+		assertQueriesMatchFullScan(repository);
+
+		InMemoryProductRepository indexed = new InMemoryProductRepository(new NoOpProductJournal(), 1_000);
+		repository.findAll().forEach(indexed::save);
+		for (String query : new String[] { "kalem", "kah", "cay bar", "ince 1", "sürahi 4", "indexed", "yok" }) {
+			ProductSearchCriteria criteria = ProductSearchCriteria.of(Currency.TRY(), null, null, false, null, query,
+					10_000);
+			assertEquals(ids(indexed.findByCriteria(criteria)), ids(repository.findByCriteria(criteria)), query);
+		}
+		repository.close();
+	}
+
+	@Test
+	void mappedKeywordScanRanksNameMatchesFirst() throws Exception {
+		MappedProductRepository repository = new MappedProductRepository(
+				Files.createTempDirectory("product-store").toString(), 16, false, 1_000);
+		Product inDescription = repository.save(Product.create(ProductName.of("Defter"),
+				Description.of("kalem kutusu ile"), Price.of(10L), Currency.TRY(), Stock.of(1)));
+		Product inName = repository.save(product("Kalem", Currency.TRY(), 10, 1));
+		repository.save(product("Silgi", Currency.TRY(), 10, 1));
+
+		assertEquals(List.of(inName.getId(), inDescription.getId()), repository.findByCriteria(
+				ProductSearchCriteria.of(null, null, null, false, null, "kale", 10)).stream().map(Product::getId).toList());
+		assertEquals(List.of(inName.getId()), repository.findByCriteria(
+				ProductSearchCriteria.of(null, null, null, false, null, "kalem", 1)).stream().map(Product::getId).toList());
+		repository.close();
+	}
+
+	@Test
+	void namePrefixIgnoresCaseAndAccents() {
+		InMemoryProductRepository repository = new InMemoryProductRepository(new NoOpProductJournal(), 1_000);
+		repository.save(product("Çay Bardağı", Currency.TRY(), 10, 1));
+		repository.save(product("İnce Belli", Currency.TRY(), 10, 1));
+
+		assertEquals(1, repository.findByCriteria(
+				ProductSearchCriteria.of(null, null, null, false, "cay b", null, 10)).size());
+		assertEquals(1, repository.findByCriteria(
+				ProductSearchCriteria.of(null, null, null, false, "INCE", null, 10)).size());
+	}
+
+	@Test
+	void walksOnlyTheSmallestApplicableRange() {
+		ProductSearchIndex index = new ProductSearchIndex();
+		Map<UUID, Product> products = new HashMap<>();
+		for (int i = 0; i < 1_000; i++) {
+			Product product = product("Alpha " + i, Currency.USD(), 100 + i, 1);
+			products.put(product.getId().getValue(), product);
+		}
+		for (int i = 0; i < 3; i++) {
+			Product product = product("Alpha cheap " + i, Currency.USD(), 1, 1);
+			products.put(product.getId().getValue(), product);
+		}
+		products.values().forEach(index::index);
+
+		AtomicInteger loads = new AtomicInteger();
+		List<Product> found = index.search(ProductSearchCriteria.of(Currency.USD(), null, Price.of(1L), true, "a", null, 100),
+				id -> {
+					loads.incrementAndGet();
+					return products.get(id);
+				});
+
+		assertEquals(3, found.size());
+		assertEquals(3, loads.get());
+	}
+
+	@Test
+	void priceFilterRequiresCurrency() {
+		assertThrows(IllegalArgumentException.class,
+				() -> ProductSearchCriteria.of(null, Price.of(1L), null, false, null, null, 10));
+		assertThrows(IllegalArgumentException.class,
+				() -> ProductSearchCriteria.of(null, null, null, false, " ", " ", 10));
+	}
+
+	private static void assertQueriesMatchFullScan(ProductRepository repository) {
+		Random random = new Random(42);
+		List<Product> saved = new ArrayList<>();
+		for (int i = 0; i < 3_000; i++) {
+			saved.add(repository.save(product(NAMES[random.nextInt(NAMES.length)] + " " + random.nextInt(50),
+					CURRENCIES[random.nextInt(CURRENCIES.length)], random.nextInt(1_000), random.nextInt(3))));
+		}
+		for (int i = 0; i < 3_000; i++) {
+			Product product = saved.get(random.nextInt(saved.size()));
+			switch (random.nextInt(4)) {
+				case 0 -> repository.deleteById(product.getId());
+				case 1 -> repository.reserveStock(product.getId(), Stock.of(0));
+				case 2 -> repository.findById(product.getId()).ifPresent(current -> {
+					current.updateInfo(ProductName.of(NAMES[random.nextInt(NAMES.length)]), current.getDescription(),
+							Price.of((long) random.nextInt(1_000)), CURRENCIES[random.nextInt(CURRENCIES.length)]);
+					current.updateStock(Stock.of(random.nextInt(3)));
+					repository.save(current);
+				});
+				default -> repository.findById(product.getId())
+						.filter(Product::isAvailable)
+						.ifPresent(current -> repository.reserveStock(current.getId(), current.getStock()));
+			}
+		}
+
+		List<Product> all = repository.findAll();
+		for (int i = 0; i < 200; i++) {
+			Currency currency = random.nextBoolean() ? CURRENCIES[random.nextInt(CURRENCIES.length)] : null;
+			Price min = currency != null && random.nextBoolean() ? Price.of((long) random.nextInt(500)) : null;
+			Price max = currency != null && random.nextBoolean() ? Price.of(500L + random.nextInt(500)) : null;
+			String prefix = random.nextBoolean() ? NAMES[random.nextInt(NAMES.length)].substring(0, 2) : null;
+			boolean inStock = (currency == null && prefix == null) || random.nextBoolean();
+			ProductSearchCriteria criteria = ProductSearchCriteria.of(currency, min, max, inStock, prefix, null, 10_000);
+
+			Set<UUID> expected = all.stream().filter(criteria::matches)
+					.map(product -> product.getId().getValue()).collect(Collectors.toSet());
+			Set<UUID> actual = repository.findByCriteria(criteria).stream()
+					.map(product -> product.getId().getValue()).collect(Collectors.toSet());
+			assertEquals(expected, actual, criteria.toString());
+		}
+	}
+
+	private static Set<UUID> ids(List<Product> products) {
+		return products.stream().map(product -> product.getId().getValue()).collect(Collectors.toSet());
+	}
+
+	private static Product product(String name, Currency currency, long price, int stock) {
+		return Product.create(ProductName.of(name), Description.of("indexed"), Price.of(price), currency,
+				Stock.of(stock));
+	}
+}
@@ -0,0 +1,113 @@
+package com.turkcell.product_service.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.junit.jupiter.api.Test;
+
+import com.turkcell.product_service.domain.entity.Product;
+import com.turkcell.product_service.domain.exception.InsufficientStockException;
+import com.turkcell.product_service.domain.repository.ProductRepository;
+import com.turkcell.product_service.domain.valueobject.Currency;
+import com.turkcell.product_service.domain.valueobject.Description;
+import com.turkcell.product_service.domain.valueobject.Price;
+import com.turkcell.product_service.domain.valueobject.ProductName;
+import com.turkcell.product_service.domain.valueobject.ProductStatistics;
+import com.turkcell.product_service.domain.valueobject.Stock;
+import com.turkcell.product_service.infrastructure.journal.NoOpProductJournal;
+
+class ProductStatisticsConsistencyTest {
+
+	private static final int THREADS = 16;
+	private static final int OPERATIONS_PER_THREAD = 20_000;
+	private static final int PRODUCTS = 64;
+
+	@Test
+	void inMemoryCountersMatchFullRecountAfterConcurrentWrites() throws Exception {
+		InMemoryProductRepository repository = new InMemoryProductRepository(new NoOpProductJournal(), 1_000);
+		runMixedWorkload(repository);
+		assertEquals(recount(repository), repository.statistics());
+	}
+
+	@Test
+	void mappedCountersMatchFullRecountAfterConcurrentWritesAndReopen() throws Exception {
+		String directory = Files.createTempDirectory("product-store").toString();
+		MappedProductRepository repository = new MappedProductRepository(directory, 16, false, 1_000);
+		runMixedWorkload(repository);
+		ProductStatistics expected = recount(repository);
+		assertEquals(expected, repository.statistics());
+		repository.close();
+
+		MappedProductRepository reopened = new MappedProductRepository(directory, 16, false, 1_000);
+		assertEquals(expected, reopened.statistics());
+		reopened.close();
+	}
+
+	private static void runMixedWorkload(ProductRepository repository) throws Exception {
+		AtomicReferenceArray<Product> products = new AtomicReferenceArray<>(PRODUCTS);
+		for (int i = 0; i < PRODUCTS; i++) {
+			products.set(i, repository.save(newProduct(i % 3)));
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			futures.add(executor.submit(() -> {
+				ThreadLocalRandom random = ThreadLocalRandom.current();
+				for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+					int index = random.nextInt(PRODUCTS);
+					Product product = products.get(index);
+					switch (random.nextInt(6)) {
+						case 0 -> {
+							try {
+								repository.reserveStock(product.getId(), Stock.of(1));
+							} catch (InsufficientStockException e) {
+								// Hitting zero is the transition under test
+							}
+						}
+						case 1 -> repository.releaseStock(product.getId(), Stock.of(1));
+						case 2 -> repository.findById(product.getId()).ifPresent(current -> {
+							current.updateStock(Stock.of(random.nextInt(3)));
+							repository.save(current);
+						});
+						case 3 -> {
+							if (repository.deleteById(product.getId())) {
+								products.compareAndSet(index, product, repository.save(newProduct(random.nextInt(3))));
+							}
+						}
+						case 4 -> repository.save(product.copy());
+						default -> {
+							// Every intermediate snapshot must be internally consistent
+							ProductStatistics statistics = repository.statistics();
+							ProductStatistics.of(statistics.getTotalCount(), statistics.getAvailableCount());
+						}
+					}
+				}
+				return null;
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		executor.shutdown();
+	}
+
+	private static ProductStatistics recount(ProductRepository repository) {
+		List<Product> all = repository.findAll();
+		int available = (int) all.stream().filter(Product::isAvailable).count();
+		return ProductStatistics.of(all.size(), available);
+	}
+
+	private static Product newProduct(int stock) {
+		return Product.create(ProductName.of("Counted"), Description.of("statistics"), Price.of(5L), Currency.USD(),
+				Stock.of(stock));
+	}
+}
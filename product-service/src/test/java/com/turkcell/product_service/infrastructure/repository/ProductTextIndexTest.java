@@ -0,0 +1,142 @@
+package com.turkcell.product_service.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.turkcell.product_service.domain.entity.Product;
+import com.turkcell.product_service.domain.valueobject.Currency;
+import com.turkcell.product_service.domain.valueobject.Description;
+import com.turkcell.product_service.domain.valueobject.Price;
+import com.turkcell.product_service.domain.valueobject.ProductName;
+import com.turkcell.product_service.domain.valueobject.ProductSearchCriteria;
+import com.turkcell.product_service.domain.valueobject.Stock;
+
+class ProductTextIndexTest {
+
+	private static final String[] WORDS = { "çay", "cam", "bardak", "bardağı", "kahve", "fincan", "ince", "belli",
+			"porselen", "kupa", "demlik", "set", "6'lı", "altın", "yaldızlı" };
+
+	@Test
+	void matchesEveryTermWithLastAsPrefixAfterChurn() {
+		ProductTextIndex index = new ProductTextIndex();
+		Map<UUID, Product> products = new HashMap<>();
+		Random random = new Random(7);
+		List<UUID> ids = new ArrayList<>();
+		for (int i = 0; i < 2_000; i++) {
+			Product product = product(words(random, 1 + random.nextInt(3)), words(random, random.nextInt(8)));
+			products.put(product.getId().getValue(), product);
+			ids.add(product.getId().getValue());
+			index.index(product);
+		}
+		for (int i = 0; i < 2_000; i++) {
+			UUID id = ids.get(random.nextInt(ids.size()));
+			Product current = products.get(id);
+			if (current == null) {
+				continue;
+			}
+			if (random.nextInt(3) == 0) {
+				products.remove(id);
+				index.remove(id);
+			} else {
+				current.updateInfo(ProductName.of(words(random, 1 + random.nextInt(3))),
+						Description.of(words(random, random.nextInt(8))), current.getPrice(), current.getCurrency());
+				index.index(current);
+			}
+		}
+
+		for (int i = 0; i < 300; i++) {
+			String first = WORDS[random.nextInt(WORDS.length)];
+			String last = WORDS[random.nextInt(WORDS.length)];
+			String query = random.nextBoolean() ? first + " " + last.substring(0, 1 + random.nextInt(last.length()))
+					: last.substring(0, 1 + random.nextInt(last.length()));
+			ProductSearchCriteria criteria = ProductSearchCriteria.of(null, null, null, false, null, query, 10_000);
+
+			Set<UUID> expected = products.values().stream().filter(product -> naiveMatch(product, query))
+					.map(product -> product.getId().getValue()).collect(Collectors.toSet());
+			Set<UUID> actual = index.search(criteria, products::get).stream()
+					.map(product -> product.getId().getValue()).collect(Collectors.toSet());
+			assertEquals(expected, actual, query);
+		}
+	}
+
+	@Test
+	void ranksNameMatchesAndRareTermsFirst() {
+		ProductTextIndex index = new ProductTextIndex();
+		Map<UUID, Product> products = new HashMap<>();
+		Product inName = product("Porselen Kupa", "mutfak");
+		Product inDescription = product("Kupa", "porselen gövde");
+		products.put(inName.getId().getValue(), inName);
+		products.put(inDescription.getId().getValue(), inDescription);
+		for (int i = 0; i < 50; i++) {
+			Product filler = product("Cam Kupa " + i, "bardak");
+			products.put(filler.getId().getValue(), filler);
+		}
+		products.values().forEach(index::index);
+
+		List<Product> result = index.search(ProductSearchCriteria.of(null, null, null, false, null, "kupa porsel", 10),
+				products::get);
+
+		assertEquals(2, result.size());
+		assertEquals(inName.getId(), result.get(0).getId());
+		assertEquals(inDescription.getId(), result.get(1).getId());
+	}
+
+	@Test
+	void otherFiltersNarrowRankedResults() {
+		ProductTextIndex index = new ProductTextIndex();
+		Map<UUID, Product> products = new HashMap<>();
+		for (int i = 0; i < 200; i++) {
+			Product product = product("Demlik " + i, "çelik");
+			if (i % 2 == 0) {
+				product.updateStock(Stock.zero());
+			}
+			products.put(product.getId().getValue(), product);
+			index.index(product);
+		}
+
+		List<Product> result = index.search(ProductSearchCriteria.of(null, null, null, true, null, "demlik", 30),
+				products::get);
+
+		assertEquals(30, result.size());
+		assertTrue(result.stream().allMatch(Product::isAvailable));
+	}
+
+	private static boolean naiveMatch(Product product, String query) {
+		Set<String> tokens = ProductTextIndex.tokenize(product.getName().getValue() + " "
+				+ product.getDescription().getValue());
+		List<String> queryTokens = new ArrayList<>(ProductTextIndex.tokenize(query));
+		for (int i = 0; i < queryTokens.size(); i++) {
+			String queryToken = queryTokens.get(i);
+			boolean prefix = i == queryTokens.size() - 1;
+			boolean found = tokens.stream().anyMatch(token -> prefix ? token.startsWith(queryToken) : token.equals(queryToken));
+			if (!found) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static String words(Random random, int count) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			text.append(i == 0 ? "" : " ").append(WORDS[random.nextInt(WORDS.length)]);
+		}
+		return text.length() == 0 ? "-" : text.toString();
+	}
+
+	private static Product product(String name, String description) {
+		return Product.create(ProductName.of(name), Description.of(description), Price.of(10L), Currency.TRY(),
+				Stock.of(5));
+	}
+}
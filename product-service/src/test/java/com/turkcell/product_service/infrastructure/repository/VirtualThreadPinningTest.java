@@ -0,0 +1,142 @@
+package com.turkcell.product_service.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.turkcell.product_service.domain.entity.Product;
+import com.turkcell.product_service.domain.repository.ProductRepository;
+import com.turkcell.product_service.domain.valueobject.Currency;
+import com.turkcell.product_service.domain.valueobject.Description;
+import com.turkcell.product_service.domain.valueobject.Price;
+import com.turkcell.product_service.domain.valueobject.ProductName;
+import com.turkcell.product_service.domain.valueobject.Stock;
+import com.turkcell.product_service.infrastructure.journal.WriteAheadProductJournal;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Runs the store hot paths on virtual threads and fails when one of them
+ * blocks while pinned to its carrier, which a monitor held across a wait does
+ */
+class VirtualThreadPinningTest {
+
+	private static final int TASKS = 2_000;
+
+	@Test
+	void durableWritesDoNotPinCarrierThreads() throws Exception {
+		WriteAheadProductJournal journal = new WriteAheadProductJournal(
+				Files.createTempDirectory("product-journal").toString(), 3600);
+		InMemoryProductRepository repository = new InMemoryProductRepository(journal, 1_000);
+		assertNoPinning(() -> exercise(repository));
+		journal.close();
+	}
+
+	@Test
+	void mappedStoreDoesNotPinCarrierThreads() throws Exception {
+		MappedProductRepository repository = new MappedProductRepository(
+				Files.createTempDirectory("product-store").toString(), 16, false, 1_000);
+		assertNoPinning(() -> exercise(repository));
+		repository.close();
+	}
+
+	@Test
+	void readCacheLoadsDoNotPinCarrierThreads() throws Exception {
+		ProductReadCache cache = new ProductReadCache(1_000, Duration.ofSeconds(30));
+		List<Product> products = List.of(product(), product(), product());
+		assertNoPinning(() -> run(i -> {
+			Product product = products.get(i % products.size());
+			if (i % 10 == 0) {
+				cache.invalidate(product.getId().getValue());
+			}
+			cache.get(product.getId().getValue(), id -> {
+				// Stands in for the JDBC read of a miss
+				sleep();
+				return Optional.of(product);
+			});
+		}));
+	}
+
+	private static void exercise(ProductRepository repository) throws Exception {
+		List<Product> products = List.of(repository.save(product()), repository.save(product()));
+		run(i -> {
+			Product product = products.get(i % products.size());
+			switch (i % 3) {
+				case 0 -> repository.save(product());
+				case 1 -> repository.reserveStock(product.getId(), Stock.of(1));
+				default -> repository.findById(product.getId());
+			}
+		});
+	}
+
+	private static void run(Task task) throws Exception {
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<Future<?>> futures = new CopyOnWriteArrayList<>();
+			for (int i = 0; i < TASKS; i++) {
+				int index = i;
+				futures.add(executor.submit(() -> {
+					task.run(index);
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+	}
+
+	private static void assertNoPinning(Workload workload) throws Exception {
+		List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+		try (RecordingStream recording = new RecordingStream()) {
+			recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+			recording.onEvent("jdk.VirtualThreadPinned", pinned::add);
+			recording.startAsync();
+			workload.run();
+			recording.stop();
+		}
+		assertTrue(pinned.isEmpty(), () -> pinned.size() + " pinned waits, first at\n" + frames(pinned.get(0)));
+	}
+
+	private static String frames(RecordedEvent event) {
+		return event.getStackTrace() == null ? "(no stack trace)"
+				: event.getStackTrace().getFrames().stream()
+						.map(RecordedFrame::getMethod)
+						.map(method -> method.getType().getName() + "." + method.getName())
+						.collect(Collectors.joining("\n"));
+	}
+
+	private static void sleep() {
+		try {
+			Thread.sleep(1);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static Product product() {
+		return Product.create(ProductName.of("Pinned"), Description.of("virtual thread check"), Price.of(10L),
+				Currency.TRY(), Stock.of(1_000_000));
+	}
+
+	@FunctionalInterface
+	private interface Task {
+		void run(int index) throws Exception;
+	}
+
+	@FunctionalInterface
+	private interface Workload {
+		void run() throws Exception;
+	}
+}